@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Normal and texture coordinate computation over a corpus of random
+ * models, comparing the per vertex/face objects with the flat arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelDefinitionBenchmark
+{
+	private static final int MODEL_COUNT = 200;
+
+	private ModelDefinition[] models;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42L);
+		models = new ModelDefinition[MODEL_COUNT];
+		for (int i = 0; i < MODEL_COUNT; ++i)
+		{
+			int vertexCount = 50 + random.nextInt(1000);
+			models[i] = RandomModels.create(random, vertexCount, vertexCount * 2);
+		}
+	}
+
+	@Benchmark
+	public void computeNormals(Blackhole bh)
+	{
+		for (ModelDefinition model : models)
+		{
+			clear(model);
+			model.computeNormals();
+			bh.consume(model.vertexNormals);
+		}
+	}
+
+	@Benchmark
+	public void computeNormalArrays(Blackhole bh)
+	{
+		for (ModelDefinition model : models)
+		{
+			clear(model);
+			model.computeNormalArrays();
+			bh.consume(model.vertexNormalsX);
+		}
+	}
+
+	@Benchmark
+	public void computeTextureUVCoordinates(Blackhole bh)
+	{
+		for (ModelDefinition model : models)
+		{
+			model.computeTextureUVCoordinates();
+			bh.consume(model.faceTextureUCoordinates);
+		}
+	}
+
+	@Benchmark
+	public void computeTextureUVs(Blackhole bh)
+	{
+		for (ModelDefinition model : models)
+		{
+			model.computeTextureUVs();
+			bh.consume(model.faceTextureU);
+		}
+	}
+
+	private static void clear(ModelDefinition model)
+	{
+		model.vertexNormals = null;
+		model.faceNormals = null;
+		model.vertexNormalsX = model.vertexNormalsY = model.vertexNormalsZ = model.vertexNormalsMagnitude = null;
+		model.faceNormalsX = model.faceNormalsY = model.faceNormalsZ = null;
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.loaders;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.definitions.savers.ItemSaver;
+import net.runelite.cache.definitions.savers.ObjectSaver;
+import net.runelite.cache.io.OutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Definition decoding. Items and objects are encoded with their savers,
+ * models are generated in the older model format with a random mesh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefinitionLoaderBenchmark
+{
+	private static final int DEFINITION_COUNT = 1000;
+	private static final int MODEL_VERTICES = 500;
+	private static final int MODEL_FACES = 900;
+
+	private byte[][] items;
+	private byte[][] objects;
+	private byte[] model;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42L);
+
+		ItemSaver itemSaver = new ItemSaver();
+		items = new byte[DEFINITION_COUNT][];
+		for (int i = 0; i < DEFINITION_COUNT; ++i)
+		{
+			ItemDefinition item = new ItemDefinition(i);
+			item.name = "Item " + i;
+			item.inventoryModel = random.nextInt(30000);
+			item.cost = random.nextInt(100000);
+			item.members = random.nextBoolean();
+			item.colorFind = new short[]
+			{
+				(short) random.nextInt(), (short) random.nextInt()
+			};
+			item.colorReplace = new short[]
+			{
+				(short) random.nextInt(), (short) random.nextInt()
+			};
+			items[i] = itemSaver.save(item);
+		}
+
+		ObjectSaver objectSaver = new ObjectSaver();
+		objects = new byte[DEFINITION_COUNT][];
+		for (int i = 0; i < DEFINITION_COUNT; ++i)
+		{
+			ObjectDefinition object = new ObjectDefinition();
+			object.setId(i);
+			object.setName("Object " + i);
+			object.setObjectModels(new int[]
+			{
+				random.nextInt(30000)
+			});
+			object.setSizeX(1 + random.nextInt(3));
+			object.setSizeY(1 + random.nextInt(3));
+			object.getActions()[0] = "Open";
+			objects[i] = objectSaver.save(object);
+		}
+
+		model = createModel(random, MODEL_VERTICES, MODEL_FACES);
+	}
+
+	@Benchmark
+	public void loadItems(Blackhole bh)
+	{
+		ItemLoader loader = new ItemLoader();
+		for (int i = 0; i < items.length; ++i)
+		{
+			bh.consume(loader.load(i, items[i]));
+		}
+	}
+
+	@Benchmark
+	public void loadObjects(Blackhole bh)
+	{
+		ObjectLoader loader = new ObjectLoader();
+		for (int i = 0; i < objects.length; ++i)
+		{
+			bh.consume(loader.load(i, objects[i]));
+		}
+	}
+
+	@Benchmark
+	public ModelDefinition loadModel()
+	{
+		return new ModelLoader().load(0, model);
+	}
+
+	/**
+	 * Encode a random untextured model in the format read by ModelLoader.load2
+	 */
+	static byte[] createModel(Random random, int vertexCount, int faceCount)
+	{
+		OutputStream vertexFlags = new OutputStream();
+		OutputStream vertexX = new OutputStream();
+		OutputStream vertexY = new OutputStream();
+		OutputStream vertexZ = new OutputStream();
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			vertexFlags.writeByte(7);
+			writeSignedShortSmart(vertexX, random.nextInt(129) - 64);
+			writeSignedShortSmart(vertexY, random.nextInt(129) - 64);
+			writeSignedShortSmart(vertexZ, random.nextInt(129) - 64);
+		}
+
+		OutputStream faceTypes = new OutputStream();
+		OutputStream faceIndices = new OutputStream();
+		OutputStream faceColors = new OutputStream();
+		int last = 0;
+		for (int i = 0; i < faceCount; ++i)
+		{
+			int a = random.nextInt(vertexCount);
+			int b = random.nextInt(vertexCount);
+			int c = random.nextInt(vertexCount);
+
+			// type 1 faces store all three vertices, delta encoded
+			faceTypes.writeByte(1);
+			writeSignedShortSmart(faceIndices, a - last);
+			writeSignedShortSmart(faceIndices, b - a);
+			writeSignedShortSmart(faceIndices, c - b);
+			last = c;
+
+			faceColors.writeShort(random.nextInt(0x10000));
+		}
+
+		byte[] vx = vertexX.flip(), vy = vertexY.flip(), vz = vertexZ.flip(), fi = faceIndices.flip();
+
+		OutputStream out = new OutputStream();
+		out.writeBytes(vertexFlags.flip());
+		out.writeBytes(faceTypes.flip());
+		out.writeBytes(fi);
+		out.writeBytes(faceColors.flip());
+		out.writeBytes(vx);
+		out.writeBytes(vy);
+		out.writeBytes(vz);
+
+		out.writeShort(vertexCount);
+		out.writeShort(faceCount);
+		out.writeByte(0); // texture triangles
+		out.writeByte(0); // face render types
+		out.writeByte(0); // priority
+		out.writeByte(0); // face alphas
+		out.writeByte(0); // face skins
+		out.writeByte(0); // vertex skins
+		out.writeShort(vx.length);
+		out.writeShort(vy.length);
+		out.writeShort(vz.length);
+		out.writeShort(fi.length);
+		return out.flip();
+	}
+
+	private static void writeSignedShortSmart(OutputStream out, int value)
+	{
+		if (value >= -64 && value < 64)
+		{
+			out.writeByte(value + 64);
+		}
+		else
+		{
+			out.writeShort(value + 0xC000);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.util.Djb2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Archive lookups on an index shaped like the maps index. The linearScan
+ * benchmarks are the lookups as they were done before Index kept id and
+ * name hash tables, and serve as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark
+{
+	@Param({"1000", "40000"})
+	public int archiveCount;
+
+	private Index index;
+	private int[] nameHashes;
+
+	@Setup
+	public void setup()
+	{
+		index = new Index(5);
+		nameHashes = new int[archiveCount];
+
+		for (int i = 0; i < archiveCount; ++i)
+		{
+			int x = i >> 8, y = i & 0xFF;
+			Archive archive = index.addArchive(i);
+			archive.setNameHash(Djb2.hash((i % 2 == 0 ? "m" : "l") + x + "_" + y));
+			nameHashes[i] = archive.getNameHash();
+		}
+
+		// build the name table outside of the measurement
+		index.findArchiveByNameHash(0);
+	}
+
+	@Benchmark
+	public void getArchive(Blackhole bh)
+	{
+		for (int i = 0; i < archiveCount; ++i)
+		{
+			bh.consume(index.getArchive(i));
+		}
+	}
+
+	@Benchmark
+	public void getArchiveLinearScan(Blackhole bh)
+	{
+		List<Archive> archives = index.getArchives();
+		for (int i = 0; i < archiveCount; ++i)
+		{
+			bh.consume(linearScanId(archives, i));
+		}
+	}
+
+	@Benchmark
+	public void findArchiveByNameHash(Blackhole bh)
+	{
+		for (int hash : nameHashes)
+		{
+			bh.consume(index.findArchiveByNameHash(hash));
+		}
+	}
+
+	@Benchmark
+	public void findArchiveByNameHashLinearScan(Blackhole bh)
+	{
+		List<Archive> archives = index.getArchives();
+		for (int hash : nameHashes)
+		{
+			bh.consume(linearScanName(archives, hash));
+		}
+	}
+
+	private static Archive linearScanId(List<Archive> archives, int id)
+	{
+		for (Archive a : archives)
+		{
+			if (a.getArchiveId() == id)
+			{
+				return a;
+			}
+		}
+		return null;
+	}
+
+	private static Archive linearScanName(List<Archive> archives, int hash)
+	{
+		for (Archive a : archives)
+		{
+			if (a.getNameHash() == hash)
+			{
+				return a;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.index;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding and encoding of reference tables, shaped like the maps index
+ * (many single file archives) or the configs index (few archives with
+ * many files each).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexDataBenchmark
+{
+	@Param({"40000:1", "20:2000"}) // archives:files per archive
+	public String shape;
+
+	private IndexData indexData;
+	private byte[] encoded;
+
+	@Setup
+	public void setup()
+	{
+		String[] split = shape.split(":");
+		int archiveCount = Integer.parseInt(split[0]);
+		int fileCount = Integer.parseInt(split[1]);
+		Random random = new Random(42L);
+
+		ArchiveData[] archives = new ArchiveData[archiveCount];
+		for (int i = 0; i < archiveCount; ++i)
+		{
+			ArchiveData ad = archives[i] = new ArchiveData();
+			ad.setId(i);
+			ad.setNameHash(random.nextInt());
+			ad.setCrc(random.nextInt());
+			ad.setRevision(random.nextInt(1000));
+
+			FileData[] files = new FileData[fileCount];
+			for (int j = 0; j < fileCount; ++j)
+			{
+				FileData fd = files[j] = new FileData();
+				fd.setId(j);
+				fd.setNameHash(random.nextInt());
+			}
+			ad.setFiles(files);
+		}
+
+		indexData = new IndexData();
+		indexData.setProtocol(7);
+		indexData.setRevision(1);
+		indexData.setNamed(true);
+		indexData.setArchives(archives);
+		encoded = indexData.writeIndexData();
+	}
+
+	@Benchmark
+	public IndexData load()
+	{
+		IndexData id = new IndexData();
+		id.load(encoded);
+		return id;
+	}
+
+	@Benchmark
+	public byte[] writeIndexData()
+	{
+		return indexData.writeIndexData();
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.io;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Decoding of the variable length integer encodings used throughout the
+ * definition and model formats. Each benchmark decodes the full buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputStreamBenchmark
+{
+	private static final int COUNT = 4096;
+
+	private byte[] shortSmarts;
+	private byte[] unsignedShortSmarts;
+	private byte[] bigSmarts;
+	private byte[] intSmarts;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42L);
+
+		OutputStream out = new OutputStream();
+		for (int i = 0; i < COUNT; ++i)
+		{
+			// mostly one byte values, as with vertex deltas
+			writeSignedShortSmart(out, random.nextInt(4) == 0 ? random.nextInt(32000) - 16000 : random.nextInt(128) - 64);
+		}
+		shortSmarts = out.flip();
+
+		out = new OutputStream();
+		for (int i = 0; i < COUNT; ++i)
+		{
+			out.writeShortSmart(random.nextInt(4) == 0 ? random.nextInt(32767) : random.nextInt(128));
+		}
+		unsignedShortSmarts = out.flip();
+
+		out = new OutputStream();
+		for (int i = 0; i < COUNT; ++i)
+		{
+			out.writeBigSmart(random.nextInt(4) == 0 ? random.nextInt(1 << 20) : random.nextInt(32767));
+		}
+		bigSmarts = out.flip();
+
+		out = new OutputStream();
+		for (int i = 0; i < COUNT; ++i)
+		{
+			int value = random.nextInt(4) == 0 ? random.nextInt(100000) : random.nextInt(128);
+			for (; value >= 32767; value -= 32767)
+			{
+				out.writeShortSmart(32767);
+			}
+			out.writeShortSmart(value);
+		}
+		intSmarts = out.flip();
+	}
+
+	/**
+	 * Inverse of {@link InputStream#readShortSmart()}, which OutputStream
+	 * has no writer for
+	 */
+	private static void writeSignedShortSmart(OutputStream out, int value)
+	{
+		if (value >= -64 && value < 64)
+		{
+			out.writeByte(value + 64);
+		}
+		else
+		{
+			out.writeShort(value + 0xC000);
+		}
+	}
+
+	@Benchmark
+	public void readShortSmart(Blackhole bh)
+	{
+		InputStream in = new InputStream(shortSmarts);
+		for (int i = 0; i < COUNT; ++i)
+		{
+			bh.consume(in.readShortSmart());
+		}
+	}
+
+	@Benchmark
+	public void readUnsignedShortSmart(Blackhole bh)
+	{
+		InputStream in = new InputStream(unsignedShortSmarts);
+		for (int i = 0; i < COUNT; ++i)
+		{
+			bh.consume(in.readUnsignedShortSmart());
+		}
+	}
+
+	@Benchmark
+	public void readBigSmart(Blackhole bh)
+	{
+		InputStream in = new InputStream(bigSmarts);
+		for (int i = 0; i < COUNT; ++i)
+		{
+			bh.consume(in.readBigSmart());
+		}
+	}
+
+	@Benchmark
+	public void readUnsignedIntSmartShortCompat(Blackhole bh)
+	{
+		InputStream in = new InputStream(intSmarts);
+		for (int i = 0; i < COUNT; ++i)
+		{
+			bh.consume(in.readUnsignedIntSmartShortCompat());
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import net.runelite.cache.client.CacheClient;
+import net.runelite.cache.client.CacheDownloader;
+import net.runelite.cache.client.DownloadStats;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full downloads of a store from a local {@link CacheServer}, over one or
+ * more concurrent {@link CacheClient} connections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheServerBenchmark
+{
+	private static final int REVISION = 1;
+	private static final int INDEXES = 4;
+	private static final int ARCHIVES = 2000;
+
+	@Param({"1", "4", "8"})
+	public int connections;
+
+	private Path folder;
+	private Store store;
+	private CacheServer server;
+	private int port;
+
+	private Store target;
+	private final List<CacheClient> clients = new ArrayList<>();
+
+	@Setup
+	public void setup() throws IOException
+	{
+		folder = Files.createTempDirectory("cache-server-benchmark");
+		File source = new File(folder.toFile(), "source");
+		source.mkdir();
+
+		Random random = new Random(42L);
+		try (Store store = new Store(source))
+		{
+			for (int i = 0; i < INDEXES; ++i)
+			{
+				Index index = store.addIndex(i);
+				for (int a = 0; a < ARCHIVES; ++a)
+				{
+					byte[] contents = new byte[random.nextInt(16384)];
+					random.nextBytes(contents);
+
+					Container container = new Container(CompressionType.NONE, -1);
+					container.compress(contents, null);
+
+					Archive archive = index.addArchive(a);
+					archive.setFileData(new FileData[]{new FileData()});
+					store.getStorage().saveArchive(archive, container.data);
+				}
+			}
+			store.save();
+		}
+
+		store = new Store(new DiskStorage(source, true));
+		store.load();
+
+		server = new CacheServer(store, REVISION);
+		port = server.start(0);
+	}
+
+	@TearDown
+	public void teardown() throws IOException
+	{
+		server.close();
+		store.close();
+
+		try (Stream<Path> paths = Files.walk(folder))
+		{
+			paths.sorted(Comparator.reverseOrder())
+				.map(Path::toFile)
+				.forEach(File::delete);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void connect() throws IOException
+	{
+		target = new Store(Files.createTempDirectory(folder, "target").toFile());
+
+		for (int i = 0; i < connections; ++i)
+		{
+			CacheClient client = new CacheClient(target, "localhost", port, REVISION);
+			client.connect();
+			client.handshake().join();
+			clients.add(client);
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void disconnect() throws IOException
+	{
+		for (CacheClient client : clients)
+		{
+			client.close();
+		}
+		clients.clear();
+		target.close();
+	}
+
+	@Benchmark
+	public DownloadStats download() throws IOException
+	{
+		// archives are discarded so only the transfer is measured
+		return new CacheDownloader(target, clients, (archive, data) ->
+		{
+		}).download();
+	}
+}
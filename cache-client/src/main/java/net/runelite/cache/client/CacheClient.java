@@ -24,7 +24,6 @@
  */
 package net.runelite.cache.client;
 
-import com.google.common.base.Stopwatch;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -38,23 +37,19 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import java.io.IOException;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Queue;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import net.runelite.cache.fs.Archive;
-import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import net.runelite.cache.fs.Store;
-import net.runelite.cache.index.ArchiveData;
-import net.runelite.cache.index.IndexData;
 import net.runelite.protocol.update.decoders.HandshakeResponseDecoder;
 import net.runelite.protocol.update.encoders.ArchiveRequestEncoder;
 import net.runelite.protocol.update.encoders.EncryptionEncoder;
 import net.runelite.protocol.api.update.ArchiveRequestPacket;
 import net.runelite.protocol.api.login.HandshakeResponseType;
-import net.runelite.cache.util.Crc32;
 import net.runelite.protocol.api.handshake.UpdateHandshakePacket;
 import net.runelite.protocol.handshake.UpdateHandshakeEncoder;
 import org.slf4j.Logger;
@@ -71,16 +66,22 @@ public class CacheClient implements AutoCloseable
 
 	private final Store store; // store cache will be written to
 	private final String host;
+	private final int port;
 	private final int clientRevision;
 	private DownloadWatcher watcher;
 
-	private ClientState state;
+	private volatile ClientState state;
 
 	private final EventLoopGroup group = new NioEventLoopGroup(1);
 	private Channel channel;
 
 	private CompletableFuture<HandshakeResponseType> handshakeFuture;
-	private final Queue<PendingFileRequest> requests = new ArrayDeque<>();
+
+	/**
+	 * Requests which have been sent and not yet answered, keyed by index and archive id
+	 */
+	private final Map<Integer, PendingFileRequest> requests = new ConcurrentHashMap<>();
+	private final Semaphore window = new Semaphore(MAX_REQUESTS);
 
 	public CacheClient(Store store, int clientRevision)
 	{
@@ -88,9 +89,15 @@ public class CacheClient implements AutoCloseable
 	}
 
 	public CacheClient(Store store, String host, int clientRevision)
+	{
+		this(store, host, PORT, clientRevision);
+	}
+
+	public CacheClient(Store store, String host, int port, int clientRevision)
 	{
 		this.store = store;
 		this.host = host;
+		this.port = port;
 		this.clientRevision = clientRevision;
 	}
 
@@ -131,8 +138,9 @@ public class CacheClient implements AutoCloseable
 			});
 
 		// Start the client.
-		ChannelFuture f = b.connect(host, PORT).syncUninterruptibly();
+		ChannelFuture f = b.connect(host, port).syncUninterruptibly();
 		channel = f.channel();
+		channel.closeFuture().addListener(future -> failRequests());
 	}
 
 	public CompletableFuture<HandshakeResponseType> handshake()
@@ -202,201 +210,58 @@ public class CacheClient implements AutoCloseable
 
 	public void download() throws IOException
 	{
-		Stopwatch stopwatch = Stopwatch.createStarted();
+		new CacheDownloader(store, Collections.singletonList(this), watcher).download();
+	}
 
-		List<IndexInfo> indexes = requestIndexes();
-		for (IndexInfo indexInfo : indexes)
+	/**
+	 * Request an archive. Requests are written without being flushed until the request window is
+	 * full, or {@code flush} is set, so the window is kept full without a flush per request. If the
+	 * window is full this blocks until a response arrives, so this must not be called from the
+	 * channel's event loop.
+	 *
+	 * @param index index id, or 255 for the index data
+	 * @param fileId archive id
+	 * @param flush whether to flush the request immediately
+	 * @return future completed with the response
+	 */
+	CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
+	{
+		if (state != ClientState.CONNECTED)
 		{
-			int i = indexInfo.getId();
-			int crc = indexInfo.getCrc();
-			int revision = indexInfo.getRevision();
-
-			Index index = store.findIndex(i);
-
-			if (index == null)
-			{
-				logger.info("Index {} does not exist, creating", i);
-			}
-			else if (index.getRevision() != revision)
-			{
-				if (revision < index.getRevision())
-				{
-					logger.warn("Index {} revision is going BACKWARDS! (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
-				}
-				else
-				{
-					logger.info("Index {} has the wrong revision (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
-				}
-			}
-			else if (index.getCrc() != crc)
-			{
-				logger.warn("Index {} CRC has changed! (our crc {}, their crc {})",
-					index.getCrc(), index.getCrc(), crc);
-			}
-			else
-			{
-				// despite the index being up to date, not everything
-				// can be downloaded, eg. for tracks.
-				logger.info("Index {} is up to date", index.getId());
-			}
-
-			logger.info("Downloading index {}", i);
-
-			FileResult indexFileResult = requestFile(255, i, true).join();
-			indexFileResult.decompress(null);
-
-			logger.info("Downloaded index {}", i);
-
-			if (indexFileResult.getCrc() != crc)
-			{
-				logger.warn("Corrupted download for index {}", i);
-				continue;
-			}
-
-			IndexData indexData = new IndexData();
-			indexData.load(indexFileResult.getContents());
-
-			if (index == null)
-			{
-				index = store.addIndex(i);
-			}
-
-			// update index settings
-			index.setProtocol(indexData.getProtocol());
-			index.setNamed(indexData.isNamed());
-			index.setCrc(crc);
-			index.setRevision(revision);
-
-			logger.info("Index {} has {} archives", i, indexData.getArchives().length);
-
-			for (ArchiveData ad : indexData.getArchives())
-			{
-				Archive existing = index.getArchive(ad.getId());
-
-				if (existing != null && existing.getRevision() == ad.getRevision()
-					&& existing.getCrc() == ad.getCrc()
-					&& existing.getNameHash() == ad.getNameHash())
-				{
-					logger.debug("Archive {}/{} in index {} is up to date",
-						ad.getId(), indexData.getArchives().length, index.getId());
-					continue;
-				}
-
-				if (existing == null)
-				{
-					logger.info("Archive {}/{} in index {} is out of date, downloading",
-						ad.getId(), indexData.getArchives().length, index.getId());
-				}
-				else if (ad.getRevision() < existing.getRevision())
-				{
-					logger.warn("Archive {}/{} in index {} revision is going BACKWARDS! (our revision {}, their revision {})",
-						ad.getId(), indexData.getArchives().length, index.getId(),
-						existing.getRevision(), ad.getRevision());
-				}
-				else
-				{
-					logger.info("Archive {}/{} in index {} is out of date, downloading. " +
-						"revision: ours: {} theirs: {}, crc: ours: {} theirs {}, name: ours {} theirs {}",
-						ad.getId(), indexData.getArchives().length, index.getId(),
-						existing.getRevision(), ad.getRevision(),
-						existing.getCrc(), ad.getCrc(),
-						existing.getNameHash(), ad.getNameHash());
-				}
-
-				final Archive archive = existing == null
-					? index.addArchive(ad.getId())
-					: existing;
-
-				archive.setRevision(ad.getRevision());
-				archive.setCrc(ad.getCrc());
-				archive.setNameHash(ad.getNameHash());
-
-				// Add files
-				archive.setFileData(ad.getFiles());
-
-				CompletableFuture<FileResult> future = requestFile(index.getId(), ad.getId(), false);
-				future.handle((fr, ex) ->
-				{
-					byte[] data = fr.getCompressedData();
-
-					Crc32 crc32 = new Crc32();
-					crc32.update(data, 0, data.length);
-					int hash = crc32.getHash();
-
-					if (hash != archive.getCrc())
-					{
-						logger.warn("crc mismatch on downloaded archive {}/{}: {} != {}",
-							archive.getIndex().getId(), archive.getArchiveId(),
-							hash, archive.getCrc());
-						throw new RuntimeException("crc mismatch");
-					}
-
-					if (watcher != null)
-					{
-						watcher.downloadComplete(archive, data);
-					}
-					else
-					{
-						try
-						{
-							Storage storage = store.getStorage();
-							storage.saveArchive(archive, data);
-						}
-						catch (IOException ex1)
-						{
-							logger.warn("unable to save archive data", ex1);
-						}
-					}
-					return null;
-				});
-			}
+			throw new IllegalStateException("Can't request files until connected!");
 		}
 
-		// flush any pending requests
-		channel.flush();
-
-		while (!requests.isEmpty())
+		if (channel.eventLoop().inEventLoop())
 		{
-			// wait for pending requests
-			synchronized (this)
-			{
-				try
-				{
-					wait();
-				}
-				catch (InterruptedException ex)
-				{
-					logger.warn(null, ex);
-				}
-			}
+			// waiting on the window would block the responses which free it
+			throw new IllegalStateException("Can't request files from the event loop");
 		}
 
-		stopwatch.stop();
-		logger.info("Download completed in {}", stopwatch);
-	}
+		final int key = key(index, fileId);
+		PendingFileRequest existing = requests.get(key);
 
-	private synchronized CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
-	{
-		if (state != ClientState.CONNECTED)
+		if (existing != null)
 		{
-			throw new IllegalStateException("Can't request files until connected!");
+			// already in flight, the response will complete this one too
+			return joinRequest(existing, flush);
 		}
 
-		if (!flush)
+		if (!window.tryAcquire())
 		{
-			while (requests.size() >= MAX_REQUESTS)
-			{
-				channel.flush();
+			channel.flush();
+			window.acquireUninterruptibly();
+		}
 
-				try
-				{
-					wait();
-				}
-				catch (InterruptedException ex)
-				{
-					logger.warn("interrupted while waiting for requests", ex);
-				}
-			}
+		CompletableFuture<FileResult> future = new CompletableFuture<>();
+		PendingFileRequest pf = new PendingFileRequest(index,
+			fileId, future);
+
+		existing = requests.putIfAbsent(key, pf);
+		if (existing != null)
+		{
+			// another caller sent the request while we waited on the window
+			window.release();
+			return joinRequest(existing, flush);
 		}
 
 		ArchiveRequestPacket archiveRequest = new ArchiveRequestPacket();
@@ -404,13 +269,18 @@ public class CacheClient implements AutoCloseable
 		archiveRequest.setIndex(index);
 		archiveRequest.setArchive(fileId);
 
-		CompletableFuture<FileResult> future = new CompletableFuture<>();
-		PendingFileRequest pf = new PendingFileRequest(index,
-			fileId, future);
-
 		logger.trace("Sending request for {}/{}", index, fileId);
 
-		requests.add(pf);
+		if (!channel.isActive())
+		{
+			// the close listener may have already failed the pending requests
+			if (requests.remove(key, pf))
+			{
+				window.release();
+				future.completeExceptionally(new IOException("Connection closed"));
+			}
+			return future;
+		}
 
 		if (!flush)
 		{
@@ -424,21 +294,34 @@ public class CacheClient implements AutoCloseable
 		return future;
 	}
 
-	private PendingFileRequest findRequest(int index, int file)
+	private CompletableFuture<FileResult> joinRequest(PendingFileRequest request, boolean flush)
 	{
-		for (PendingFileRequest pr : requests)
+		if (flush)
 		{
-			if (pr.getIndex() == index && pr.getArchive() == file)
-			{
-				return pr;
-			}
+			channel.flush();
 		}
-		return null;
+		return request.getFuture();
+	}
+
+	/**
+	 * Flush requests which have been written but not yet sent
+	 */
+	void flush()
+	{
+		channel.flush();
+	}
+
+	/**
+	 * @return the number of requests waiting on a response
+	 */
+	public int getPendingRequests()
+	{
+		return requests.size();
 	}
 
-	protected synchronized void onFileFinish(int index, int file, byte[] compressedData)
+	protected void onFileFinish(int index, int file, byte[] compressedData)
 	{
-		PendingFileRequest pr = findRequest(index, file);
+		PendingFileRequest pr = requests.remove(key(index, file));
 
 		if (pr == null)
 		{
@@ -446,9 +329,7 @@ public class CacheClient implements AutoCloseable
 			return;
 		}
 
-		requests.remove(pr);
-
-		notify();
+		window.release();
 
 		FileResult result = new FileResult(index, file, compressedData);
 
@@ -456,4 +337,21 @@ public class CacheClient implements AutoCloseable
 
 		pr.getFuture().complete(result);
 	}
+
+	private void failRequests()
+	{
+		for (PendingFileRequest pr : requests.values())
+		{
+			if (requests.remove(key(pr.getIndex(), pr.getArchive()), pr))
+			{
+				window.release();
+				pr.getFuture().completeExceptionally(new IOException("Connection closed"));
+			}
+		}
+	}
+
+	private static int key(int index, int archive)
+	{
+		return index << 16 | archive;
+	}
 }
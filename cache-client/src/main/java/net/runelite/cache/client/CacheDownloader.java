@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.ArchiveData;
+import net.runelite.cache.index.IndexData;
+import net.runelite.cache.util.Crc32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Downloads the out of date indexes and archives of a {@link Store} over
+ * one or more connected {@link CacheClient}s.
+ * <p>
+ * Every request is sent to the client with the fewest requests in flight,
+ * and all of the index data is requested up front, so the request window
+ * of each connection stays full for the whole download.
+ */
+public class CacheDownloader
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheDownloader.class);
+
+	private final Store store;
+	private final List<CacheClient> clients;
+	private final DownloadWatcher watcher;
+	private final DownloadStats stats = new DownloadStats();
+
+	private int nextClient;
+
+	/**
+	 * @param store store to download into
+	 * @param clients connected clients, which have completed their handshake
+	 * @param watcher watcher to pass downloaded archives to instead of saving
+	 * them to the store's storage, or null
+	 */
+	public CacheDownloader(Store store, List<CacheClient> clients, DownloadWatcher watcher)
+	{
+		if (clients.isEmpty())
+		{
+			throw new IllegalArgumentException("at least one client is required");
+		}
+
+		this.store = store;
+		this.clients = clients;
+		this.watcher = watcher;
+	}
+
+	public DownloadStats getStats()
+	{
+		return stats;
+	}
+
+	public DownloadStats download() throws IOException
+	{
+		stats.start();
+
+		List<IndexInfo> indexes = clients.get(0).requestIndexes();
+
+		List<CompletableFuture<FileResult>> indexRequests = new ArrayList<>(indexes.size());
+		for (IndexInfo indexInfo : indexes)
+		{
+			indexRequests.add(request(255, indexInfo.getId()));
+		}
+		flush();
+
+		List<CompletableFuture<Void>> archiveRequests = new ArrayList<>();
+
+		for (int idx = 0; idx < indexes.size(); ++idx)
+		{
+			IndexInfo indexInfo = indexes.get(idx);
+			int i = indexInfo.getId();
+			int crc = indexInfo.getCrc();
+			int revision = indexInfo.getRevision();
+
+			Index index = store.findIndex(i);
+
+			if (index == null)
+			{
+				logger.info("Index {} does not exist, creating", i);
+			}
+			else if (index.getRevision() != revision)
+			{
+				if (revision < index.getRevision())
+				{
+					logger.warn("Index {} revision is going BACKWARDS! (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
+				}
+				else
+				{
+					logger.info("Index {} has the wrong revision (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
+				}
+			}
+			else if (index.getCrc() != crc)
+			{
+				logger.warn("Index {} CRC has changed! (our crc {}, their crc {})",
+					index.getCrc(), index.getCrc(), crc);
+			}
+			else
+			{
+				// despite the index being up to date, not everything
+				// can be downloaded, eg. for tracks.
+				logger.info("Index {} is up to date", index.getId());
+			}
+
+			FileResult indexFileResult = join(indexRequests.get(idx));
+			indexFileResult.decompress(null);
+			stats.downloaded(indexFileResult.getCompressedData().length);
+
+			logger.info("Downloaded index {}", i);
+
+			if (indexFileResult.getCrc() != crc)
+			{
+				logger.warn("Corrupted download for index {}", i);
+				stats.failed();
+				continue;
+			}
+
+			IndexData indexData = new IndexData();
+			indexData.load(indexFileResult.getContents());
+
+			if (index == null)
+			{
+				index = store.addIndex(i);
+			}
+
+			// update index settings
+			index.setProtocol(indexData.getProtocol());
+			index.setNamed(indexData.isNamed());
+			index.setCrc(crc);
+			index.setRevision(revision);
+
+			logger.info("Index {} has {} archives", i, indexData.getArchives().length);
+
+			for (ArchiveData ad : indexData.getArchives())
+			{
+				Archive existing = index.getArchive(ad.getId());
+
+				if (existing != null && existing.getRevision() == ad.getRevision()
+					&& existing.getCrc() == ad.getCrc()
+					&& existing.getNameHash() == ad.getNameHash())
+				{
+					logger.debug("Archive {}/{} in index {} is up to date",
+						ad.getId(), indexData.getArchives().length, index.getId());
+					continue;
+				}
+
+				if (existing == null)
+				{
+					logger.info("Archive {}/{} in index {} is out of date, downloading",
+						ad.getId(), indexData.getArchives().length, index.getId());
+				}
+				else if (ad.getRevision() < existing.getRevision())
+				{
+					logger.warn("Archive {}/{} in index {} revision is going BACKWARDS! (our revision {}, their revision {})",
+						ad.getId(), indexData.getArchives().length, index.getId(),
+						existing.getRevision(), ad.getRevision());
+				}
+				else
+				{
+					logger.info("Archive {}/{} in index {} is out of date, downloading. " +
+						"revision: ours: {} theirs: {}, crc: ours: {} theirs {}, name: ours {} theirs {}",
+						ad.getId(), indexData.getArchives().length, index.getId(),
+						existing.getRevision(), ad.getRevision(),
+						existing.getCrc(), ad.getCrc(),
+						existing.getNameHash(), ad.getNameHash());
+				}
+
+				final Archive archive = existing == null
+					? index.addArchive(ad.getId())
+					: existing;
+
+				archive.setRevision(ad.getRevision());
+				archive.setCrc(ad.getCrc());
+				archive.setNameHash(ad.getNameHash());
+
+				// Add files
+				archive.setFileData(ad.getFiles());
+
+				archiveRequests.add(request(index.getId(), ad.getId())
+					.thenAccept(fr -> onArchiveDownloaded(archive, fr.getCompressedData())));
+			}
+		}
+
+		// flush any pending requests
+		flush();
+
+		for (CompletableFuture<Void> future : archiveRequests)
+		{
+			try
+			{
+				future.join();
+			}
+			catch (CompletionException ex)
+			{
+				logger.warn("archive download failed", ex.getCause());
+			}
+		}
+
+		stats.stop();
+		logger.info("Download completed: {}", stats);
+		return stats;
+	}
+
+	private CompletableFuture<FileResult> request(int index, int archive)
+	{
+		stats.requested();
+		return nextClient().requestFile(index, archive, false);
+	}
+
+	/**
+	 * Pick the client with the fewest requests in flight, rotating between
+	 * clients which are tied so idle connections all get used.
+	 */
+	private CacheClient nextClient()
+	{
+		CacheClient best = null;
+		int bestPending = Integer.MAX_VALUE;
+
+		for (int i = 0; i < clients.size(); ++i)
+		{
+			CacheClient client = clients.get((nextClient + i) % clients.size());
+			int pending = client.getPendingRequests();
+
+			if (pending < bestPending)
+			{
+				best = client;
+				bestPending = pending;
+			}
+		}
+
+		nextClient = (nextClient + 1) % clients.size();
+		return best;
+	}
+
+	private void flush()
+	{
+		for (CacheClient client : clients)
+		{
+			client.flush();
+		}
+	}
+
+	/**
+	 * Called from the event loops of the clients, so saving is serialized
+	 * for storages which are not safe to write to concurrently.
+	 */
+	private void onArchiveDownloaded(Archive archive, byte[] data)
+	{
+		Crc32 crc32 = new Crc32();
+		crc32.update(data, 0, data.length);
+		int hash = crc32.getHash();
+
+		if (hash != archive.getCrc())
+		{
+			logger.warn("crc mismatch on downloaded archive {}/{}: {} != {}",
+				archive.getIndex().getId(), archive.getArchiveId(),
+				hash, archive.getCrc());
+			stats.failed();
+			return;
+		}
+
+		synchronized (this)
+		{
+			if (watcher != null)
+			{
+				watcher.downloadComplete(archive, data);
+			}
+			else
+			{
+				try
+				{
+					Storage storage = store.getStorage();
+					storage.saveArchive(archive, data);
+				}
+				catch (IOException ex1)
+				{
+					logger.warn("unable to save archive data", ex1);
+				}
+			}
+		}
+
+		stats.downloaded(data.length);
+	}
+
+	private static FileResult join(CompletableFuture<FileResult> future) throws IOException
+	{
+		try
+		{
+			return future.join();
+		}
+		catch (CompletionException ex)
+		{
+			throw new IOException(ex.getCause());
+		}
+	}
+}
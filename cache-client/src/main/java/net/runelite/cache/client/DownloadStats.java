@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput counters of a download. The counters are updated as responses arrive, so they can be
+ * read while the download is in progress.
+ */
+public class DownloadStats
+{
+	private final LongAdder requested = new LongAdder();
+	private final LongAdder downloaded = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder bytes = new LongAdder();
+	private volatile long start;
+	private volatile long end;
+
+	void start()
+	{
+		start = System.nanoTime();
+		end = 0L;
+	}
+
+	void stop()
+	{
+		end = System.nanoTime();
+	}
+
+	void requested()
+	{
+		requested.increment();
+	}
+
+	void downloaded(int length)
+	{
+		downloaded.increment();
+		bytes.add(length);
+	}
+
+	void failed()
+	{
+		failed.increment();
+	}
+
+	/**
+	 * @return number of archives requested, including index data
+	 */
+	public long getRequested()
+	{
+		return requested.sum();
+	}
+
+	/**
+	 * @return number of archives downloaded successfully
+	 */
+	public long getDownloaded()
+	{
+		return downloaded.sum();
+	}
+
+	/**
+	 * @return number of archives which failed their crc check
+	 */
+	public long getFailed()
+	{
+		return failed.sum();
+	}
+
+	/**
+	 * @return number of compressed bytes downloaded
+	 */
+	public long getBytes()
+	{
+		return bytes.sum();
+	}
+
+	public long getElapsed(TimeUnit unit)
+	{
+		if (start == 0L)
+		{
+			return 0L;
+		}
+
+		long stop = end != 0L ? end : System.nanoTime();
+		return unit.convert(stop - start, TimeUnit.NANOSECONDS);
+	}
+
+	public double getBytesPerSecond()
+	{
+		long nanos = getElapsed(TimeUnit.NANOSECONDS);
+		return nanos == 0L ? 0d : getBytes() * 1e9 / nanos;
+	}
+
+	public double getArchivesPerSecond()
+	{
+		long nanos = getElapsed(TimeUnit.NANOSECONDS);
+		return nanos == 0L ? 0d : getDownloaded() * 1e9 / nanos;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("%d/%d archives (%d failed), %d bytes in %d ms, %.1f archives/s, %.1f KiB/s",
+			getDownloaded(), getRequested(), getFailed(), getBytes(), getElapsed(TimeUnit.MILLISECONDS),
+			getArchivesPerSecond(), getBytesPerSecond() / 1024d);
+	}
+}
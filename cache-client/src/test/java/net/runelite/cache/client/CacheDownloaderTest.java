@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.ArchiveData;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.index.IndexData;
+import net.runelite.cache.util.Crc32;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheDownloaderTest
+{
+	private static final int INDEXES = 3;
+	private static final int ARCHIVES = 100;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private final Map<Integer, byte[]> files = new HashMap<>();
+	private LocalUpdateServer server;
+	private int port;
+
+	@Before
+	public void before() throws IOException
+	{
+		Random random = new Random(42L);
+		ByteBuf indexTable = Unpooled.buffer();
+
+		for (int i = 0; i < INDEXES; ++i)
+		{
+			ArchiveData[] archives = new ArchiveData[ARCHIVES];
+
+			for (int a = 0; a < ARCHIVES; ++a)
+			{
+				// sizes spanning several 512 byte response chunks
+				byte[] contents = new byte[random.nextInt(3000)];
+				random.nextBytes(contents);
+
+				byte[] data = container(a % 2 == 0 ? CompressionType.NONE : CompressionType.GZ, contents);
+				files.put(i << 16 | a, data);
+
+				FileData file = new FileData();
+				file.setId(0);
+
+				ArchiveData ad = archives[a] = new ArchiveData();
+				ad.setId(a);
+				ad.setRevision(random.nextInt(1000));
+				ad.setCrc(crc(data));
+				ad.setFiles(new FileData[]{file});
+			}
+
+			IndexData indexData = new IndexData();
+			indexData.setProtocol(6);
+			indexData.setRevision(i + 1);
+			indexData.setArchives(archives);
+
+			byte[] data = container(CompressionType.GZ, indexData.writeIndexData());
+			files.put(255 << 16 | i, data);
+
+			indexTable.writeInt(crc(data));
+			indexTable.writeInt(i + 1);
+		}
+
+		byte[] table = new byte[indexTable.readableBytes()];
+		indexTable.readBytes(table);
+		files.put(255 << 16 | 255, container(CompressionType.NONE, table));
+
+		server = new LocalUpdateServer(files);
+		port = server.start();
+	}
+
+	@After
+	public void after()
+	{
+		server.close();
+	}
+
+	@Test
+	public void testSingleConnection() throws IOException
+	{
+		testDownload(1);
+	}
+
+	@Test
+	public void testMultipleConnections() throws IOException
+	{
+		testDownload(4);
+	}
+
+	@Test
+	public void testConcurrentRequests() throws Exception
+	{
+		final int threads = 8;
+
+		CacheClient client = new CacheClient(null, "localhost", port, 0);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			client.connect();
+			assertEquals(HandshakeResponseType.RESPONSE_OK, client.handshake().join());
+
+			// every thread requests the same archives, so most requests join one already in flight
+			List<Future<List<CompletableFuture<FileResult>>>> results = new ArrayList<>();
+			for (int t = 0; t < threads; ++t)
+			{
+				results.add(executor.submit(() ->
+				{
+					List<CompletableFuture<FileResult>> futures = new ArrayList<>();
+					for (int a = 0; a < ARCHIVES; ++a)
+					{
+						futures.add(client.requestFile(0, a, a % 10 == 9));
+					}
+					client.flush();
+					return futures;
+				}));
+			}
+
+			for (Future<List<CompletableFuture<FileResult>>> result : results)
+			{
+				List<CompletableFuture<FileResult>> futures = result.get(10, TimeUnit.SECONDS);
+				for (int a = 0; a < ARCHIVES; ++a)
+				{
+					FileResult file = futures.get(a).get(10, TimeUnit.SECONDS);
+					assertArrayEquals(files.get(a), file.getCompressedData());
+				}
+			}
+
+			assertEquals(0, client.getPendingRequests());
+		}
+		finally
+		{
+			executor.shutdownNow();
+			client.close();
+		}
+	}
+
+	private void testDownload(int connections) throws IOException
+	{
+		List<CacheClient> clients = new ArrayList<>();
+
+		try (Store store = new Store(folder.newFolder()))
+		{
+			for (int i = 0; i < connections; ++i)
+			{
+				CacheClient client = new CacheClient(store, "localhost", port, 0);
+				clients.add(client);
+				client.connect();
+				assertEquals(HandshakeResponseType.RESPONSE_OK, client.handshake().join());
+			}
+
+			DownloadStats stats = new CacheDownloader(store, clients, null).download();
+
+			assertEquals(connections, server.getConnections());
+			assertEquals(0, stats.getFailed());
+			assertEquals(INDEXES + INDEXES * ARCHIVES, stats.getRequested());
+			assertEquals(INDEXES + INDEXES * ARCHIVES, stats.getDownloaded());
+
+			for (int i = 0; i < INDEXES; ++i)
+			{
+				Index index = store.findIndex(i);
+				assertNotNull(index);
+				assertEquals(i + 1, index.getRevision());
+				assertEquals(ARCHIVES, index.getArchives().size());
+
+				for (Archive archive : index.getArchives())
+				{
+					assertArrayEquals(files.get(i << 16 | archive.getArchiveId()), store.getStorage().loadArchive(archive));
+				}
+			}
+
+			// everything is up to date now, so only the index data is requested again
+			stats = new CacheDownloader(store, clients, null).download();
+			assertEquals(INDEXES, stats.getRequested());
+			assertEquals(0, stats.getFailed());
+		}
+		finally
+		{
+			for (CacheClient client : clients)
+			{
+				client.close();
+			}
+		}
+	}
+
+	private static byte[] container(int compression, byte[] data) throws IOException
+	{
+		Container container = new Container(compression, -1);
+		container.compress(data, null);
+		return container.data;
+	}
+
+	private static int crc(byte[] data)
+	{
+		Crc32 crc = new Crc32();
+		crc.update(data, 0, data.length);
+		return crc.getHash();
+	}
+}
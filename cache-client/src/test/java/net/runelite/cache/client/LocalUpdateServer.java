@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.protocol.api.handshake.HandshakeResponsePacket;
+import net.runelite.protocol.api.handshake.UpdateHandshakePacket;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import net.runelite.protocol.api.update.ArchiveRequestPacket;
+import net.runelite.protocol.api.update.ArchiveResponsePacket;
+import net.runelite.protocol.handshake.HandshakeDecoder;
+import net.runelite.protocol.handshake.HandshakeResponseEncoder;
+import net.runelite.protocol.update.decoders.ArchiveRequestDecoder;
+import net.runelite.protocol.update.decoders.EncryptionDecoder;
+import net.runelite.protocol.update.encoders.ArchiveResponseEncoder;
+
+/**
+ * Stand-in update server for tests, serving prebuilt archive containers
+ * keyed by {@code index << 16 | archive}.
+ */
+class LocalUpdateServer implements AutoCloseable
+{
+	private final Map<Integer, byte[]> files;
+	private final EventLoopGroup group = new NioEventLoopGroup(1);
+	private final AtomicInteger connections = new AtomicInteger();
+	private Channel channel;
+
+	LocalUpdateServer(Map<Integer, byte[]> files)
+	{
+		this.files = files;
+	}
+
+	int start()
+	{
+		ServerBootstrap b = new ServerBootstrap();
+		b.group(group)
+			.channel(NioServerSocketChannel.class)
+			.childHandler(new ChannelInitializer<SocketChannel>()
+			{
+				@Override
+				public void initChannel(SocketChannel ch)
+				{
+					connections.incrementAndGet();
+
+					ChannelPipeline p = ch.pipeline();
+					p.addLast("decoder", new HandshakeDecoder());
+					p.addLast(new HandshakeResponseEncoder(), new ArchiveResponseEncoder());
+					p.addLast(new Handler());
+				}
+			});
+
+		channel = b.bind("localhost", 0).syncUninterruptibly().channel();
+		return ((InetSocketAddress) channel.localAddress()).getPort();
+	}
+
+	int getConnections()
+	{
+		return connections.get();
+	}
+
+	@Override
+	public void close()
+	{
+		channel.close().syncUninterruptibly();
+		group.shutdownGracefully();
+	}
+
+	private class Handler extends SimpleChannelInboundHandler<Object>
+	{
+		@Override
+		protected void channelRead0(ChannelHandlerContext ctx, Object msg)
+		{
+			if (msg instanceof UpdateHandshakePacket)
+			{
+				HandshakeResponsePacket response = new HandshakeResponsePacket();
+				response.setResponse(HandshakeResponseType.RESPONSE_OK);
+				ctx.writeAndFlush(response);
+
+				ChannelPipeline p = ctx.pipeline();
+				p.replace("decoder", "decoder", new EncryptionDecoder());
+				p.addAfter("decoder", "requests", new ArchiveRequestDecoder());
+			}
+			else if (msg instanceof ArchiveRequestPacket)
+			{
+				ArchiveRequestPacket request = (ArchiveRequestPacket) msg;
+				byte[] data = files.get(request.getIndex() << 16 | request.getArchive());
+
+				if (data == null)
+				{
+					ctx.close();
+					return;
+				}
+
+				ArchiveResponsePacket response = new ArchiveResponsePacket();
+				response.setIndex(request.getIndex());
+				response.setArchive(request.getArchive());
+				response.setData(data);
+				ctx.writeAndFlush(response);
+			}
+		}
+	}
+}
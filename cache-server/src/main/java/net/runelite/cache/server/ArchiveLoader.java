@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.util.Crc32;
+
+/**
+ * Loads the containers served for archive requests out of a store. The
+ * index data and the table of index crcs and revisions are built once up
+ * front, archives are read from the storage on each request.
+ */
+class ArchiveLoader
+{
+	private final Store store;
+	private final byte[][] indexData;
+	private final byte[] indexTable;
+
+	ArchiveLoader(Store store) throws IOException
+	{
+		this.store = store;
+
+		int indexCount = 0;
+		for (Index index : store.getIndexes())
+		{
+			indexCount = Math.max(indexCount, index.getId() + 1);
+		}
+
+		indexData = new byte[indexCount][];
+		ByteBuf table = Unpooled.buffer(indexCount * 8);
+
+		for (int i = 0; i < indexCount; ++i)
+		{
+			Index index = store.findIndex(i);
+			int crc = 0, revision = 0;
+
+			if (index != null)
+			{
+				byte[] data = indexData[i] = loadIndex(index);
+
+				Crc32 crc32 = new Crc32();
+				crc32.update(data, 0, data.length);
+				crc = crc32.getHash();
+				revision = index.getRevision();
+			}
+
+			table.writeInt(crc);
+			table.writeInt(revision);
+		}
+
+		Container container = new Container(CompressionType.NONE, -1);
+		container.compress(table.array(), null);
+		indexTable = container.data;
+	}
+
+	private byte[] loadIndex(Index index) throws IOException
+	{
+		Storage storage = store.getStorage();
+		if (storage instanceof DiskStorage)
+		{
+			// serve the index data exactly as it was downloaded
+			return ((DiskStorage) storage).readIndex(index.getId());
+		}
+
+		Container container = new Container(index.getCompression(), -1);
+		container.compress(index.toIndexData().writeIndexData(), null);
+		return container.data;
+	}
+
+	/**
+	 * Load the container for an archive request
+	 *
+	 * @param index index id, or 255 for the index data
+	 * @param archive archive id, or index id if index is 255
+	 * @return the container, or null if the store does not have it
+	 * @throws IOException
+	 */
+	byte[] load(int index, int archive) throws IOException
+	{
+		if (index == 255)
+		{
+			if (archive == 255)
+			{
+				return indexTable;
+			}
+
+			return archive < indexData.length ? indexData[archive] : null;
+		}
+
+		Index i = store.findIndex(index);
+		if (i == null)
+		{
+			return null;
+		}
+
+		Archive a = i.getArchive(archive);
+		if (a == null)
+		{
+			return null;
+		}
+
+		return store.getStorage().loadArchive(a);
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import net.runelite.protocol.api.update.ArchiveRequestPacket;
+import net.runelite.protocol.api.update.ArchiveResponsePacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the archive requests of a connection. Requests are queued as they
+ * are read and served once the read completes or the connection becomes
+ * writable again, so urgent requests are always served before prefetch
+ * requests, and a client which is not reading does not cause archives to
+ * pile up in memory.
+ */
+class ArchiveRequestHandler extends SimpleChannelInboundHandler<ArchiveRequestPacket>
+{
+	private static final Logger logger = LoggerFactory.getLogger(ArchiveRequestHandler.class);
+
+	private final ArchiveLoader loader;
+	private final Deque<ArchiveRequestPacket> urgent = new ArrayDeque<>();
+	private final Deque<ArchiveRequestPacket> prefetch = new ArrayDeque<>();
+
+	ArchiveRequestHandler(ArchiveLoader loader)
+	{
+		this.loader = loader;
+	}
+
+	@Override
+	protected void channelRead0(ChannelHandlerContext ctx, ArchiveRequestPacket archiveRequest) throws Exception
+	{
+		if (archiveRequest.isPriority())
+		{
+			urgent.add(archiveRequest);
+		}
+		else
+		{
+			prefetch.add(archiveRequest);
+		}
+	}
+
+	@Override
+	public void channelReadComplete(ChannelHandlerContext ctx) throws Exception
+	{
+		serve(ctx);
+		super.channelReadComplete(ctx);
+	}
+
+	@Override
+	public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception
+	{
+		serve(ctx);
+		super.channelWritabilityChanged(ctx);
+	}
+
+	private void serve(ChannelHandlerContext ctx) throws Exception
+	{
+		boolean written = false;
+
+		while (ctx.channel().isWritable())
+		{
+			ArchiveRequestPacket archiveRequest = urgent.poll();
+			if (archiveRequest == null)
+			{
+				archiveRequest = prefetch.poll();
+				if (archiveRequest == null)
+				{
+					break;
+				}
+			}
+
+			int index = archiveRequest.getIndex();
+			int archive = archiveRequest.getArchive();
+			byte[] data = loader.load(index, archive);
+
+			if (data == null)
+			{
+				logger.warn("Client {} requested nonexistent archive {}/{}",
+					ctx.channel().remoteAddress(), index, archive);
+				ctx.close();
+				return;
+			}
+
+			ArchiveResponsePacket archiveResponse = new ArchiveResponsePacket();
+			archiveResponse.setIndex(index);
+			archiveResponse.setArchive(archive);
+			archiveResponse.setData(data);
+			ctx.write(archiveResponse, ctx.voidPromise());
+			written = true;
+		}
+
+		if (written)
+		{
+			ctx.flush();
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.protocol.handshake.HandshakeDecoder;
+import net.runelite.protocol.handshake.HandshakeResponseEncoder;
+import net.runelite.protocol.update.encoders.ArchiveResponseEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Update server serving the archives of a store to update clients such as
+ * {@code CacheClient}.
+ * <p>
+ * Archives are read from the storage on the event loops, so disk backed
+ * stores should be opened with a memory mapped {@link DiskStorage}, which
+ * can be read from concurrently.
+ */
+public class CacheServer implements AutoCloseable
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheServer.class);
+
+	public static final int PORT = 43594;
+
+	private final int revision;
+	private final ArchiveLoader loader;
+
+	private final EventLoopGroup bossGroup = new NioEventLoopGroup(1);
+	private final EventLoopGroup workerGroup = new NioEventLoopGroup();
+	private Channel channel;
+
+	public CacheServer(Store store, int revision) throws IOException
+	{
+		this.revision = revision;
+		this.loader = new ArchiveLoader(store);
+	}
+
+	/**
+	 * Start listening for connections
+	 *
+	 * @param port port to listen on, or 0 for any free port
+	 * @return the port listened on
+	 */
+	public int start(int port)
+	{
+		ServerBootstrap b = new ServerBootstrap();
+		b.group(bossGroup, workerGroup)
+			.channel(NioServerSocketChannel.class)
+			.childOption(ChannelOption.TCP_NODELAY, true)
+			.childHandler(new ChannelInitializer<SocketChannel>()
+			{
+				@Override
+				public void initChannel(SocketChannel ch)
+				{
+					ChannelPipeline p = ch.pipeline();
+
+					// encoders go first so that handlers inserted after the
+					// decoder write through them
+					p.addLast(
+						new HandshakeResponseEncoder(),
+						new ArchiveResponseEncoder()
+					);
+
+					p.addLast("decoder", new HandshakeDecoder());
+					p.addLast(new CacheServerHandler(CacheServer.this));
+				}
+			});
+
+		channel = b.bind(port).syncUninterruptibly().channel();
+
+		port = ((InetSocketAddress) channel.localAddress()).getPort();
+		logger.info("Listening on port {} with revision {}", port, revision);
+		return port;
+	}
+
+	@Override
+	public void close()
+	{
+		if (channel != null)
+		{
+			channel.close().syncUninterruptibly();
+		}
+		bossGroup.shutdownGracefully();
+		workerGroup.shutdownGracefully();
+	}
+
+	public int getRevision()
+	{
+		return revision;
+	}
+
+	ArchiveLoader getLoader()
+	{
+		return loader;
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length < 2)
+		{
+			System.err.println("Usage: <cache directory> <revision> [port]");
+			System.exit(1);
+		}
+
+		File folder = new File(args[0]);
+		int revision = Integer.parseInt(args[1]);
+		int port = args.length > 2 ? Integer.parseInt(args[2]) : PORT;
+
+		Store store = new Store(new DiskStorage(folder, true));
+		store.load();
+
+		CacheServer server = new CacheServer(store, revision);
+		server.start(port);
+		server.channel.closeFuture().syncUninterruptibly();
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.SimpleChannelInboundHandler;
+import net.runelite.protocol.api.handshake.HandshakeResponsePacket;
+import net.runelite.protocol.api.handshake.UpdateHandshakePacket;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import net.runelite.protocol.api.update.EncryptionPacket;
+import net.runelite.protocol.update.decoders.ArchiveRequestDecoder;
+import net.runelite.protocol.update.decoders.EncryptionDecoder;
+import net.runelite.protocol.update.decoders.LoggedInDecoder;
+import net.runelite.protocol.update.decoders.LoggedOutDecoder;
+import net.runelite.protocol.update.encoders.XorEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handles the update handshake and the control packets of a connection.
+ * Once the handshake is accepted the pipeline is switched over to decoding
+ * update packets.
+ */
+class CacheServerHandler extends SimpleChannelInboundHandler<Object>
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheServerHandler.class);
+
+	private final CacheServer server;
+
+	CacheServerHandler(CacheServer server)
+	{
+		this.server = server;
+	}
+
+	@Override
+	protected void channelRead0(ChannelHandlerContext ctx, Object msg) throws Exception
+	{
+		if (msg instanceof UpdateHandshakePacket)
+		{
+			handshake(ctx, (UpdateHandshakePacket) msg);
+		}
+		else if (msg instanceof EncryptionPacket)
+		{
+			byte key = ((EncryptionPacket) msg).getKey();
+			ChannelPipeline p = ctx.pipeline();
+
+			XorEncoder xorEncoder = p.get(XorEncoder.class);
+			if (xorEncoder != null)
+			{
+				xorEncoder.setKey(key);
+			}
+			else if (key != 0)
+			{
+				// responses are only passed through the xor encoder once
+				// the client asks for it
+				xorEncoder = new XorEncoder();
+				xorEncoder.setKey(key);
+				p.addFirst(xorEncoder);
+			}
+		}
+		else
+		{
+			logger.debug("Unhandled packet {} from {}", msg, ctx.channel().remoteAddress());
+		}
+	}
+
+	private void handshake(ChannelHandlerContext ctx, UpdateHandshakePacket handshake)
+	{
+		HandshakeResponsePacket response = new HandshakeResponsePacket();
+
+		if (handshake.getRevision() != server.getRevision())
+		{
+			logger.debug("Client {} has revision {}, expected {}",
+				ctx.channel().remoteAddress(), handshake.getRevision(), server.getRevision());
+
+			response.setResponse(HandshakeResponseType.RESPONSE_OUTDATED);
+			ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+			return;
+		}
+
+		response.setResponse(HandshakeResponseType.RESPONSE_OK);
+		ctx.writeAndFlush(response);
+
+		ChannelPipeline p = ctx.pipeline();
+		p.replace("decoder", "decoder", new EncryptionDecoder());
+		p.addAfter("decoder", "loggedIn", new LoggedInDecoder());
+		p.addAfter("loggedIn", "loggedOut", new LoggedOutDecoder());
+		p.addAfter("loggedOut", "requests", new ArchiveRequestDecoder());
+		p.addAfter("requests", "handler", new ArchiveRequestHandler(server.getLoader()));
+	}
+
+	@Override
+	public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause)
+	{
+		logger.warn("Error serving {}", ctx.channel().remoteAddress(), cause);
+		ctx.close();
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.IOException;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.protocol.api.update.ArchiveResponsePacket;
+import net.runelite.protocol.update.decoders.ArchiveRequestDecoder;
+import net.runelite.protocol.update.decoders.UpdateOpcodes;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArchiveRequestHandlerTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testUrgentFirst() throws IOException
+	{
+		try (Store store = new Store(folder.newFolder()))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 4; ++i)
+			{
+				Container container = new Container(CompressionType.NONE, -1);
+				container.compress(new byte[]{(byte) i}, null);
+
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[]{new FileData()});
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			store.save();
+
+			EmbeddedChannel channel = new EmbeddedChannel(
+				new ArchiveRequestDecoder(),
+				new ArchiveRequestHandler(new ArchiveLoader(store))
+			);
+
+			ByteBuf requests = Unpooled.buffer();
+			request(requests, false, 0);
+			request(requests, false, 1);
+			request(requests, true, 2);
+			request(requests, false, 3);
+			request(requests, true, 255);
+			channel.writeInbound(requests);
+
+			assertResponse(channel, 0, 2);
+			assertResponse(channel, 255, 0);
+			assertResponse(channel, 0, 0);
+			assertResponse(channel, 0, 1);
+			assertResponse(channel, 0, 3);
+			assertNull(channel.readOutbound());
+		}
+	}
+
+	private static void request(ByteBuf buf, boolean priority, int archive)
+	{
+		buf.writeByte(priority ? UpdateOpcodes.ARCHIVE_REQUEST_HIGH : UpdateOpcodes.ARCHIVE_REQUEST_LOW);
+		buf.writeByte(archive == 255 ? 255 : 0);
+		buf.writeShort(archive == 255 ? 0 : archive);
+	}
+
+	private static void assertResponse(EmbeddedChannel channel, int index, int archive)
+	{
+		ArchiveResponsePacket response = channel.readOutbound();
+		assertEquals(index, response.getIndex());
+		assertEquals(archive, response.getArchive());
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.client.CacheClient;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheServerTest
+{
+	private static final int REVISION = 180;
+	private static final int INDEXES = 3;
+	private static final int ARCHIVES = 50;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testDownload() throws IOException
+	{
+		File source = folder.newFolder();
+		Map<Integer, byte[]> containers = new HashMap<>();
+		Random random = new Random(42L);
+
+		try (Store store = new Store(source))
+		{
+			for (int i = 0; i < INDEXES; ++i)
+			{
+				Index index = store.addIndex(i);
+				index.setRevision(i + 1);
+
+				for (int a = 0; a < ARCHIVES; ++a)
+				{
+					byte[] contents = new byte[random.nextInt(3000)];
+					random.nextBytes(contents);
+
+					Container container = new Container(a % 2 == 0 ? CompressionType.NONE : CompressionType.GZ, -1);
+					container.compress(contents, null);
+					containers.put(i << 16 | a, container.data);
+
+					// as saved by the client, with the archive revision appended
+					byte[] data = Arrays.copyOf(container.data, container.data.length + 2);
+					data[data.length - 1] = (byte) a;
+
+					FileData file = new FileData();
+					file.setId(0);
+
+					Archive archive = index.addArchive(a);
+					archive.setRevision(a);
+					archive.setFileData(new FileData[]{file});
+					store.getStorage().saveArchive(archive, data);
+				}
+			}
+
+			store.save();
+		}
+
+		try (Store store = new Store(new DiskStorage(source, true));
+			Store target = new Store(folder.newFolder()))
+		{
+			store.load();
+
+			try (CacheServer server = new CacheServer(store, REVISION))
+			{
+				int port = server.start(0);
+
+				try (CacheClient client = new CacheClient(target, "localhost", port, REVISION))
+				{
+					client.connect();
+					assertEquals(HandshakeResponseType.RESPONSE_OK, client.handshake().join());
+					client.download();
+				}
+			}
+
+			for (int i = 0; i < INDEXES; ++i)
+			{
+				Index index = target.findIndex(i);
+				assertNotNull(index);
+				assertEquals(i + 1, index.getRevision());
+				assertEquals(ARCHIVES, index.getArchives().size());
+
+				for (Archive archive : index.getArchives())
+				{
+					assertEquals(store.findIndex(i).getArchive(archive.getArchiveId()).getCrc(), archive.getCrc());
+					assertArrayEquals(containers.get(i << 16 | archive.getArchiveId()), target.getStorage().loadArchive(archive));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testOutdated() throws IOException
+	{
+		try (Store store = new Store(folder.newFolder());
+			CacheServer server = new CacheServer(store, REVISION))
+		{
+			int port = server.start(0);
+
+			try (CacheClient client = new CacheClient(store, "localhost", port, REVISION - 1))
+			{
+				client.connect();
+				assertEquals(HandshakeResponseType.RESPONSE_OUTDATED, client.handshake().join());
+			}
+		}
+	}
+}
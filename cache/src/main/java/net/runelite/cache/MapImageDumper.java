@@ -27,10 +27,22 @@ package net.runelite.cache;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Image;
+import java.awt.Point;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.cache.definitions.AreaDefinition;
@@ -64,6 +76,7 @@ public class MapImageDumper
 	private static final int MAPICON_MAX_WIDTH = 5; // scale minimap icons down to this size so they fit..
 	private static final int MAPICON_MAX_HEIGHT = 6;
 	private static final int BLEND = 5; // number of surrounding tiles for ground blending
+	private static final int TILE_SIZE = Region.X * MAP_SCALE; // pixels per side of a map tile, one region at full zoom
 
 	private static int[] colorPalette = new ColorPalette(0.9d, 0, 512).getColorPalette();
 
@@ -158,6 +171,198 @@ public class MapImageDumper
 		return image;
 	}
 
+	/**
+	 * Render the map as a pyramid of PNG tiles, without ever holding the
+	 * whole map image in memory. Zoom level 0 has one tile per region, and
+	 * is rendered in parallel. Each following level is built by
+	 * downsampling the tiles of the level below it by half, until the
+	 * whole map fits in one tile.
+	 * <p>
+	 * Tiles are written to {@code outDir/<zoom>/<x>_<y>.png}, where x and y
+	 * increase to the east and north. Tiles with no regions are not written.
+	 *
+	 * @param z plane to render
+	 * @param outDir directory to write the tiles to
+	 * @throws IOException
+	 */
+	public void drawMapTiles(int z, File outDir) throws IOException
+	{
+		drawMapTiles(z, outDir, Runtime.getRuntime().availableProcessors());
+	}
+
+	public void drawMapTiles(int z, File outDir, int parallelism) throws IOException
+	{
+		Set<Point> tiles = new HashSet<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			tiles.add(new Point(region.getRegionX(), region.getRegionY()));
+		}
+
+		File baseDir = tileDirectory(outDir, 0);
+		forEachParallel(new ArrayList<>(regionLoader.getRegions()), parallelism, region ->
+			writeTile(drawTile(region, z), baseDir, region.getRegionX(), region.getRegionY()));
+
+		logger.info("Wrote {} tiles for zoom level 0", tiles.size());
+
+		File levelDir = baseDir;
+		for (int zoom = 1; tiles.size() > 1; ++zoom)
+		{
+			Set<Point> parents = new HashSet<>();
+			for (Point tile : tiles)
+			{
+				parents.add(new Point(tile.x >> 1, tile.y >> 1));
+			}
+
+			File childDir = levelDir;
+			File parentDir = tileDirectory(outDir, zoom);
+			forEachParallel(parents, parallelism, parent ->
+				writeTile(downsampleTile(childDir, parent.x, parent.y), parentDir, parent.x, parent.y));
+
+			logger.info("Wrote {} tiles for zoom level {}", parents.size(), zoom);
+
+			tiles = parents;
+			levelDir = parentDir;
+		}
+	}
+
+	/**
+	 * Draw a single region as a map tile. Map icons of the neighbouring
+	 * regions are drawn too, so icons on region edges are not cut off.
+	 */
+	private BufferedImage drawTile(Region region, int z)
+	{
+		BufferedImage image = drawRegion(region, z);
+
+		Graphics2D graphics = image.createGraphics();
+		for (int dx = -1; dx <= 1; ++dx)
+		{
+			for (int dy = -1; dy <= 1; ++dy)
+			{
+				Region neighbour = regionLoader.findRegionForWorldCoordinates(region.getBaseX() + dx * Region.X, region.getBaseY() + dy * Region.Y);
+				if (neighbour != null && neighbour != region)
+				{
+					// y is inverted in the image
+					drawMapIcons(graphics, neighbour, z, dx * Region.X, -dy * Region.Y);
+				}
+			}
+		}
+		graphics.dispose();
+
+		return image;
+	}
+
+	private static BufferedImage downsampleTile(File childDir, int x, int y) throws IOException
+	{
+		BufferedImage image = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+
+		for (int dx = 0; dx <= 1; ++dx)
+		{
+			for (int dy = 0; dy <= 1; ++dy)
+			{
+				File childFile = new File(childDir, ((x << 1) + dx) + "_" + ((y << 1) + dy) + ".png");
+				if (!childFile.exists())
+				{
+					continue;
+				}
+
+				BufferedImage child = ImageIO.read(childFile);
+				// the northern children are the top half of the image
+				downsample(child, image, dx * TILE_SIZE / 2, (1 - dy) * TILE_SIZE / 2);
+			}
+		}
+
+		return image;
+	}
+
+	/**
+	 * Scale src down by half into dst at the given offset, averaging each 2x2 block of pixels
+	 */
+	static void downsample(BufferedImage src, BufferedImage dst, int offsetX, int offsetY)
+	{
+		int width = src.getWidth();
+		int height = src.getHeight();
+		int[] pixels = src.getRGB(0, 0, width, height, null, 0, width);
+		int[] out = new int[(width / 2) * (height / 2)];
+
+		for (int y = 0; y < height / 2; ++y)
+		{
+			for (int x = 0; x < width / 2; ++x)
+			{
+				int i = (y * 2) * width + x * 2;
+				int p1 = pixels[i];
+				int p2 = pixels[i + 1];
+				int p3 = pixels[i + width];
+				int p4 = pixels[i + width + 1];
+
+				int red = ((p1 >> 16 & 0xFF) + (p2 >> 16 & 0xFF) + (p3 >> 16 & 0xFF) + (p4 >> 16 & 0xFF)) >> 2;
+				int green = ((p1 >> 8 & 0xFF) + (p2 >> 8 & 0xFF) + (p3 >> 8 & 0xFF) + (p4 >> 8 & 0xFF)) >> 2;
+				int blue = ((p1 & 0xFF) + (p2 & 0xFF) + (p3 & 0xFF) + (p4 & 0xFF)) >> 2;
+				out[y * (width / 2) + x] = red << 16 | green << 8 | blue;
+			}
+		}
+
+		dst.setRGB(offsetX, offsetY, width / 2, height / 2, out, 0, width / 2);
+	}
+
+	private static File tileDirectory(File outDir, int zoom) throws IOException
+	{
+		File dir = new File(outDir, Integer.toString(zoom));
+		if (!dir.isDirectory() && !dir.mkdirs())
+		{
+			throw new IOException("unable to create directory " + dir);
+		}
+		return dir;
+	}
+
+	private static void writeTile(BufferedImage image, File dir, int x, int y) throws IOException
+	{
+		ImageIO.write(image, "png", new File(dir, x + "_" + y + ".png"));
+	}
+
+	@FunctionalInterface
+	private interface IOConsumer<T>
+	{
+		void accept(T t) throws IOException;
+	}
+
+	private static <T> void forEachParallel(Collection<T> items, int parallelism, IOConsumer<T> consumer) throws IOException
+	{
+		Consumer<T> unchecked = item ->
+		{
+			try
+			{
+				consumer.accept(item);
+			}
+			catch (IOException ex)
+			{
+				throw new UncheckedIOException(ex);
+			}
+		};
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try
+		{
+			pool.submit(() -> items.parallelStream().forEach(unchecked)).get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException(ex);
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) ex.getCause()).getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
 	private void drawMap(BufferedImage image, int drawBaseX, int drawBaseY, int z, Region region)
 	{
 		int[][] map = new int[Region.X * MAP_SCALE][Region.Y * MAP_SCALE];
@@ -951,13 +1156,15 @@ public class MapImageDumper
 
 	private void loadSprites() throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
 		final int mapsceneHash = Djb2.hash("mapscene");
+		List<Archive> archives = index.getArchives();
+		byte[][] archiveContents = store.loadArchives(index);
 
-		for (Archive a : index.getArchives())
+		for (int i = 0; i < archives.size(); ++i)
 		{
-			byte[] contents = a.decompress(storage.loadArchive(a));
+			Archive a = archives.get(i);
+			byte[] contents = archiveContents[i];
 
 			SpriteLoader loader = new SpriteLoader();
 			SpriteDefinition[] sprites = loader.load(a.getArchiveId(), contents);
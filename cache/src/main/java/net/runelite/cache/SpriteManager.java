@@ -31,13 +31,13 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import net.runelite.cache.definitions.SpriteDefinition;
 import net.runelite.cache.definitions.exporters.SpriteExporter;
 import net.runelite.cache.definitions.loaders.SpriteLoader;
 import net.runelite.cache.definitions.providers.SpriteProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
-import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 
 public class SpriteManager implements SpriteProvider
@@ -52,12 +52,14 @@ public class SpriteManager implements SpriteProvider
 
 	public void load() throws IOException
 	{
-		Storage storage = store.getStorage();
 		Index index = store.getIndex(IndexType.SPRITES);
+		List<Archive> archives = index.getArchives();
+		byte[][] archiveContents = store.loadArchives(index);
 
-		for (Archive a : index.getArchives())
+		for (int i = 0; i < archives.size(); ++i)
 		{
-			byte[] contents = a.decompress(storage.loadArchive(a));
+			Archive a = archives.get(i);
+			byte[] contents = archiveContents[i];
 
 			SpriteLoader loader = new SpriteLoader();
 			SpriteDefinition[] defs = loader.load(a.getArchiveId(), contents);
@@ -16,6 +16,11 @@ public class ModelDefinition
 	public int[] vertexPositionsY;
 	public int[] vertexPositionsZ;
 	public transient VertexNormal[] vertexNormals;
+	// per vertex normal sums, see computeNormalArrays()
+	public transient int[] vertexNormalsX;
+	public transient int[] vertexNormalsY;
+	public transient int[] vertexNormalsZ;
+	public transient int[] vertexNormalsMagnitude;
 
 	public int faceCount;
 	public int[] faceVertexIndices1;
@@ -26,6 +31,10 @@ public class ModelDefinition
 	public byte[] faceRenderPriorities;
 	public byte[] faceRenderTypes;
 	public transient FaceNormal[] faceNormals;
+	// per face normals of flat shaded faces, null if there are none
+	public transient int[] faceNormalsX;
+	public transient int[] faceNormalsY;
+	public transient int[] faceNormalsZ;
 
 	public int textureTriangleCount;
 	public short[] textureTriangleVertexIndices1;
@@ -33,6 +42,9 @@ public class ModelDefinition
 	public short[] textureTriangleVertexIndices3;
 	public transient float[][] faceTextureUCoordinates;
 	public transient float[][] faceTextureVCoordinates;
+	// uv coordinates of each textured face, 3 per face, see computeTextureUVs()
+	public transient float[] faceTextureU;
+	public transient float[] faceTextureV;
 	public short[] texturePrimaryColors;
 	public short[] faceTextures;
 	public byte[] textureCoordinates;
@@ -60,22 +72,23 @@ public class ModelDefinition
 
 	public static transient int animOffsetX, animOffsetY, animOffsetZ;
 
-	public void computeNormals()
+	/**
+	 * Computes the vertex and face normals into {@link #vertexNormalsX} and
+	 * friends, without allocating an object per vertex or face.
+	 */
+	public void computeNormalArrays()
 	{
-		if (this.vertexNormals != null)
+		if (this.vertexNormalsX != null)
 		{
 			return;
 		}
 
-		this.vertexNormals = new VertexNormal[this.vertexCount];
+		int[] normalsX = this.vertexNormalsX = new int[this.vertexCount];
+		int[] normalsY = this.vertexNormalsY = new int[this.vertexCount];
+		int[] normalsZ = this.vertexNormalsZ = new int[this.vertexCount];
+		int[] magnitudes = this.vertexNormalsMagnitude = new int[this.vertexCount];
 
-		int var1;
-		for (var1 = 0; var1 < this.vertexCount; ++var1)
-		{
-			this.vertexNormals[var1] = new VertexNormal();
-		}
-
-		for (var1 = 0; var1 < this.faceCount; ++var1)
+		for (int var1 = 0; var1 < this.faceCount; ++var1)
 		{
 			int vertexA = this.faceVertexIndices1[var1];
 			int vertexB = this.faceVertexIndices2[var1];
@@ -123,48 +136,109 @@ public class ModelDefinition
 
 			if (var15 == 0)
 			{
-				VertexNormal var16 = this.vertexNormals[vertexA];
-				var16.x += var11;
-				var16.y += var12;
-				var16.z += var13;
-				++var16.magnitude;
-
-				var16 = this.vertexNormals[vertexB];
-				var16.x += var11;
-				var16.y += var12;
-				var16.z += var13;
-				++var16.magnitude;
-
-				var16 = this.vertexNormals[vertexC];
-				var16.x += var11;
-				var16.y += var12;
-				var16.z += var13;
-				++var16.magnitude;
+				normalsX[vertexA] += var11;
+				normalsY[vertexA] += var12;
+				normalsZ[vertexA] += var13;
+				++magnitudes[vertexA];
+
+				normalsX[vertexB] += var11;
+				normalsY[vertexB] += var12;
+				normalsZ[vertexB] += var13;
+				++magnitudes[vertexB];
+
+				normalsX[vertexC] += var11;
+				normalsY[vertexC] += var12;
+				normalsZ[vertexC] += var13;
+				++magnitudes[vertexC];
 			}
 			else if (var15 == 1)
 			{
-				if (this.faceNormals == null)
+				if (this.faceNormalsX == null)
 				{
-					this.faceNormals = new FaceNormal[this.faceCount];
+					this.faceNormalsX = new int[this.faceCount];
+					this.faceNormalsY = new int[this.faceCount];
+					this.faceNormalsZ = new int[this.faceCount];
 				}
 
-				FaceNormal var17 = this.faceNormals[var1] = new FaceNormal();
-				var17.x = var11;
-				var17.y = var12;
-				var17.z = var13;
+				this.faceNormalsX[var1] = var11;
+				this.faceNormalsY[var1] = var12;
+				this.faceNormalsZ[var1] = var13;
+			}
+		}
+	}
+
+	/**
+	 * Computes the vertex and face normals as {@link VertexNormal} and
+	 * {@link FaceNormal} objects. Prefer {@link #computeNormalArrays()}.
+	 */
+	public void computeNormals()
+	{
+		if (this.vertexNormals != null)
+		{
+			return;
+		}
+
+		computeNormalArrays();
+
+		this.vertexNormals = new VertexNormal[this.vertexCount];
+		for (int i = 0; i < this.vertexCount; ++i)
+		{
+			VertexNormal normal = this.vertexNormals[i] = new VertexNormal();
+			normal.x = this.vertexNormalsX[i];
+			normal.y = this.vertexNormalsY[i];
+			normal.z = this.vertexNormalsZ[i];
+			normal.magnitude = this.vertexNormalsMagnitude[i];
+		}
+
+		if (this.faceNormalsX != null)
+		{
+			this.faceNormals = new FaceNormal[this.faceCount];
+			for (int i = 0; i < this.faceCount; ++i)
+			{
+				if (this.faceRenderTypes[i] == 1)
+				{
+					FaceNormal normal = this.faceNormals[i] = new FaceNormal();
+					normal.x = this.faceNormalsX[i];
+					normal.y = this.faceNormalsY[i];
+					normal.z = this.faceNormalsZ[i];
+				}
 			}
 		}
 	}
 
 	/**
 	 * Computes the UV coordinates for every three-vertex face that has a
-	 * texture.
+	 * texture, as a float[3] pair per face. Prefer {@link #computeTextureUVs()}.
 	 */
 	public void computeTextureUVCoordinates()
 	{
+		computeTextureUVs();
+
 		this.faceTextureUCoordinates = new float[faceCount][];
 		this.faceTextureVCoordinates = new float[faceCount][];
 
+		if (faceTextures == null)
+		{
+			return;
+		}
+
+		for (int i = 0; i < faceCount; i++)
+		{
+			this.faceTextureUCoordinates[i] = Arrays.copyOfRange(faceTextureU, i * 3, i * 3 + 3);
+			this.faceTextureVCoordinates[i] = Arrays.copyOfRange(faceTextureV, i * 3, i * 3 + 3);
+		}
+	}
+
+	/**
+	 * Computes the UV coordinates for every three-vertex face that has a
+	 * texture into {@link #faceTextureU} and {@link #faceTextureV}. The
+	 * coordinates of face i are at indexes i * 3 to i * 3 + 2.
+	 */
+	public void computeTextureUVs()
+	{
+		float[] u = this.faceTextureU = new float[faceCount * 3];
+		float[] v = this.faceTextureV = new float[faceCount * 3];
+
 		for (int i = 0; i < faceCount; i++)
 		{
 			int textureCoordinate;
@@ -189,19 +263,18 @@ public class ModelDefinition
 
 			if (textureIdx != -1)
 			{
-				float[] u = new float[3];
-				float[] v = new float[3];
+				int uv = i * 3;
 
 				if (textureCoordinate == -1)
 				{
-					u[0] = 0.0F;
-					v[0] = 1.0F;
+					u[uv + 0] = 0.0F;
+					v[uv + 0] = 1.0F;
 
-					u[1] = 1.0F;
-					v[1] = 1.0F;
+					u[uv + 1] = 1.0F;
+					v[uv + 1] = 1.0F;
 
-					u[2] = 0.0F;
-					v[2] = 0.0F;
+					u[uv + 2] = 0.0F;
+					v[uv + 2] = 0.0F;
 				}
 				else
 				{
@@ -251,23 +324,20 @@ public class ModelDefinition
 						float f_902_ = f_885_ * f_898_ - f_886_ * f_897_;
 						float f_903_ = 1.0F / (f_900_ * f_882_ + f_901_ * f_883_ + f_902_ * f_884_);
 
-						u[0] = (f_900_ * f_888_ + f_901_ * f_889_ + f_902_ * f_890_) * f_903_;
-						u[1] = (f_900_ * f_891_ + f_901_ * f_892_ + f_902_ * f_893_) * f_903_;
-						u[2] = (f_900_ * f_894_ + f_901_ * f_895_ + f_902_ * f_896_) * f_903_;
+						u[uv + 0] = (f_900_ * f_888_ + f_901_ * f_889_ + f_902_ * f_890_) * f_903_;
+						u[uv + 1] = (f_900_ * f_891_ + f_901_ * f_892_ + f_902_ * f_893_) * f_903_;
+						u[uv + 2] = (f_900_ * f_894_ + f_901_ * f_895_ + f_902_ * f_896_) * f_903_;
 
 						f_900_ = f_883_ * f_899_ - f_884_ * f_898_;
 						f_901_ = f_884_ * f_897_ - f_882_ * f_899_;
 						f_902_ = f_882_ * f_898_ - f_883_ * f_897_;
 						f_903_ = 1.0F / (f_900_ * f_885_ + f_901_ * f_886_ + f_902_ * f_887_);
 
-						v[0] = (f_900_ * f_888_ + f_901_ * f_889_ + f_902_ * f_890_) * f_903_;
-						v[1] = (f_900_ * f_891_ + f_901_ * f_892_ + f_902_ * f_893_) * f_903_;
-						v[2] = (f_900_ * f_894_ + f_901_ * f_895_ + f_902_ * f_896_) * f_903_;
+						v[uv + 0] = (f_900_ * f_888_ + f_901_ * f_889_ + f_902_ * f_890_) * f_903_;
+						v[uv + 1] = (f_900_ * f_891_ + f_901_ * f_892_ + f_902_ * f_893_) * f_903_;
+						v[uv + 2] = (f_900_ * f_894_ + f_901_ * f_895_ + f_902_ * f_896_) * f_903_;
 					}
 				}
-
-				this.faceTextureUCoordinates[i] = u;
-				this.faceTextureVCoordinates[i] = v;
 			}
 		}
 	}
@@ -564,7 +634,10 @@ public class ModelDefinition
 	{
 		vertexNormals = null;
 		faceNormals = null;
+		vertexNormalsX = vertexNormalsY = vertexNormalsZ = vertexNormalsMagnitude = null;
+		faceNormalsX = faceNormalsY = faceNormalsZ = null;
 		faceTextureUCoordinates = faceTextureVCoordinates = null;
+		faceTextureU = faceTextureV = null;
 	}
 
 	public void resize(int var1, int var2, int var3)
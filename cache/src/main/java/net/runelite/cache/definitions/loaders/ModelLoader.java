@@ -19,8 +19,8 @@ public class ModelLoader
 			this.load2(def, b);
 		}
 
-		def.computeNormals();
-		def.computeTextureUVCoordinates();
+		def.computeNormalArrays();
+		def.computeTextureUVs();
 		def.computeAnimationTables();
 
 		return def;
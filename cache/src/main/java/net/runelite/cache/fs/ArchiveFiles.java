@@ -25,13 +25,13 @@
 package net.runelite.cache.fs;
 
 import com.google.common.base.Preconditions;
+import com.google.common.primitives.Ints;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,26 +113,19 @@ public class ArchiveFiles
 
 		int filesCount = this.getFiles().size();
 
-		InputStream stream = new InputStream(data);
-		stream.setOffset(stream.getLength() - 1);
-		int chunks = stream.readUnsignedByte();
+		int chunks = data[data.length - 1] & 0xFF;
 
 		// -1 for chunks count + one int per file slot per chunk
-		stream.setOffset(stream.getLength() - 1 - chunks * filesCount * 4);
-		int[][] chunkSizes = new int[filesCount][chunks];
+		int sizesOffset = data.length - 1 - chunks * filesCount * 4;
 		int[] filesSize = new int[filesCount];
 
-		for (int chunk = 0; chunk < chunks; ++chunk)
+		for (int chunk = 0, pos = sizesOffset; chunk < chunks; ++chunk)
 		{
 			int chunkSize = 0;
 
-			for (int id = 0; id < filesCount; ++id)
+			for (int id = 0; id < filesCount; ++id, pos += 4)
 			{
-				int delta = stream.readInt();
-				chunkSize += delta; // size of this chunk
-
-				chunkSizes[id][chunk] = chunkSize; // store size of chunk
-
+				chunkSize += Ints.fromBytes(data[pos], data[pos + 1], data[pos + 2], data[pos + 3]); // size of this chunk
 				filesSize[id] += chunkSize; // add chunk size to file size
 			}
 		}
@@ -145,17 +138,19 @@ public class ArchiveFiles
 			fileContents[i] = new byte[filesSize[i]];
 		}
 
-		// the file data is at the beginning of the stream
-		stream.setOffset(0);
-
-		for (int chunk = 0; chunk < chunks; ++chunk)
+		// the file data is at the beginning of the buffer. The chunk sizes
+		// are read a second time rather than being kept per file and chunk.
+		for (int chunk = 0, pos = sizesOffset, dataPos = 0; chunk < chunks; ++chunk)
 		{
-			for (int id = 0; id < filesCount; ++id)
+			int chunkSize = 0;
+
+			for (int id = 0; id < filesCount; ++id, pos += 4)
 			{
-				int chunkSize = chunkSizes[id][chunk];
+				chunkSize += Ints.fromBytes(data[pos], data[pos + 1], data[pos + 2], data[pos + 3]);
 
-				stream.readBytes(fileContents[id], fileOffsets[id], chunkSize);
+				System.arraycopy(data, dataPos, fileContents[id], fileOffsets[id], chunkSize);
 
+				dataPos += chunkSize;
 				fileOffsets[id] += chunkSize;
 			}
 		}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Fork/join task which loads and decompresses a range of archives,
+ * splitting the range until it is small enough to be done directly.
+ */
+class ArchiveLoadTask extends RecursiveAction
+{
+	private static final int THRESHOLD = 16;
+
+	private final Storage storage;
+	private final List<Archive> archives;
+	private final Function<Archive, int[]> keys;
+	private final byte[][] results;
+	private final int from;
+	private final int to;
+
+	ArchiveLoadTask(Storage storage, List<Archive> archives, Function<Archive, int[]> keys, byte[][] results, int from, int to)
+	{
+		this.storage = storage;
+		this.archives = archives;
+		this.keys = keys;
+		this.results = results;
+		this.from = from;
+		this.to = to;
+	}
+
+	@Override
+	protected void compute()
+	{
+		if (to - from <= THRESHOLD)
+		{
+			for (int i = from; i < to; ++i)
+			{
+				results[i] = load(archives.get(i));
+			}
+			return;
+		}
+
+		int mid = (from + to) >>> 1;
+		invokeAll(new ArchiveLoadTask(storage, archives, keys, results, from, mid),
+			new ArchiveLoadTask(storage, archives, keys, results, mid, to));
+	}
+
+	private byte[] load(Archive archive)
+	{
+		try
+		{
+			byte[] data = storage.loadArchive(archive);
+			if (data == null)
+			{
+				return null;
+			}
+
+			int[] key = keys != null ? keys.apply(archive) : null;
+			return archive.decompress(data, key);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+	}
+}
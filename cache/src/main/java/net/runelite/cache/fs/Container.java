@@ -27,8 +27,8 @@ package net.runelite.cache.fs;
 import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
+import java.util.Arrays;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
@@ -41,6 +41,15 @@ public class Container
 {
 	private static final Logger logger = LoggerFactory.getLogger(Container.class);
 
+	private static final byte[] BZIP_BLOCK_MAGIC = new byte[]
+	{
+		0x31, 0x41, 0x59, 0x26, 0x53, 0x59 // pi
+	};
+	private static final byte[] GZIP_MAGIC = new byte[]
+	{
+		0x1f, (byte) 0x8b, 0x08 // magic, deflate
+	};
+
 	public byte[] data;
 	public int compression; // compression
 	public int revision;
@@ -92,98 +101,77 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
-
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
+		int compression = b[0] & 0xFF;
+		int compressedLength = Ints.fromBytes(b[1], b[2], b[3], b[4]);
 		if (compressedLength < 0 || compressedLength > 1000000)
 		{
 			throw new RuntimeException("Invalid data");
 		}
 
-		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
-
-		byte[] data;
-		int revision = -1;
+		// compressed archives are prefixed with their decompressed length
+		int payloadLength;
 		switch (compression)
 		{
 			case CompressionType.NONE:
-			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
-
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				data = decryptedData;
-
+				payloadLength = compressedLength;
 				break;
-			}
 			case CompressionType.BZ2:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
+			case CompressionType.GZ:
+				payloadLength = compressedLength + 4;
+				break;
+			default:
+				throw new RuntimeException("Unknown decompression type");
+		}
 
-				stream = new InputStream(decryptedData);
+		Crc32 crc32 = new Crc32();
+		crc32.update(b, 0, 5 + payloadLength); // compression + length + payload
 
-				int decompressedLength = stream.readInt();
-				data = BZip2.decompress(stream.getRemaining(), compressedLength);
+		int revision = -1;
+		if (b.length - (5 + payloadLength) >= 2)
+		{
+			revision = ((b[5 + payloadLength] & 0xFF) << 8) | (b[5 + payloadLength + 1] & 0xFF);
+		}
 
-				if (data == null)
-				{
-					return null;
-				}
+		// the payload is read directly out of the source buffer, unless
+		// it has to be copied to be decrypted
+		byte[] payload = b;
+		int payloadOffset = 5;
+		if (keys != null)
+		{
+			payload = Arrays.copyOfRange(b, 5, 5 + payloadLength);
+			payloadOffset = 0;
+			new Xtea(keys).decrypt(payload, 0, payloadLength);
+		}
 
-				assert data.length == decompressedLength;
+		byte[] data;
+		if (compression == CompressionType.NONE)
+		{
+			data = payload == b
+				? Arrays.copyOfRange(b, 5, 5 + payloadLength)
+				: payload;
+		}
+		else
+		{
+			int decompressedLength = Ints.fromBytes(payload[payloadOffset], payload[payloadOffset + 1],
+				payload[payloadOffset + 2], payload[payloadOffset + 3]);
+			int dataOffset = payloadOffset + 4;
+
+			// the output is sized from the decompressed length, so make sure the
+			// data was decrypted correctly before trusting it
+			if (decompressedLength < 0
+				|| (decompressedLength > 0 && !hasMagic(compression, payload, dataOffset, compressedLength)))
+			{
+				throw new IOException("Invalid compressed data");
+			}
 
-				break;
+			if (compression == CompressionType.BZ2)
+			{
+				data = BZip2.decompress(payload, dataOffset, compressedLength, decompressedLength);
 			}
-			case CompressionType.GZ:
+			else
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
-				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
-				}
-
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = GZip.decompress(stream.getRemaining(), compressedLength);
-
-				if (data == null)
-				{
-					return null;
-				}
-
-				assert data.length == decompressedLength;
-
-				break;
+				data = GZip.decompress(payload, dataOffset, compressedLength, decompressedLength);
 			}
-			default:
-				throw new RuntimeException("Unknown decompression type");
 		}
 
 		Container container = new Container(compression, revision);
@@ -192,15 +180,22 @@ public class Container
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	private static boolean hasMagic(int compression, byte[] data, int off, int len)
 	{
-		if (keys == null)
+		byte[] magic = compression == CompressionType.BZ2 ? BZIP_BLOCK_MAGIC : GZIP_MAGIC;
+		if (len < magic.length)
 		{
-			return data;
+			return false;
 		}
 
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+		for (int i = 0; i < magic.length; ++i)
+		{
+			if (data[off + i] != magic[i])
+			{
+				return false;
+			}
+		}
+		return true;
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
@@ -24,6 +24,8 @@
  */
 package net.runelite.cache.fs;
 
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -47,6 +49,8 @@ public class Index
 	private int compression; // compression method of this index's data in 255
 
 	private final List<Archive> archives = new ArrayList<>();
+	private final IntObjectMap<Archive> archiveIds = new IntObjectHashMap<>();
+	private volatile IntObjectMap<Archive> archiveNames; // lazily built, name hash -> archive
 
 	public Index(int id)
 	{
@@ -145,6 +149,13 @@ public class Index
 		this.compression = compression;
 	}
 
+	/**
+	 * Get the archives of this index. The returned list may be reordered,
+	 * but archives must only be added or removed through
+	 * {@link #addArchive(int)} and {@link #removeArchive(Archive)}.
+	 *
+	 * @return
+	 */
 	public List<Archive> getArchives()
 	{
 		return archives;
@@ -154,32 +165,73 @@ public class Index
 	{
 		Archive archive = new Archive(this, id);
 		this.archives.add(archive);
+		if (!archiveIds.containsKey(id))
+		{
+			archiveIds.put(id, archive);
+		}
+		archiveNames = null;
 		return archive;
 	}
 
-	public Archive getArchive(int id)
+	public void removeArchive(Archive archive)
 	{
-		for (Archive a : archives)
+		assert archive.getIndex() == this;
+		if (!archives.removeIf(a -> a == archive))
 		{
-			if (a.getArchiveId() == id)
+			return;
+		}
+
+		if (archiveIds.get(archive.getArchiveId()) == archive)
+		{
+			archiveIds.remove(archive.getArchiveId());
+
+			// another archive with the same id may now be the one visible
+			for (Archive a : archives)
 			{
-				return a;
+				if (a.getArchiveId() == archive.getArchiveId())
+				{
+					archiveIds.put(a.getArchiveId(), a);
+					break;
+				}
 			}
 		}
-		return null;
+		archiveNames = null;
+	}
+
+	public Archive getArchive(int id)
+	{
+		return archiveIds.get(id);
 	}
 
 	public Archive findArchiveByName(String name)
 	{
-		int hash = Djb2.hash(name);
-		for (Archive a : archives)
+		return findArchiveByNameHash(Djb2.hash(name));
+	}
+
+	public Archive findArchiveByNameHash(int hash)
+	{
+		IntObjectMap<Archive> names = archiveNames;
+		if (names == null)
 		{
-			if (a.getNameHash() == hash)
+			names = new IntObjectHashMap<>(archives.size());
+			for (Archive a : archives)
 			{
-				return a;
+				if (!names.containsKey(a.getNameHash()))
+				{
+					names.put(a.getNameHash(), a);
+				}
 			}
+			archiveNames = names;
 		}
-		return null;
+		return names.get(hash);
+	}
+
+	/**
+	 * Called when the name hash of one of this index's archives changes
+	 */
+	void invalidateNames()
+	{
+		archiveNames = null;
 	}
 
 	public IndexData toIndexData()
@@ -24,13 +24,18 @@
  */
 package net.runelite.cache.fs;
 
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
 import org.slf4j.Logger;
@@ -42,6 +47,7 @@ public final class Store implements Closeable
 
 	private final Storage storage;
 	private final List<Index> indexes = new ArrayList<>();
+	private final IntObjectMap<Index> indexIds = new IntObjectHashMap<>();
 
 	public Store(File folder) throws IOException
 	{
@@ -96,16 +102,14 @@ public final class Store implements Closeable
 
 	public final Index addIndex(int id) throws FileNotFoundException
 	{
-		for (Index i : indexes)
+		if (indexIds.containsKey(id))
 		{
-			if (i.getId() == id)
-			{
-				throw new IllegalArgumentException("index " + id + " already exists");
-			}
+			throw new IllegalArgumentException("index " + id + " already exists");
 		}
 
 		Index index = new Index(id);
 		this.indexes.add(index);
+		this.indexIds.put(id, index);
 
 		return index;
 	}
@@ -114,6 +118,7 @@ public final class Store implements Closeable
 	{
 		assert indexes.contains(index);
 		indexes.remove(index);
+		indexIds.remove(index.getId());
 	}
 
 	public void load() throws IOException
@@ -126,6 +131,57 @@ public final class Store implements Closeable
 		storage.save(this);
 	}
 
+	/**
+	 * Load and decompress all archives of an index, spread over all
+	 * available processors.
+	 *
+	 * @param index index to load
+	 * @return decompressed archive data, in the order of
+	 * {@link Index#getArchives()}. Entries are null for archives which
+	 * are missing from storage.
+	 * @throws IOException
+	 * @see #loadArchives(List, Function, int)
+	 */
+	public byte[][] loadArchives(Index index) throws IOException
+	{
+		return loadArchives(index.getArchives(), null, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Load and decompress a set of archives in parallel. Reading, decryption,
+	 * decompression and the crc checks of {@link Archive#decompress(byte[], int[])}
+	 * are all done on the worker threads.
+	 * <p>
+	 * Storage reads are done concurrently, so this benefits most from a
+	 * storage which supports lock free reads, such as a memory mapped
+	 * {@link net.runelite.cache.fs.jagex.DiskStorage}.
+	 *
+	 * @param archives archives to load
+	 * @param keys function returning the xtea keys for an archive, may be null
+	 * @param parallelism maximum number of threads to use
+	 * @return decompressed archive data, in the same order as archives. Entries
+	 * are null for archives which are missing from storage or can't be decrypted.
+	 * @throws IOException if any archive fails to load
+	 */
+	public byte[][] loadArchives(List<Archive> archives, Function<Archive, int[]> keys, int parallelism) throws IOException
+	{
+		byte[][] results = new byte[archives.size()][];
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try
+		{
+			pool.invoke(new ArchiveLoadTask(storage, archives, keys, results, 0, archives.size()));
+		}
+		catch (UncheckedIOException ex)
+		{
+			throw ex.getCause();
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+		return results;
+	}
+
 	public List<Index> getIndexes()
 	{
 		return indexes;
@@ -138,13 +194,6 @@ public final class Store implements Closeable
 
 	public Index findIndex(int id)
 	{
-		for (Index i : indexes)
-		{
-			if (i.getId() == id)
-			{
-				return i;
-			}
-		}
-		return null;
+		return indexIds.get(id);
 	}
 }
@@ -30,6 +30,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,23 +42,90 @@ public class DataFile implements Closeable
 	private static final int SECTOR_SIZE = 520;
 
 	private final RandomAccessFile dat;
+	private final boolean memoryMapped;
+	private volatile MappedByteBuffer mapping;
+	private volatile boolean unmappable;
 
 	public DataFile(File file) throws FileNotFoundException
+	{
+		this(file, false);
+	}
+
+	/**
+	 * @param file data file
+	 * @param memoryMapped whether reads should go through a memory mapping
+	 * of the file instead of seeking the underlying file. Mapped reads do
+	 * not lock and may be issued concurrently from any number of threads.
+	 * @throws FileNotFoundException
+	 */
+	public DataFile(File file, boolean memoryMapped) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.memoryMapped = memoryMapped;
 	}
 
 	@Override
-	public void close() throws IOException
+	public synchronized void close() throws IOException
 	{
+		mapping = null;
 		dat.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
+		mapping = null;
+		unmappable = false;
 		dat.setLength(0L);
 	}
 
+	/**
+	 * Get a mapping of the data file which covers at least the given
+	 * sector, remapping the file if it has grown since it was last mapped.
+	 *
+	 * @param sector sector which must be readable from the mapping
+	 * @return the mapping, or null if the file can't be mapped
+	 * @throws IOException
+	 */
+	private MappedByteBuffer getMapping(int sector) throws IOException
+	{
+		if (unmappable)
+		{
+			return null;
+		}
+
+		MappedByteBuffer map = mapping;
+		if (map != null && map.capacity() / SECTOR_SIZE >= sector)
+		{
+			return map;
+		}
+
+		synchronized (this)
+		{
+			map = mapping;
+			if (map != null && map.capacity() / SECTOR_SIZE >= sector)
+			{
+				return map;
+			}
+
+			FileChannel channel = dat.getChannel();
+			long length = channel.size();
+			if (length > Integer.MAX_VALUE)
+			{
+				if (!unmappable)
+				{
+					logger.warn("data file is too large to map ({} bytes), falling back to file reads", length);
+					unmappable = true;
+				}
+				mapping = null;
+				return null;
+			}
+
+			map = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+			mapping = map;
+			return map;
+		}
+	}
+
 	/**
 	 *
 	 * @param indexId expected index of archive of contents being read
@@ -68,7 +137,25 @@ public class DataFile implements Closeable
 	 */
 	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
 	{
-		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
+		if (memoryMapped)
+		{
+			MappedByteBuffer map = getMapping(sector);
+			if (map != null)
+			{
+				return readMapped(map, indexId, archiveId, sector, size);
+			}
+		}
+
+		synchronized (this)
+		{
+			return readFile(indexId, archiveId, sector, size);
+		}
+	}
+
+	private byte[] readFile(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		long sectors = dat.length() / SECTOR_SIZE;
+		if (sector <= 0L || sectors < (long) sector)
 		{
 			logger.warn("bad read, dat length {}, requested sector {}", dat.length(), sector);
 			return null;
@@ -153,7 +240,7 @@ public class DataFile implements Closeable
 				return null;
 			}
 
-			if (nextSector < 0 || dat.length() / SECTOR_SIZE < (long) nextSector)
+			if (nextSector < 0 || sectors < (long) nextSector)
 			{
 				logger.warn("Invalid next sector");
 				return null;
@@ -169,7 +256,104 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
-	public DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
+	private byte[] readMapped(MappedByteBuffer map, int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		if (sector <= 0L || map.capacity() / SECTOR_SIZE < sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", map.capacity(), sector);
+			return null;
+		}
+
+		// positional reads are done on a private view so concurrent readers don't interfere
+		ByteBuffer view = map.duplicate();
+		byte[] data = new byte[size];
+		boolean largeArchive = archiveId > 0xFFFF;
+		int headerSize = largeArchive ? 10 : 8;
+
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return null;
+			}
+
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
+			int pos = SECTOR_SIZE * sector;
+			if ((long) pos + headerSize + dataBlockSize > view.capacity())
+			{
+				// the file may have grown since it was mapped
+				map = getMapping(sector + 1);
+				if (map == null || (long) pos + headerSize + dataBlockSize > map.capacity())
+				{
+					logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+					return null;
+				}
+				view = map.duplicate();
+			}
+
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (largeArchive)
+			{
+				currentArchive = view.getInt(pos);
+				currentPart = view.getShort(pos + 4) & 0xFFFF;
+				nextSector = ((view.get(pos + 6) & 0xFF) << 16)
+					| ((view.get(pos + 7) & 0xFF) << 8)
+					| (view.get(pos + 8) & 0xFF);
+				currentIndex = view.get(pos + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = view.getShort(pos) & 0xFFFF;
+				currentPart = view.getShort(pos + 2) & 0xFFFF;
+				nextSector = ((view.get(pos + 4) & 0xFF) << 16)
+					| ((view.get(pos + 5) & 0xFF) << 8)
+					| (view.get(pos + 6) & 0xFF);
+				currentIndex = view.get(pos + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return null;
+			}
+
+			if (nextSector < 0)
+			{
+				logger.warn("Invalid next sector");
+				return null;
+			}
+
+			if (view.capacity() / SECTOR_SIZE < nextSector)
+			{
+				// the file may have grown since it was mapped
+				map = getMapping(nextSector);
+				if (map == null || map.capacity() / SECTOR_SIZE < nextSector)
+				{
+					logger.warn("Invalid next sector");
+					return null;
+				}
+				view = map.duplicate();
+			}
+
+			view.position(pos + headerSize);
+			view.get(data, readBytesCount, dataBlockSize);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return data;
+	}
+
+	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
 		int sector;
 		int startSector;
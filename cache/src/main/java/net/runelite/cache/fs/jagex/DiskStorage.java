@@ -24,12 +24,19 @@
  */
 package net.runelite.cache.fs.jagex;
 
+import com.google.common.base.Throwables;
 import com.google.common.primitives.Ints;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
@@ -49,17 +56,30 @@ public class DiskStorage implements Storage
 	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
 
 	private final File folder;
+	private final boolean memoryMapped;
 
 	private final DataFile data;
 	private final IndexFile index255;
-	private final List<IndexFile> indexFiles = new ArrayList<>();
+	private final Map<Integer, IndexFile> indexFiles = new ConcurrentHashMap<>();
 
 	public DiskStorage(File folder) throws IOException
+	{
+		this(folder, false);
+	}
+
+	/**
+	 * @param folder cache folder
+	 * @param memoryMapped whether to read the data and index files through
+	 * memory mappings, allowing archives to be loaded concurrently
+	 * @throws IOException
+	 */
+	public DiskStorage(File folder, boolean memoryMapped) throws IOException
 	{
 		this.folder = folder;
+		this.memoryMapped = memoryMapped;
 
-		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
-		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT), memoryMapped);
+		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"), memoryMapped);
 	}
 
 	@Override
@@ -79,7 +99,7 @@ public class DiskStorage implements Storage
 	{
 		data.close();
 		index255.close();
-		for (IndexFile indexFile : indexFiles)
+		for (IndexFile indexFile : indexFiles.values())
 		{
 			indexFile.close();
 		}
@@ -87,25 +107,64 @@ public class DiskStorage implements Storage
 
 	private IndexFile getIndex(int i) throws FileNotFoundException
 	{
-		for (IndexFile indexFile : indexFiles)
+		IndexFile indexFile = indexFiles.get(i);
+		if (indexFile != null)
+		{
+			return indexFile;
+		}
+
+		synchronized (indexFiles)
 		{
-			if (indexFile.getIndexFileId() == i)
+			indexFile = indexFiles.get(i);
+			if (indexFile == null)
 			{
-				return indexFile;
+				indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i), memoryMapped);
+				indexFiles.put(i, indexFile);
 			}
+			return indexFile;
 		}
-
-		IndexFile indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
-		indexFiles.add(indexFile);
-		return indexFile;
 	}
 
 	@Override
 	public void load(Store store) throws IOException
 	{
+		// indexes are independent of each other, so read and decompress them concurrently
+		List<Callable<Void>> tasks = new ArrayList<>();
 		for (Index index : store.getIndexes())
 		{
-			loadIndex(index);
+			tasks.add(() ->
+			{
+				loadIndex(index);
+				return null;
+			});
+		}
+
+		// the reads block, so they get their own pool rather than the common pool
+		ForkJoinPool pool = new ForkJoinPool(Math.max(1, Math.min(tasks.size(), Runtime.getRuntime().availableProcessors())));
+		try
+		{
+			for (Future<Void> future : pool.invokeAll(tasks))
+			{
+				try
+				{
+					future.get();
+				}
+				catch (InterruptedException ex)
+				{
+					Thread.currentThread().interrupt();
+					throw new IOException(ex);
+				}
+				catch (ExecutionException ex)
+				{
+					Throwables.throwIfInstanceOf(ex.getCause(), IOException.class);
+					Throwables.throwIfUnchecked(ex.getCause());
+					throw new IOException(ex.getCause());
+				}
+			}
+		}
+		finally
+		{
+			pool.shutdown();
 		}
 	}
 
@@ -29,6 +29,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,25 +45,80 @@ public class IndexFile implements Closeable
 	private final File file;
 	private final RandomAccessFile idx;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
+	private final boolean memoryMapped;
+	private volatile MappedByteBuffer mapping;
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
+	{
+		this(indexFileId, file, false);
+	}
+
+	/**
+	 * @param indexFileId id of the index
+	 * @param file index file
+	 * @param memoryMapped whether reads should go through a memory mapping
+	 * of the file, allowing them to be done concurrently without locking
+	 * @throws FileNotFoundException
+	 */
+	public IndexFile(int indexFileId, File file, boolean memoryMapped) throws FileNotFoundException
 	{
 		this.indexFileId = indexFileId;
 		this.file = file;
 		this.idx = new RandomAccessFile(file, "rw");
+		this.memoryMapped = memoryMapped;
 	}
 
 	@Override
-	public void close() throws IOException
+	public synchronized void close() throws IOException
 	{
+		mapping = null;
 		idx.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
+		mapping = null;
 		idx.setLength(0L);
 	}
 
+	/**
+	 * Get a mapping of the index file which covers the given entry,
+	 * remapping the file if it has grown since it was last mapped.
+	 *
+	 * @param id entry which must be readable from the mapping
+	 * @return the mapping, which might not cover the entry if the file
+	 * is too short, or null if the file can't be mapped
+	 * @throws IOException
+	 */
+	private MappedByteBuffer getMapping(int id) throws IOException
+	{
+		MappedByteBuffer map = mapping;
+		if (map != null && map.capacity() / INDEX_ENTRY_LEN > id)
+		{
+			return map;
+		}
+
+		synchronized (this)
+		{
+			map = mapping;
+			if (map != null && map.capacity() / INDEX_ENTRY_LEN > id)
+			{
+				return map;
+			}
+
+			FileChannel channel = idx.getChannel();
+			long length = channel.size();
+			if (length > Integer.MAX_VALUE)
+			{
+				return null;
+			}
+
+			map = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+			mapping = map;
+			return map;
+		}
+	}
+
 	@Override
 	public int hashCode()
 	{
@@ -109,7 +166,24 @@ public class IndexFile implements Closeable
 		idx.write(buffer);
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	public IndexEntry read(int id) throws IOException
+	{
+		if (memoryMapped)
+		{
+			MappedByteBuffer map = getMapping(id);
+			if (map != null)
+			{
+				return readMapped(map, id);
+			}
+		}
+
+		synchronized (this)
+		{
+			return readFile(id);
+		}
+	}
+
+	private IndexEntry readFile(int id) throws IOException
 	{
 		idx.seek(id * INDEX_ENTRY_LEN);
 		int i = idx.read(buffer);
@@ -122,6 +196,26 @@ public class IndexFile implements Closeable
 		int length = ((buffer[0] & 0xFF) << 16) | ((buffer[1] & 0xFF) << 8) | (buffer[2] & 0xFF);
 		int sector = ((buffer[3] & 0xFF) << 16) | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
 
+		return createEntry(id, length, sector);
+	}
+
+	private IndexEntry readMapped(MappedByteBuffer map, int id)
+	{
+		int pos = id * INDEX_ENTRY_LEN;
+		if (pos + INDEX_ENTRY_LEN > map.capacity())
+		{
+			logger.debug("short read for id {} on index {}: {}", id, indexFileId, map.capacity() - pos);
+			return null;
+		}
+
+		int length = ((map.get(pos) & 0xFF) << 16) | ((map.get(pos + 1) & 0xFF) << 8) | (map.get(pos + 2) & 0xFF);
+		int sector = ((map.get(pos + 3) & 0xFF) << 16) | ((map.get(pos + 4) & 0xFF) << 8) | (map.get(pos + 5) & 0xFF);
+
+		return createEntry(id, length, sector);
+	}
+
+	private IndexEntry createEntry(int id, int length, int sector)
+	{
 		if (length <= 0 || sector <= 0)
 		{
 			logger.debug("invalid length or sector {}/{}", length, sector);
@@ -72,6 +72,26 @@ class Graphics3D extends Rasterizer2D
 	int[] rasterClipY = new int[1024];
 	public int[] colorPalette;
 
+	// scratch buffers for rendering models
+	boolean[] field1887 = new boolean[4700];
+	boolean[] field1885 = new boolean[4700];
+	int[] modelViewportYs = new int[4700];
+	int[] modelViewportXs = new int[4700];
+	int[] modelViewportZs = new int[4700];
+	int[] yViewportBuffer = new int[4700];
+	int[] field1839 = new int[4700];
+	int[] field1869 = new int[4700];
+	int[] field1871 = new int[1600];
+	int[][] field1868 = new int[1600][512];
+	int[] field1872 = new int[12];
+	int[][] field1874 = new int[12][2000];
+	int[] field1857 = new int[2000];
+	int[] field1863 = new int[2000];
+	int[] field1877 = new int[12];
+	int[] field1831 = new int[10];
+	int[] field1837 = new int[10];
+	int[] xViewportBuffer = new int[10];
+
 	public Graphics3D(RSTextureProvider textureProvider)
 	{
 		this.textureProvider = textureProvider;
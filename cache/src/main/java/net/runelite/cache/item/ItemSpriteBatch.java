@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import com.google.common.base.Throwables;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.imageio.ImageIO;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+
+/**
+ * Renders the sprites of many items across a number of threads. Textures
+ * and the color palette are loaded once and shared by all threads, and
+ * each thread renders into its own {@link Graphics3D}.
+ * <p>
+ * The providers are called from all of the threads at once, and the model
+ * provider must return a new model definition for each call, as it is
+ * modified when it is lit.
+ */
+@Slf4j
+public class ItemSpriteBatch
+{
+	@FunctionalInterface
+	public interface SpriteConsumer
+	{
+		/**
+		 * Called from the rendering threads for each sprite rendered
+		 */
+		void accept(ItemDefinition item, int quantity, BufferedImage sprite) throws IOException;
+	}
+
+	private final ItemProvider itemProvider;
+	private final ModelProvider modelProvider;
+	private final RSTextureProvider textureProvider;
+	private final int[] colorPalette;
+
+	@Getter
+	@Setter
+	private int border = 1;
+
+	@Getter
+	@Setter
+	private int shadowColor = 3153952;
+
+	public ItemSpriteBatch(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider)
+	{
+		this.itemProvider = itemProvider;
+		this.modelProvider = modelProvider;
+		this.textureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		this.textureProvider.loadAll();
+		this.colorPalette = ItemSpriteFactory.createGraphics(this.textureProvider).colorPalette;
+	}
+
+	private Graphics3D createGraphics()
+	{
+		Graphics3D graphics = new Graphics3D(textureProvider);
+		graphics.colorPalette = colorPalette;
+		return graphics;
+	}
+
+	/**
+	 * Get the quantities at which the sprite of an item changes, starting
+	 * with 1
+	 */
+	public static int[] getQuantities(ItemDefinition item)
+	{
+		if (item.countCo == null)
+		{
+			return new int[]{1};
+		}
+
+		return IntStream.concat(IntStream.of(1), Arrays.stream(item.countCo))
+			.filter(quantity -> quantity != 0)
+			.distinct()
+			.sorted()
+			.toArray();
+	}
+
+	/**
+	 * Render the sprite of an item on the calling thread, with a
+	 * {@link Graphics3D} created for just this call
+	 *
+	 * @return the sprite, or null if the item has no model
+	 * @throws IOException
+	 */
+	public BufferedImage render(int itemId, int quantity) throws IOException
+	{
+		return render(createGraphics(), itemId, quantity);
+	}
+
+	private BufferedImage render(Graphics3D graphics, int itemId, int quantity) throws IOException
+	{
+		SpritePixels spritePixels = ItemSpriteFactory.createSpritePixels(itemProvider, modelProvider, graphics,
+			itemId, quantity, border, shadowColor, false);
+		return spritePixels == null ? null : spritePixels.toBufferedImage();
+	}
+
+	/**
+	 * Render every quantity of the given items
+	 *
+	 * @param items items to render
+	 * @param threads number of threads to render on
+	 * @param consumer consumer for the rendered sprites
+	 * @return the number of sprites rendered
+	 * @throws IOException if the consumer throws
+	 */
+	public int render(Collection<ItemDefinition> items, int threads, SpriteConsumer consumer) throws IOException
+	{
+		List<ItemDefinition> queue = new ArrayList<>(items);
+		AtomicInteger next = new AtomicInteger();
+		int workers = Math.max(1, Math.min(threads, queue.size()));
+
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		try
+		{
+			// each worker renders into its own graphics, which is dropped when the worker finishes
+			List<Future<Integer>> futures = new ArrayList<>(workers);
+			for (int i = 0; i < workers; ++i)
+			{
+				futures.add(executor.submit(() ->
+				{
+					Graphics3D graphics = createGraphics();
+					int count = 0;
+					for (int idx; (idx = next.getAndIncrement()) < queue.size(); )
+					{
+						count += renderItem(graphics, queue.get(idx), consumer);
+					}
+					return count;
+				}));
+			}
+
+			int count = 0;
+			for (Future<Integer> future : futures)
+			{
+				count += future.get();
+			}
+			return count;
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException(ex);
+		}
+		catch (ExecutionException ex)
+		{
+			Throwables.throwIfInstanceOf(ex.getCause(), IOException.class);
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw new IOException(ex.getCause());
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	private int renderItem(Graphics3D graphics, ItemDefinition item, SpriteConsumer consumer) throws IOException
+	{
+		int count = 0;
+
+		for (int quantity : getQuantities(item))
+		{
+			BufferedImage sprite;
+			try
+			{
+				sprite = render(graphics, item.id, quantity);
+			}
+			catch (RuntimeException | IOException ex)
+			{
+				log.warn("error rendering item {} quantity {}", item.id, quantity, ex);
+				continue;
+			}
+
+			if (sprite != null)
+			{
+				consumer.accept(item, quantity, sprite);
+				++count;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Render every quantity of the given items to PNG files in a directory,
+	 * named by item id, and by item id and quantity for quantities above 1
+	 *
+	 * @return the number of sprites written
+	 * @throws IOException
+	 */
+	public int writeTo(Collection<ItemDefinition> items, int threads, File outDir) throws IOException
+	{
+		return render(items, threads, (item, quantity, sprite) ->
+		{
+			String name = quantity == 1 ? Integer.toString(item.id) : item.id + "_" + quantity;
+			ImageIO.write(sprite, "PNG", new File(outDir, name + ".png"));
+		});
+	}
+}
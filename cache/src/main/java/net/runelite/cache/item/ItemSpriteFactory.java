@@ -32,8 +32,6 @@ import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.definitions.providers.ModelProvider;
 import net.runelite.cache.definitions.providers.SpriteProvider;
 import net.runelite.cache.definitions.providers.TextureProvider;
-import net.runelite.cache.models.FaceNormal;
-import net.runelite.cache.models.VertexNormal;
 
 public class ItemSpriteFactory
 {
@@ -42,13 +40,26 @@ public class ItemSpriteFactory
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
-		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+		Graphics3D graphics = createGraphics(new RSTextureProvider(textureProvider, spriteProvider));
+		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, graphics,
 			itemId, quantity, border, shadowColor, noted);
 		return spritePixels == null ? null : spritePixels.toBufferedImage();
 	}
 
-	private static final SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
-		SpriteProvider spriteProvider, TextureProvider textureProvider,
+	static Graphics3D createGraphics(RSTextureProvider textureProvider)
+	{
+		Graphics3D graphics = new Graphics3D(textureProvider);
+		graphics.setBrightness(0.6d);
+		return graphics;
+	}
+
+	/**
+	 * Render an item sprite. The graphics is only used for the duration of
+	 * the call, so one may be reused for any number of sprites, but not
+	 * from more than one thread at a time.
+	 */
+	static final SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
+		Graphics3D graphics,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
@@ -86,7 +97,7 @@ public class ItemSpriteFactory
 		SpritePixels auxSpritePixels = null;
 		if (item.notedTemplate != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, graphics,
 				item.notedID, 10, 1, 0, true);
 			if (auxSpritePixels == null)
 			{
@@ -95,7 +106,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.boughtTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, graphics,
 				item.boughtId, quantity, border, shadowColor, false);
 			if (auxSpritePixels == null)
 			{
@@ -104,7 +115,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.placeholderTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, graphics,
 				item.placeholderId, quantity, 0, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -112,11 +123,7 @@ public class ItemSpriteFactory
 			}
 		}
 
-		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
-
 		SpritePixels spritePixels = new SpritePixels(36, 32);
-		Graphics3D graphics = new Graphics3D(rsTextureProvider);
-		graphics.setBrightness(0.6d);
 		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
 		graphics.reset();
 		graphics.setRasterClipping();
@@ -220,7 +227,7 @@ public class ItemSpriteFactory
 
 	private static Model light(ModelDefinition def, int ambient, int contrast, int x, int y, int z)
 	{
-		def.computeNormals();
+		def.computeNormalArrays();
 		int somethingMagnitude = (int) Math.sqrt((double) (z * z + x * x + y * y));
 		int var7 = somethingMagnitude * contrast >> 8;
 		Model litModel = new Model();
@@ -328,17 +335,15 @@ public class ItemSpriteFactory
 				faceType = 2;
 			}
 
-			VertexNormal vertexNormal;
+			int vertex;
 			int tmp;
-			FaceNormal faceNormal;
 			if (faceTexture == -1)
 			{
 				if (faceType != 0)
 				{
 					if (faceType == 1)
 					{
-						faceNormal = def.faceNormals[faceIdx];
-						tmp = (y * faceNormal.y + z * faceNormal.z + x * faceNormal.x) / (var7 / 2 + var7) + ambient;
+						tmp = (y * def.faceNormalsY[faceIdx] + z * def.faceNormalsZ[faceIdx] + x * def.faceNormalsX[faceIdx]) / (var7 / 2 + var7) + ambient;
 						litModel.field1856[faceIdx] = method2608(def.faceColors[faceIdx] & '\uffff', tmp);
 						litModel.field1823[faceIdx] = -1;
 					}
@@ -355,17 +360,17 @@ public class ItemSpriteFactory
 				else
 				{
 					int var15 = def.faceColors[faceIdx] & '\uffff';
-					vertexNormal = def.vertexNormals[def.faceVertexIndices1[faceIdx]];
+					vertex = def.faceVertexIndices1[faceIdx];
 
-					tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+					tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 					litModel.field1856[faceIdx] = method2608(var15, tmp);
-					vertexNormal = def.vertexNormals[def.faceVertexIndices2[faceIdx]];
+					vertex = def.faceVertexIndices2[faceIdx];
 
-					tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+					tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 					litModel.field1854[faceIdx] = method2608(var15, tmp);
-					vertexNormal = def.vertexNormals[def.faceVertexIndices3[faceIdx]];
+					vertex = def.faceVertexIndices3[faceIdx];
 
-					tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+					tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 					litModel.field1823[faceIdx] = method2608(var15, tmp);
 				}
 			}
@@ -373,8 +378,7 @@ public class ItemSpriteFactory
 			{
 				if (faceType == 1)
 				{
-					faceNormal = def.faceNormals[faceIdx];
-					tmp = (y * faceNormal.y + z * faceNormal.z + x * faceNormal.x) / (var7 / 2 + var7) + ambient;
+					tmp = (y * def.faceNormalsY[faceIdx] + z * def.faceNormalsZ[faceIdx] + x * def.faceNormalsX[faceIdx]) / (var7 / 2 + var7) + ambient;
 					litModel.field1856[faceIdx] = bound2to126(tmp);
 					litModel.field1823[faceIdx] = -1;
 				}
@@ -385,17 +389,17 @@ public class ItemSpriteFactory
 			}
 			else
 			{
-				vertexNormal = def.vertexNormals[def.faceVertexIndices1[faceIdx]];
+				vertex = def.faceVertexIndices1[faceIdx];
 
-				tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+				tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 				litModel.field1856[faceIdx] = bound2to126(tmp);
-				vertexNormal = def.vertexNormals[def.faceVertexIndices2[faceIdx]];
+				vertex = def.faceVertexIndices2[faceIdx];
 
-				tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+				tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 				litModel.field1854[faceIdx] = bound2to126(tmp);
-				vertexNormal = def.vertexNormals[def.faceVertexIndices3[faceIdx]];
+				vertex = def.faceVertexIndices3[faceIdx];
 
-				tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+				tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 				litModel.field1823[faceIdx] = bound2to126(tmp);
 			}
 		}
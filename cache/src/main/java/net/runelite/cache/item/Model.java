@@ -26,24 +26,6 @@ package net.runelite.cache.item;
 
 class Model extends Renderable
 {
-	boolean[] field1887 = new boolean[4700];
-	boolean[] field1885 = new boolean[4700];
-	int[] modelViewportYs = new int[4700];
-	int[] modelViewportXs = new int[4700];
-	int[] modelViewportZs = new int[4700];
-	int[] yViewportBuffer = new int[4700];
-	int[] field1839 = new int[4700];
-	int[] field1869 = new int[4700];
-	int[] field1871 = new int[1600];
-	int[][] field1868 = new int[1600][512];
-	int[] field1872 = new int[12];
-	int[][] field1874 = new int[12][2000];
-	int[] field1857 = new int[2000];
-	int[] field1863 = new int[2000];
-	int[] field1877 = new int[12];
-	int[] field1831 = new int[10];
-	int[] field1837 = new int[10];
-	int[] xViewportBuffer = new int[10];
 	static int[] Model_sine;
 	static int[] Model_cosine;
 	static int[] field1890;
@@ -135,7 +117,7 @@ class Model extends Renderable
 
 	public final void rotateAndProject(Graphics3D graphics, int rotation_1, int yRotation, int zRotation, int xRotation, int xOffset, int yOffset, int zOffset)
 	{
-		field1871[0] = -1;
+		graphics.field1871[0] = -1;
 		// (re?)Calculate magnitude as necessary
 		if (this.boundsType != 2 && this.boundsType != 1)
 		{
@@ -204,14 +186,14 @@ class Model extends Renderable
 			z += zOffset;
 			int tmp = y * cosX - z * sinX >> 16;
 			z = y * sinX + z * cosX >> 16;
-			modelViewportZs[i] = z - zRelatedVariable;
-			modelViewportYs[i] = x * graphics.Rasterizer3D_zoom / z + graphics.centerX;
-			modelViewportXs[i] = tmp * graphics.Rasterizer3D_zoom / z + graphics.centerY;
+			graphics.modelViewportZs[i] = z - zRelatedVariable;
+			graphics.modelViewportYs[i] = x * graphics.Rasterizer3D_zoom / z + graphics.centerX;
+			graphics.modelViewportXs[i] = tmp * graphics.Rasterizer3D_zoom / z + graphics.centerY;
 			if (this.field1852 > 0)
 			{
-				yViewportBuffer[i] = x;
-				field1839[i] = tmp;
-				field1869[i] = z;
+				graphics.yViewportBuffer[i] = x;
+				graphics.field1839[i] = tmp;
+				graphics.field1869[i] = z;
 			}
 		}
 
@@ -225,7 +207,7 @@ class Model extends Renderable
 		{
 			for (int var5 = 0; var5 < this.diameter; ++var5)
 			{
-				field1871[var5] = 0;
+				graphics.field1871[var5] = 0;
 			}
 
 			int var7;
@@ -251,20 +233,20 @@ class Model extends Renderable
 					var7 = this.indices1[var26];
 					var27 = this.indices2[var26];
 					var9 = this.indices3[var26];
-					var10 = modelViewportYs[var7];
-					var11 = modelViewportYs[var27];
-					var12 = modelViewportYs[var9];
+					var10 = graphics.modelViewportYs[var7];
+					var11 = graphics.modelViewportYs[var27];
+					var12 = graphics.modelViewportYs[var9];
 					if (var1 && (var10 == -5000 || var11 == -5000 || var12 == -5000))
 					{
-						var13 = yViewportBuffer[var7];
-						var14 = yViewportBuffer[var27];
-						var15 = yViewportBuffer[var9];
-						var16 = field1839[var7];
-						var17 = field1839[var27];
-						var18 = field1839[var9];
-						var19 = field1869[var7];
-						var20 = field1869[var27];
-						int var21 = field1869[var9];
+						var13 = graphics.yViewportBuffer[var7];
+						var14 = graphics.yViewportBuffer[var27];
+						var15 = graphics.yViewportBuffer[var9];
+						var16 = graphics.field1839[var7];
+						var17 = graphics.field1839[var27];
+						var18 = graphics.field1839[var9];
+						var19 = graphics.field1869[var7];
+						var20 = graphics.field1869[var27];
+						int var21 = graphics.field1869[var9];
 						var13 -= var14;
 						var15 -= var14;
 						var16 -= var17;
@@ -276,27 +258,27 @@ class Model extends Renderable
 						int var24 = var13 * var18 - var16 * var15;
 						if (var14 * var22 + var17 * var23 + var20 * var24 > 0)
 						{
-							field1885[var26] = true;
-							int var25 = (modelViewportZs[var7] + modelViewportZs[var27] + modelViewportZs[var9]) / 3 + this.radius;
-							field1868[var25][field1871[var25]++] = var26;
+							graphics.field1885[var26] = true;
+							int var25 = (graphics.modelViewportZs[var7] + graphics.modelViewportZs[var27] + graphics.modelViewportZs[var9]) / 3 + this.radius;
+							graphics.field1868[var25][graphics.field1871[var25]++] = var26;
 						}
 					}
 					else
 					{
-						if ((var10 - var11) * (modelViewportXs[var9] - modelViewportXs[var27]) - (var12 - var11) * (modelViewportXs[var7] - modelViewportXs[var27]) > 0)
+						if ((var10 - var11) * (graphics.modelViewportXs[var9] - graphics.modelViewportXs[var27]) - (var12 - var11) * (graphics.modelViewportXs[var7] - graphics.modelViewportXs[var27]) > 0)
 						{
-							field1885[var26] = false;
+							graphics.field1885[var26] = false;
 							if (var10 >= 0 && var11 >= 0 && var12 >= 0 && var10 <= graphics.rasterClipX && var11 <= graphics.rasterClipX && var12 <= graphics.rasterClipX)
 							{
-								field1887[var26] = false;
+								graphics.field1887[var26] = false;
 							}
 							else
 							{
-								field1887[var26] = true;
+								graphics.field1887[var26] = true;
 							}
 
-							var13 = (modelViewportZs[var7] + modelViewportZs[var27] + modelViewportZs[var9]) / 3 + this.radius;
-							field1868[var13][field1871[var13]++] = var26;
+							var13 = (graphics.modelViewportZs[var7] + graphics.modelViewportZs[var27] + graphics.modelViewportZs[var9]) / 3 + this.radius;
+							graphics.field1868[var13][graphics.field1871[var13]++] = var26;
 						}
 					}
 				}
@@ -307,10 +289,10 @@ class Model extends Renderable
 			{
 				for (var26 = this.diameter - 1; var26 >= 0; --var26)
 				{
-					var7 = field1871[var26];
+					var7 = graphics.field1871[var26];
 					if (var7 > 0)
 					{
-						var8 = field1868[var26];
+						var8 = graphics.field1868[var26];
 
 						for (var9 = 0; var9 < var7; ++var9)
 						{
@@ -324,67 +306,67 @@ class Model extends Renderable
 			{
 				for (var26 = 0; var26 < 12; ++var26)
 				{
-					field1872[var26] = 0;
-					field1877[var26] = 0;
+					graphics.field1872[var26] = 0;
+					graphics.field1877[var26] = 0;
 				}
 
 				for (var26 = this.diameter - 1; var26 >= 0; --var26)
 				{
-					var7 = field1871[var26];
+					var7 = graphics.field1871[var26];
 					if (var7 > 0)
 					{
-						var8 = field1868[var26];
+						var8 = graphics.field1868[var26];
 
 						for (var9 = 0; var9 < var7; ++var9)
 						{
 							var10 = var8[var9];
 							byte var31 = this.field1838[var10];
-							var12 = field1872[var31]++;
-							field1874[var31][var12] = var10;
+							var12 = graphics.field1872[var31]++;
+							graphics.field1874[var31][var12] = var10;
 							if (var31 < 10)
 							{
-								field1877[var31] += var26;
+								graphics.field1877[var31] += var26;
 							}
 							else if (var31 == 10)
 							{
-								field1857[var12] = var26;
+								graphics.field1857[var12] = var26;
 							}
 							else
 							{
-								field1863[var12] = var26;
+								graphics.field1863[var12] = var26;
 							}
 						}
 					}
 				}
 
 				var26 = 0;
-				if (field1872[1] > 0 || field1872[2] > 0)
+				if (graphics.field1872[1] > 0 || graphics.field1872[2] > 0)
 				{
-					var26 = (field1877[1] + field1877[2]) / (field1872[1] + field1872[2]);
+					var26 = (graphics.field1877[1] + graphics.field1877[2]) / (graphics.field1872[1] + graphics.field1872[2]);
 				}
 
 				var7 = 0;
-				if (field1872[3] > 0 || field1872[4] > 0)
+				if (graphics.field1872[3] > 0 || graphics.field1872[4] > 0)
 				{
-					var7 = (field1877[3] + field1877[4]) / (field1872[3] + field1872[4]);
+					var7 = (graphics.field1877[3] + graphics.field1877[4]) / (graphics.field1872[3] + graphics.field1872[4]);
 				}
 
 				var27 = 0;
-				if (field1872[6] > 0 || field1872[8] > 0)
+				if (graphics.field1872[6] > 0 || graphics.field1872[8] > 0)
 				{
-					var27 = (field1877[8] + field1877[6]) / (field1872[8] + field1872[6]);
+					var27 = (graphics.field1877[8] + graphics.field1877[6]) / (graphics.field1872[8] + graphics.field1872[6]);
 				}
 
 				var10 = 0;
-				var11 = field1872[10];
-				int[] var28 = field1874[10];
-				int[] var29 = field1857;
+				var11 = graphics.field1872[10];
+				int[] var28 = graphics.field1874[10];
+				int[] var29 = graphics.field1857;
 				if (var10 == var11)
 				{
 					var10 = 0;
-					var11 = field1872[11];
-					var28 = field1874[11];
-					var29 = field1863;
+					var11 = graphics.field1872[11];
+					var28 = graphics.field1874[11];
+					var29 = graphics.field1863;
 				}
 
 				if (var10 < var11)
@@ -401,12 +383,12 @@ class Model extends Renderable
 					while (var14 == 0 && var9 > var26)
 					{
 						this.method2706(graphics, var28[var10++]);
-						if (var10 == var11 && var28 != field1874[11])
+						if (var10 == var11 && var28 != graphics.field1874[11])
 						{
 							var10 = 0;
-							var11 = field1872[11];
-							var28 = field1874[11];
-							var29 = field1863;
+							var11 = graphics.field1872[11];
+							var28 = graphics.field1874[11];
+							var29 = graphics.field1863;
 						}
 
 						if (var10 < var11)
@@ -422,12 +404,12 @@ class Model extends Renderable
 					while (var14 == 3 && var9 > var7)
 					{
 						this.method2706(graphics, var28[var10++]);
-						if (var10 == var11 && var28 != field1874[11])
+						if (var10 == var11 && var28 != graphics.field1874[11])
 						{
 							var10 = 0;
-							var11 = field1872[11];
-							var28 = field1874[11];
-							var29 = field1863;
+							var11 = graphics.field1872[11];
+							var28 = graphics.field1874[11];
+							var29 = graphics.field1863;
 						}
 
 						if (var10 < var11)
@@ -443,12 +425,12 @@ class Model extends Renderable
 					while (var14 == 5 && var9 > var27)
 					{
 						this.method2706(graphics, var28[var10++]);
-						if (var10 == var11 && var28 != field1874[11])
+						if (var10 == var11 && var28 != graphics.field1874[11])
 						{
 							var10 = 0;
-							var11 = field1872[11];
-							var28 = field1874[11];
-							var29 = field1863;
+							var11 = graphics.field1872[11];
+							var28 = graphics.field1874[11];
+							var29 = graphics.field1863;
 						}
 
 						if (var10 < var11)
@@ -461,8 +443,8 @@ class Model extends Renderable
 						}
 					}
 
-					var15 = field1872[var14];
-					int[] var30 = field1874[var14];
+					var15 = graphics.field1872[var14];
+					int[] var30 = graphics.field1874[var14];
 
 					for (var17 = 0; var17 < var15; ++var17)
 					{
@@ -473,12 +455,12 @@ class Model extends Renderable
 				while (var9 != -1000)
 				{
 					this.method2706(graphics, var28[var10++]);
-					if (var10 == var11 && var28 != field1874[11])
+					if (var10 == var11 && var28 != graphics.field1874[11])
 					{
 						var10 = 0;
-						var28 = field1874[11];
-						var11 = field1872[11];
-						var29 = field1863;
+						var28 = graphics.field1874[11];
+						var11 = graphics.field1872[11];
+						var29 = graphics.field1863;
 					}
 
 					if (var10 < var11)
@@ -497,7 +479,7 @@ class Model extends Renderable
 
 	private void method2706(Graphics3D graphics, int var1)
 	{
-		if (field1885[var1])
+		if (graphics.field1885[var1])
 		{
 			this.method2707(graphics, var1);
 		}
@@ -506,7 +488,7 @@ class Model extends Renderable
 			int var2 = this.indices1[var1];
 			int var3 = this.indices2[var1];
 			int var4 = this.indices3[var1];
-			graphics.rasterClipEnable = field1887[var1];
+			graphics.rasterClipEnable = graphics.field1887[var1];
 			if (this.field1882 == null)
 			{
 				graphics.rasterAlpha = 0;
@@ -537,21 +519,21 @@ class Model extends Renderable
 
 				if (this.field1823[var1] == -1)
 				{
-					graphics.rasterTextureAffine(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], this.field1856[var1], this.field1856[var1], this.field1856[var1], yViewportBuffer[var5], yViewportBuffer[var6], yViewportBuffer[var7], field1839[var5], field1839[var6], field1839[var7], field1869[var5], field1869[var6], field1869[var7], this.field1841[var1]);
+					graphics.rasterTextureAffine(graphics.modelViewportXs[var2], graphics.modelViewportXs[var3], graphics.modelViewportXs[var4], graphics.modelViewportYs[var2], graphics.modelViewportYs[var3], graphics.modelViewportYs[var4], this.field1856[var1], this.field1856[var1], this.field1856[var1], graphics.yViewportBuffer[var5], graphics.yViewportBuffer[var6], graphics.yViewportBuffer[var7], graphics.field1839[var5], graphics.field1839[var6], graphics.field1839[var7], graphics.field1869[var5], graphics.field1869[var6], graphics.field1869[var7], this.field1841[var1]);
 				}
 				else
 				{
-					graphics.rasterTextureAffine(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], this.field1856[var1], this.field1854[var1], this.field1823[var1], yViewportBuffer[var5], yViewportBuffer[var6], yViewportBuffer[var7], field1839[var5], field1839[var6], field1839[var7], field1869[var5], field1869[var6], field1869[var7], this.field1841[var1]);
+					graphics.rasterTextureAffine(graphics.modelViewportXs[var2], graphics.modelViewportXs[var3], graphics.modelViewportXs[var4], graphics.modelViewportYs[var2], graphics.modelViewportYs[var3], graphics.modelViewportYs[var4], this.field1856[var1], this.field1854[var1], this.field1823[var1], graphics.yViewportBuffer[var5], graphics.yViewportBuffer[var6], graphics.yViewportBuffer[var7], graphics.field1839[var5], graphics.field1839[var6], graphics.field1839[var7], graphics.field1869[var5], graphics.field1869[var6], graphics.field1869[var7], this.field1841[var1]);
 				}
 			}
 			else if (this.field1823[var1] == -1)
 			{
 				int[] field1889 = graphics.colorPalette;
-				graphics.rasterFlat(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], field1889[this.field1856[var1]]);
+				graphics.rasterFlat(graphics.modelViewportXs[var2], graphics.modelViewportXs[var3], graphics.modelViewportXs[var4], graphics.modelViewportYs[var2], graphics.modelViewportYs[var3], graphics.modelViewportYs[var4], field1889[this.field1856[var1]]);
 			}
 			else
 			{
-				graphics.rasterGouraud(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], this.field1856[var1], this.field1854[var1], this.field1823[var1]);
+				graphics.rasterGouraud(graphics.modelViewportXs[var2], graphics.modelViewportXs[var3], graphics.modelViewportXs[var4], graphics.modelViewportYs[var2], graphics.modelViewportYs[var3], graphics.modelViewportYs[var4], this.field1856[var1], this.field1854[var1], this.field1823[var1]);
 			}
 
 		}
@@ -566,9 +548,9 @@ class Model extends Renderable
 		int var5 = this.indices1[var1];
 		int var6 = this.indices2[var1];
 		int var7 = this.indices3[var1];
-		int var8 = field1869[var5];
-		int var9 = field1869[var6];
-		int var10 = field1869[var7];
+		int var8 = graphics.field1869[var5];
+		int var9 = graphics.field1869[var6];
+		int var10 = graphics.field1869[var7];
 		if (this.field1882 == null)
 		{
 			graphics.rasterAlpha = 0;
@@ -584,94 +566,94 @@ class Model extends Renderable
 		int var14;
 		if (var8 >= 50)
 		{
-			field1831[var4] = modelViewportYs[var5];
-			field1837[var4] = modelViewportXs[var5];
-			xViewportBuffer[var4++] = this.field1856[var1];
+			graphics.field1831[var4] = graphics.modelViewportYs[var5];
+			graphics.field1837[var4] = graphics.modelViewportXs[var5];
+			graphics.xViewportBuffer[var4++] = this.field1856[var1];
 		}
 		else
 		{
-			var11 = yViewportBuffer[var5];
-			var12 = field1839[var5];
+			var11 = graphics.yViewportBuffer[var5];
+			var12 = graphics.field1839[var5];
 			var13 = this.field1856[var1];
 			if (var10 >= 50)
 			{
 				var14 = field1890[var10 - var8] * (50 - var8);
-				field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((yViewportBuffer[var7] - var11) * var14 >> 16)) / 50;
-				field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((field1839[var7] - var12) * var14 >> 16)) / 50;
-				xViewportBuffer[var4++] = var13 + ((this.field1823[var1] - var13) * var14 >> 16);
+				graphics.field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((graphics.yViewportBuffer[var7] - var11) * var14 >> 16)) / 50;
+				graphics.field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((graphics.field1839[var7] - var12) * var14 >> 16)) / 50;
+				graphics.xViewportBuffer[var4++] = var13 + ((this.field1823[var1] - var13) * var14 >> 16);
 			}
 
 			if (var9 >= 50)
 			{
 				var14 = field1890[var9 - var8] * (50 - var8);
-				field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((yViewportBuffer[var6] - var11) * var14 >> 16)) / 50;
-				field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((field1839[var6] - var12) * var14 >> 16)) / 50;
-				xViewportBuffer[var4++] = var13 + ((this.field1854[var1] - var13) * var14 >> 16);
+				graphics.field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((graphics.yViewportBuffer[var6] - var11) * var14 >> 16)) / 50;
+				graphics.field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((graphics.field1839[var6] - var12) * var14 >> 16)) / 50;
+				graphics.xViewportBuffer[var4++] = var13 + ((this.field1854[var1] - var13) * var14 >> 16);
 			}
 		}
 
 		if (var9 >= 50)
 		{
-			field1831[var4] = modelViewportYs[var6];
-			field1837[var4] = modelViewportXs[var6];
-			xViewportBuffer[var4++] = this.field1854[var1];
+			graphics.field1831[var4] = graphics.modelViewportYs[var6];
+			graphics.field1837[var4] = graphics.modelViewportXs[var6];
+			graphics.xViewportBuffer[var4++] = this.field1854[var1];
 		}
 		else
 		{
-			var11 = yViewportBuffer[var6];
-			var12 = field1839[var6];
+			var11 = graphics.yViewportBuffer[var6];
+			var12 = graphics.field1839[var6];
 			var13 = this.field1854[var1];
 			if (var8 >= 50)
 			{
 				var14 = field1890[var8 - var9] * (50 - var9);
-				field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((yViewportBuffer[var5] - var11) * var14 >> 16)) / 50;
-				field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((field1839[var5] - var12) * var14 >> 16)) / 50;
-				xViewportBuffer[var4++] = var13 + ((this.field1856[var1] - var13) * var14 >> 16);
+				graphics.field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((graphics.yViewportBuffer[var5] - var11) * var14 >> 16)) / 50;
+				graphics.field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((graphics.field1839[var5] - var12) * var14 >> 16)) / 50;
+				graphics.xViewportBuffer[var4++] = var13 + ((this.field1856[var1] - var13) * var14 >> 16);
 			}
 
 			if (var10 >= 50)
 			{
 				var14 = field1890[var10 - var9] * (50 - var9);
-				field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((yViewportBuffer[var7] - var11) * var14 >> 16)) / 50;
-				field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((field1839[var7] - var12) * var14 >> 16)) / 50;
-				xViewportBuffer[var4++] = var13 + ((this.field1823[var1] - var13) * var14 >> 16);
+				graphics.field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((graphics.yViewportBuffer[var7] - var11) * var14 >> 16)) / 50;
+				graphics.field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((graphics.field1839[var7] - var12) * var14 >> 16)) / 50;
+				graphics.xViewportBuffer[var4++] = var13 + ((this.field1823[var1] - var13) * var14 >> 16);
 			}
 		}
 
 		if (var10 >= 50)
 		{
-			field1831[var4] = modelViewportYs[var7];
-			field1837[var4] = modelViewportXs[var7];
-			xViewportBuffer[var4++] = this.field1823[var1];
+			graphics.field1831[var4] = graphics.modelViewportYs[var7];
+			graphics.field1837[var4] = graphics.modelViewportXs[var7];
+			graphics.xViewportBuffer[var4++] = this.field1823[var1];
 		}
 		else
 		{
-			var11 = yViewportBuffer[var7];
-			var12 = field1839[var7];
+			var11 = graphics.yViewportBuffer[var7];
+			var12 = graphics.field1839[var7];
 			var13 = this.field1823[var1];
 			if (var9 >= 50)
 			{
 				var14 = field1890[var9 - var10] * (50 - var10);
-				field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((yViewportBuffer[var6] - var11) * var14 >> 16)) / 50;
-				field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((field1839[var6] - var12) * var14 >> 16)) / 50;
-				xViewportBuffer[var4++] = var13 + ((this.field1854[var1] - var13) * var14 >> 16);
+				graphics.field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((graphics.yViewportBuffer[var6] - var11) * var14 >> 16)) / 50;
+				graphics.field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((graphics.field1839[var6] - var12) * var14 >> 16)) / 50;
+				graphics.xViewportBuffer[var4++] = var13 + ((this.field1854[var1] - var13) * var14 >> 16);
 			}
 
 			if (var8 >= 50)
 			{
 				var14 = field1890[var8 - var10] * (50 - var10);
-				field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((yViewportBuffer[var5] - var11) * var14 >> 16)) / 50;
-				field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((field1839[var5] - var12) * var14 >> 16)) / 50;
-				xViewportBuffer[var4++] = var13 + ((this.field1856[var1] - var13) * var14 >> 16);
+				graphics.field1831[var4] = var2 + graphics.Rasterizer3D_zoom * (var11 + ((graphics.yViewportBuffer[var5] - var11) * var14 >> 16)) / 50;
+				graphics.field1837[var4] = var3 + graphics.Rasterizer3D_zoom * (var12 + ((graphics.field1839[var5] - var12) * var14 >> 16)) / 50;
+				graphics.xViewportBuffer[var4++] = var13 + ((this.field1856[var1] - var13) * var14 >> 16);
 			}
 		}
 
-		var11 = field1831[0];
-		var12 = field1831[1];
-		var13 = field1831[2];
-		var14 = field1837[0];
-		int var15 = field1837[1];
-		int var16 = field1837[2];
+		var11 = graphics.field1831[0];
+		var12 = graphics.field1831[1];
+		var13 = graphics.field1831[2];
+		var14 = graphics.field1837[0];
+		int var15 = graphics.field1837[1];
+		int var16 = graphics.field1837[2];
 		graphics.rasterClipEnable = false;
 		int var17;
 		int var18;
@@ -702,11 +684,11 @@ class Model extends Renderable
 
 				if (this.field1823[var1] == -1)
 				{
-					graphics.rasterTextureAffine(var14, var15, var16, var11, var12, var13, this.field1856[var1], this.field1856[var1], this.field1856[var1], yViewportBuffer[var17], yViewportBuffer[var18], yViewportBuffer[var19], field1839[var17], field1839[var18], field1839[var19], field1869[var17], field1869[var18], field1869[var19], this.field1841[var1]);
+					graphics.rasterTextureAffine(var14, var15, var16, var11, var12, var13, this.field1856[var1], this.field1856[var1], this.field1856[var1], graphics.yViewportBuffer[var17], graphics.yViewportBuffer[var18], graphics.yViewportBuffer[var19], graphics.field1839[var17], graphics.field1839[var18], graphics.field1839[var19], graphics.field1869[var17], graphics.field1869[var18], graphics.field1869[var19], this.field1841[var1]);
 				}
 				else
 				{
-					graphics.rasterTextureAffine(var14, var15, var16, var11, var12, var13, xViewportBuffer[0], xViewportBuffer[1], xViewportBuffer[2], yViewportBuffer[var17], yViewportBuffer[var18], yViewportBuffer[var19], field1839[var17], field1839[var18], field1839[var19], field1869[var17], field1869[var18], field1869[var19], this.field1841[var1]);
+					graphics.rasterTextureAffine(var14, var15, var16, var11, var12, var13, graphics.xViewportBuffer[0], graphics.xViewportBuffer[1], graphics.xViewportBuffer[2], graphics.yViewportBuffer[var17], graphics.yViewportBuffer[var18], graphics.yViewportBuffer[var19], graphics.field1839[var17], graphics.field1839[var18], graphics.field1839[var19], graphics.field1869[var17], graphics.field1869[var18], graphics.field1869[var19], this.field1841[var1]);
 				}
 			}
 			else if (this.field1823[var1] == -1)
@@ -716,13 +698,13 @@ class Model extends Renderable
 			}
 			else
 			{
-				graphics.rasterGouraud(var14, var15, var16, var11, var12, var13, xViewportBuffer[0], xViewportBuffer[1], xViewportBuffer[2]);
+				graphics.rasterGouraud(var14, var15, var16, var11, var12, var13, graphics.xViewportBuffer[0], graphics.xViewportBuffer[1], graphics.xViewportBuffer[2]);
 			}
 		}
 
 		if (var4 == 4)
 		{
-			if (var11 < 0 || var12 < 0 || var13 < 0 || var11 > graphics.rasterClipX || var12 > graphics.rasterClipX || var13 > graphics.rasterClipX || field1831[3] < 0 || field1831[3] > graphics.rasterClipX)
+			if (var11 < 0 || var12 < 0 || var13 < 0 || var11 > graphics.rasterClipX || var12 > graphics.rasterClipX || var13 > graphics.rasterClipX || graphics.field1831[3] < 0 || graphics.field1831[3] > graphics.rasterClipX)
 			{
 				graphics.rasterClipEnable = true;
 			}
@@ -746,13 +728,13 @@ class Model extends Renderable
 				short var21 = this.field1841[var1];
 				if (this.field1823[var1] == -1)
 				{
-					graphics.rasterTextureAffine(var14, var15, var16, var11, var12, var13, this.field1856[var1], this.field1856[var1], this.field1856[var1], yViewportBuffer[var17], yViewportBuffer[var18], yViewportBuffer[var19], field1839[var17], field1839[var18], field1839[var19], field1869[var17], field1869[var18], field1869[var19], var21);
-					graphics.rasterTextureAffine(var14, var16, field1837[3], var11, var13, field1831[3], this.field1856[var1], this.field1856[var1], this.field1856[var1], yViewportBuffer[var17], yViewportBuffer[var18], yViewportBuffer[var19], field1839[var17], field1839[var18], field1839[var19], field1869[var17], field1869[var18], field1869[var19], var21);
+					graphics.rasterTextureAffine(var14, var15, var16, var11, var12, var13, this.field1856[var1], this.field1856[var1], this.field1856[var1], graphics.yViewportBuffer[var17], graphics.yViewportBuffer[var18], graphics.yViewportBuffer[var19], graphics.field1839[var17], graphics.field1839[var18], graphics.field1839[var19], graphics.field1869[var17], graphics.field1869[var18], graphics.field1869[var19], var21);
+					graphics.rasterTextureAffine(var14, var16, graphics.field1837[3], var11, var13, graphics.field1831[3], this.field1856[var1], this.field1856[var1], this.field1856[var1], graphics.yViewportBuffer[var17], graphics.yViewportBuffer[var18], graphics.yViewportBuffer[var19], graphics.field1839[var17], graphics.field1839[var18], graphics.field1839[var19], graphics.field1869[var17], graphics.field1869[var18], graphics.field1869[var19], var21);
 				}
 				else
 				{
-					graphics.rasterTextureAffine(var14, var15, var16, var11, var12, var13, xViewportBuffer[0], xViewportBuffer[1], xViewportBuffer[2], yViewportBuffer[var17], yViewportBuffer[var18], yViewportBuffer[var19], field1839[var17], field1839[var18], field1839[var19], field1869[var17], field1869[var18], field1869[var19], var21);
-					graphics.rasterTextureAffine(var14, var16, field1837[3], var11, var13, field1831[3], xViewportBuffer[0], xViewportBuffer[2], xViewportBuffer[3], yViewportBuffer[var17], yViewportBuffer[var18], yViewportBuffer[var19], field1839[var17], field1839[var18], field1839[var19], field1869[var17], field1869[var18], field1869[var19], var21);
+					graphics.rasterTextureAffine(var14, var15, var16, var11, var12, var13, graphics.xViewportBuffer[0], graphics.xViewportBuffer[1], graphics.xViewportBuffer[2], graphics.yViewportBuffer[var17], graphics.yViewportBuffer[var18], graphics.yViewportBuffer[var19], graphics.field1839[var17], graphics.field1839[var18], graphics.field1839[var19], graphics.field1869[var17], graphics.field1869[var18], graphics.field1869[var19], var21);
+					graphics.rasterTextureAffine(var14, var16, graphics.field1837[3], var11, var13, graphics.field1831[3], graphics.xViewportBuffer[0], graphics.xViewportBuffer[2], graphics.xViewportBuffer[3], graphics.yViewportBuffer[var17], graphics.yViewportBuffer[var18], graphics.yViewportBuffer[var19], graphics.field1839[var17], graphics.field1839[var18], graphics.field1839[var19], graphics.field1869[var17], graphics.field1869[var18], graphics.field1869[var19], var21);
 				}
 			}
 			else if (this.field1823[var1] == -1)
@@ -760,12 +742,12 @@ class Model extends Renderable
 				int[] field1889 = graphics.colorPalette;
 				var17 = field1889[this.field1856[var1]];
 				graphics.rasterFlat(var14, var15, var16, var11, var12, var13, var17);
-				graphics.rasterFlat(var14, var16, field1837[3], var11, var13, field1831[3], var17);
+				graphics.rasterFlat(var14, var16, graphics.field1837[3], var11, var13, graphics.field1831[3], var17);
 			}
 			else
 			{
-				graphics.rasterGouraud(var14, var15, var16, var11, var12, var13, xViewportBuffer[0], xViewportBuffer[1], xViewportBuffer[2]);
-				graphics.rasterGouraud(var14, var16, field1837[3], var11, var13, field1831[3], xViewportBuffer[0], xViewportBuffer[2], xViewportBuffer[3]);
+				graphics.rasterGouraud(var14, var15, var16, var11, var12, var13, graphics.xViewportBuffer[0], graphics.xViewportBuffer[1], graphics.xViewportBuffer[2]);
+				graphics.rasterGouraud(var14, var16, graphics.field1837[3], var11, var13, graphics.field1831[3], graphics.xViewportBuffer[0], graphics.xViewportBuffer[2], graphics.xViewportBuffer[3]);
 			}
 		}
 
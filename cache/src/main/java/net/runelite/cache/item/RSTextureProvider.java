@@ -64,6 +64,22 @@ public class RSTextureProvider
 		}
 	}
 
+	/**
+	 * Load the pixels of every texture up front. Textures are otherwise
+	 * loaded the first time they are drawn, which is not safe to do from
+	 * multiple threads.
+	 */
+	public void loadAll()
+	{
+		for (int i = 0; i < textures.length; ++i)
+		{
+			if (textures[i] != null)
+			{
+				load(i);
+			}
+		}
+	}
+
 	public int[] load(int var1)
 	{
 		TextureDefinition var2 = this.textures[var1];
@@ -41,12 +41,13 @@ public class Region
 	private final int baseX;
 	private final int baseY;
 
-	private final int[][][] tileHeights = new int[Z][X][Y];
-	private final byte[][][] tileSettings = new byte[Z][X][Y];
-	private final byte[][][] overlayIds = new byte[Z][X][Y];
-	private final byte[][][] overlayPaths = new byte[Z][X][Y];
-	private final byte[][][] overlayRotations = new byte[Z][X][Y];
-	private final byte[][][] underlayIds = new byte[Z][X][Y];
+	// terrain is stored flat, indexed by (z * X + x) * Y + y, see index()
+	private final int[] tileHeights = new int[Z * X * Y];
+	private final byte[] tileSettings = new byte[Z * X * Y];
+	private final byte[] overlayIds = new byte[Z * X * Y];
+	private final byte[] overlayPaths = new byte[Z * X * Y];
+	private final byte[] overlayRotations = new byte[Z * X * Y];
+	private final byte[] underlayIds = new byte[Z * X * Y];
 
 	private final List<Location> locations = new ArrayList<>();
 
@@ -64,6 +65,11 @@ public class Region
 		this.baseY = y << 6;
 	}
 
+	private static int index(int z, int x, int y)
+	{
+		return (z * X + x) * Y + y;
+	}
+
 	public void loadTerrain(MapDefinition map)
 	{
 		Tile[][][] tiles = map.getTiles();
@@ -74,16 +80,17 @@ public class Region
 				for (int y = 0; y < Y; y++)
 				{
 					Tile tile = tiles[z][x][y];
+					int idx = index(z, x, y);
 
 					if (tile.height == null)
 					{
 						if (z == 0)
 						{
-							tileHeights[0][x][y] = -HeightCalc.calculate(baseX + x + 0xe3b7b, baseY + y + 0x87cce) * 8;
+							tileHeights[idx] = -HeightCalc.calculate(baseX + x + 0xe3b7b, baseY + y + 0x87cce) * 8;
 						}
 						else
 						{
-							tileHeights[z][x][y] = tileHeights[z - 1][x][y] - 240;
+							tileHeights[idx] = tileHeights[idx - X * Y] - 240;
 						}
 					}
 					else
@@ -96,20 +103,20 @@ public class Region
 
 						if (z == 0)
 						{
-							tileHeights[0][x][y] = -height * 8;
+							tileHeights[idx] = -height * 8;
 						}
 						else
 						{
-							tileHeights[z][x][y] = tileHeights[z - 1][x][y] - height * 8;
+							tileHeights[idx] = tileHeights[idx - X * Y] - height * 8;
 						}
 					}
 
-					overlayIds[z][x][y] = tile.getOverlayId();
-					overlayPaths[z][x][y] = tile.getOverlayPath();
-					overlayRotations[z][x][y] = tile.getOverlayRotation();
+					overlayIds[idx] = tile.getOverlayId();
+					overlayPaths[idx] = tile.getOverlayPath();
+					overlayRotations[idx] = tile.getOverlayRotation();
 
-					tileSettings[z][x][y] = tile.getSettings();
-					underlayIds[z][x][y] = tile.getUnderlayId();
+					tileSettings[idx] = tile.getSettings();
+					underlayIds[idx] = tile.getUnderlayId();
 				}
 			}
 		}
@@ -144,32 +151,32 @@ public class Region
 
 	public int getTileHeight(int z, int x, int y)
 	{
-		return tileHeights[z][x][y];
+		return tileHeights[index(z, x, y)];
 	}
 
 	public byte getTileSetting(int z, int x, int y)
 	{
-		return tileSettings[z][x][y];
+		return tileSettings[index(z, x, y)];
 	}
 
 	public int getOverlayId(int z, int x, int y)
 	{
-		return overlayIds[z][x][y] & 0xFF;
+		return overlayIds[index(z, x, y)] & 0xFF;
 	}
 
 	public byte getOverlayPath(int z, int x, int y)
 	{
-		return overlayPaths[z][x][y];
+		return overlayPaths[index(z, x, y)];
 	}
 
 	public byte getOverlayRotation(int z, int x, int y)
 	{
-		return overlayRotations[z][x][y];
+		return overlayRotations[index(z, x, y)];
 	}
 
 	public int getUnderlayId(int z, int x, int y)
 	{
-		return underlayIds[z][x][y] & 0xFF;
+		return underlayIds[index(z, x, y)] & 0xFF;
 	}
 
 	public List<Location> getLocations()
@@ -25,9 +25,15 @@
 package net.runelite.cache.region;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.LocationsDefinition;
 import net.runelite.cache.definitions.MapDefinition;
@@ -37,6 +43,7 @@ import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.Djb2;
 import net.runelite.cache.util.XteaKeyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,38 +58,126 @@ public class RegionLoader
 	private final Index index;
 	private final XteaKeyManager keyManager;
 
+	// region id -> map and land archive, built once from the maps index
+	private final Archive[] mapArchives = new Archive[MAX_REGION];
+	private final Archive[] landArchives = new Archive[MAX_REGION];
+
 	private final Map<Integer, Region> regions = new HashMap<>();
 	private Region lowestX = null, lowestY = null;
 	private Region highestX = null, highestY = null;
 
 	public RegionLoader(Store store)
+	{
+		this(store, loadKeys());
+	}
+
+	public RegionLoader(Store store, XteaKeyManager keyManager)
 	{
 		this.store = store;
-		index = store.getIndex(IndexType.MAPS);
-		keyManager = new XteaKeyManager();
+		this.index = store.getIndex(IndexType.MAPS);
+		this.keyManager = keyManager;
+		buildArchiveTable();
+	}
+
+	private static XteaKeyManager loadKeys()
+	{
+		XteaKeyManager keyManager = new XteaKeyManager();
 		keyManager.loadKeys();
+		return keyManager;
+	}
+
+	private void buildArchiveTable()
+	{
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			int x = i >> 8;
+			int y = i & 0xFF;
+
+			String suffix = x + "_" + y;
+			mapArchives[i] = index.findArchiveByNameHash(Djb2.hash("m" + suffix));
+			landArchives[i] = index.findArchiveByNameHash(Djb2.hash("l" + suffix));
+		}
 	}
 
 	public void loadRegions() throws IOException
 	{
+		loadRegions(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Load, decrypt and decode all regions in the maps index, using
+	 * up to parallelism threads.
+	 *
+	 * @param parallelism maximum number of threads to use
+	 * @throws IOException
+	 */
+	public void loadRegions(int parallelism) throws IOException
+	{
+		List<Integer> regionIds = new ArrayList<>();
 		for (int i = 0; i < MAX_REGION; ++i)
 		{
-			Region region = this.loadRegionFromArchive(i);
+			if (mapArchives[i] != null && landArchives[i] != null)
+			{
+				regionIds.add(i);
+			}
+		}
+
+		Region[] loaded = new Region[regionIds.size()];
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try
+		{
+			pool.submit(() -> IntStream.range(0, loaded.length).parallel().forEach(i ->
+			{
+				try
+				{
+					loaded[i] = loadRegionFromArchive(regionIds.get(i));
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			})).get();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException(ex);
+		}
+		catch (ExecutionException ex)
+		{
+			if (ex.getCause() instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) ex.getCause()).getCause();
+			}
+			throw new IOException(ex.getCause());
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+
+		for (Region region : loaded)
+		{
 			if (region != null)
 			{
-				regions.put(i, region);
+				regions.put(region.getRegionID(), region);
 			}
 		}
 	}
 
 	public Region loadRegionFromArchive(int i) throws IOException
 	{
+		if (i < 0 || i >= MAX_REGION)
+		{
+			return null;
+		}
+
 		int x = i >> 8;
 		int y = i & 0xFF;
 
 		Storage storage = store.getStorage();
-		Archive map = index.findArchiveByName("m" + x + "_" + y);
-		Archive land = index.findArchiveByName("l" + x + "_" + y);
+		Archive map = mapArchives[i];
+		Archive land = landArchives[i];
 
 		assert (map == null) == (land == null);
 
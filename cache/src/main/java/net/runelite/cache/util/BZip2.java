@@ -29,6 +29,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.util.Arrays;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
@@ -83,4 +84,27 @@ public class BZip2
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress a headerless bzip2 stream of a known decompressed size
+	 * straight from the source buffer.
+	 *
+	 * @param bytes buffer containing the compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param decompressedLength expected length of the decompressed data
+	 * @return the decompressed data
+	 * @throws IOException if the data is invalid or not of the expected length
+	 */
+	public static byte[] decompress(byte[] bytes, int off, int len, int decompressedLength) throws IOException
+	{
+		InputStream in = new SequenceInputStream(
+			new ByteArrayInputStream(BZIP_HEADER),
+			new ByteArrayInputStream(bytes, off, len));
+
+		try (InputStream is = new BZip2CompressorInputStream(in))
+		{
+			return Decompression.readFully(is, decompressedLength);
+		}
+	}
 }
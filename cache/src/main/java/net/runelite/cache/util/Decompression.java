@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.apache.commons.compress.utils.IOUtils;
+
+/**
+ * Shared helpers for decompressing cache data of a known length
+ */
+class Decompression
+{
+	/**
+	 * Largest decompressed length accepted from a container header. The
+	 * output is allocated up front, so a corrupt length must not be trusted.
+	 */
+	static final int MAX_DECOMPRESSED_LENGTH = 64 * 1024 * 1024;
+
+	/**
+	 * Read exactly {@code length} bytes of decompressed data
+	 *
+	 * @param is decompressing stream
+	 * @param length expected length of the decompressed data
+	 * @return the decompressed data
+	 * @throws IOException if the length is out of bounds or the stream is not of the expected length
+	 */
+	static byte[] readFully(InputStream is, int length) throws IOException
+	{
+		if (length < 0 || length > MAX_DECOMPRESSED_LENGTH)
+		{
+			throw new IOException("invalid decompressed length " + length);
+		}
+
+		byte[] out = new byte[length];
+		int read = IOUtils.readFully(is, out);
+		if (read != length || is.read() != -1)
+		{
+			throw new IOException("decompressed length mismatch, expected " + length);
+		}
+		return out;
+	}
+}
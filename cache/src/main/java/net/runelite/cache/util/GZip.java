@@ -64,4 +64,23 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress a gzip stream of a known decompressed size straight
+	 * from the source buffer.
+	 *
+	 * @param bytes buffer containing the compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param decompressedLength expected length of the decompressed data
+	 * @return the decompressed data
+	 * @throws IOException if the data is invalid or not of the expected length
+	 */
+	public static byte[] decompress(byte[] bytes, int off, int len, int decompressedLength) throws IOException
+	{
+		try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(bytes, off, len)))
+		{
+			return Decompression.readFully(is, decompressedLength);
+		}
+	}
 }
@@ -24,8 +24,8 @@
  */
 package net.runelite.cache.util;
 
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import com.google.common.primitives.Ints;
+import java.util.Arrays;
 
 public class Xtea
 {
@@ -42,13 +42,33 @@ public class Xtea
 
 	public byte[] encrypt(byte[] data, int len)
 	{
-		ByteBuf buf = Unpooled.wrappedBuffer(data, 0, len);
-		ByteBuf out = Unpooled.buffer(len);
+		byte[] out = Arrays.copyOf(data, len);
+		encrypt(out, 0, len);
+		return out;
+	}
+
+	public byte[] decrypt(byte[] data, int len)
+	{
+		byte[] out = Arrays.copyOf(data, len);
+		decrypt(out, 0, len);
+		return out;
+	}
+
+	/**
+	 * Encrypt data in place. Trailing bytes which don't fill a block
+	 * are left as is.
+	 *
+	 * @param data buffer containing the data
+	 * @param off offset of the data in the buffer
+	 * @param len length of the data
+	 */
+	public void encrypt(byte[] data, int off, int len)
+	{
 		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		for (int block = 0, pos = off; block < numBlocks; ++block, pos += 8)
 		{
-			int v0 = buf.readInt();
-			int v1 = buf.readInt();
+			int v0 = Ints.fromBytes(data[pos], data[pos + 1], data[pos + 2], data[pos + 3]);
+			int v1 = Ints.fromBytes(data[pos + 4], data[pos + 5], data[pos + 6], data[pos + 7]);
 			int sum = 0;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -56,22 +76,26 @@ public class Xtea
 				sum += GOLDEN_RATIO;
 				v1 += (((v0 << 4) ^ (v0 >>> 5)) + v0) ^ (sum + key[(sum >>> 11) & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			putInt(data, pos, v0);
+			putInt(data, pos + 4, v1);
 		}
-		out.writeBytes(buf);
-		return out.array();
 	}
 
-	public byte[] decrypt(byte[] data, int len)
+	/**
+	 * Decrypt data in place. Trailing bytes which don't fill a block
+	 * are left as is.
+	 *
+	 * @param data buffer containing the data
+	 * @param off offset of the data in the buffer
+	 * @param len length of the data
+	 */
+	public void decrypt(byte[] data, int off, int len)
 	{
-		ByteBuf buf = Unpooled.wrappedBuffer(data, 0, len);
-		ByteBuf out = Unpooled.buffer(len);
 		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		for (int block = 0, pos = off; block < numBlocks; ++block, pos += 8)
 		{
-			int v0 = buf.readInt();
-			int v1 = buf.readInt();
+			int v0 = Ints.fromBytes(data[pos], data[pos + 1], data[pos + 2], data[pos + 3]);
+			int v1 = Ints.fromBytes(data[pos + 4], data[pos + 5], data[pos + 6], data[pos + 7]);
 			int sum = GOLDEN_RATIO * ROUNDS;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -79,10 +103,16 @@ public class Xtea
 				sum -= GOLDEN_RATIO;
 				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			putInt(data, pos, v0);
+			putInt(data, pos + 4, v1);
 		}
-		out.writeBytes(buf);
-		return out.array();
+	}
+
+	private static void putInt(byte[] data, int pos, int value)
+	{
+		data[pos] = (byte) (value >> 24);
+		data[pos + 1] = (byte) (value >> 16);
+		data[pos + 2] = (byte) (value >> 8);
+		data[pos + 3] = (byte) value;
 	}
 }
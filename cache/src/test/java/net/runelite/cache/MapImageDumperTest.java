@@ -31,6 +31,7 @@ import javax.imageio.ImageIO;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import static org.junit.Assert.assertEquals;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -97,4 +98,48 @@ public class MapImageDumperTest
 			}
 		}
 	}
+
+	@Test
+	@Ignore
+	public void dumpMapTiles() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			MapImageDumper dumper = new MapImageDumper(store);
+			dumper.load();
+
+			for (int i = 0; i < Region.Z; ++i)
+			{
+				File planeDir = new File(outDir, Integer.toString(i));
+				dumper.drawMapTiles(i, planeDir);
+				logger.info("Wrote tiles to {}", planeDir);
+			}
+		}
+	}
+
+	@Test
+	public void testDownsample()
+	{
+		BufferedImage src = new BufferedImage(4, 2, BufferedImage.TYPE_INT_RGB);
+		src.setRGB(0, 0, 0xFF0000);
+		src.setRGB(1, 0, 0xFF0000);
+		src.setRGB(0, 1, 0x0000FF);
+		src.setRGB(1, 1, 0x0000FF);
+		src.setRGB(2, 0, 0x808080);
+		src.setRGB(3, 0, 0x808080);
+		src.setRGB(2, 1, 0x808080);
+		src.setRGB(3, 1, 0x808080);
+
+		BufferedImage dst = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+		MapImageDumper.downsample(src, dst, 2, 3);
+
+		assertEquals(0x7F007F, dst.getRGB(2, 3) & 0xFFFFFF);
+		assertEquals(0x808080, dst.getRGB(3, 3) & 0xFFFFFF);
+		assertEquals(0, dst.getRGB(0, 0) & 0xFFFFFF);
+	}
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions;
+
+import java.util.Random;
+import net.runelite.cache.models.FaceNormal;
+import net.runelite.cache.models.VertexNormal;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class ModelDefinitionTest
+{
+	// expected values are from the VertexNormal/FaceNormal and float[][] implementations
+	private static final int[] VERTEX_NORMALS_X = {16, 63, -165, 346, 252, 89, -81, 120, 131, 206, 76, 396};
+	private static final int[] VERTEX_NORMALS_Y = {-206, 202, -363, 126, 154, 67, -77, -491, -247, 308, 241, 10};
+	private static final int[] VERTEX_NORMALS_Z = {181, -143, -300, -549, -32, 28, 230, -406, -567, -365, 109, 68};
+	private static final int[] VERTEX_NORMALS_MAGNITUDE = {2, 1, 3, 3, 3, 6, 1, 5, 5, 4, 3, 3};
+
+	private static final int[] FLAT_FACES = {5, 6, 10};
+	private static final int[] FACE_NORMALS_X = {-58, 253, 253};
+	private static final int[] FACE_NORMALS_Y = {-102, -18, -18};
+	private static final int[] FACE_NORMALS_Z = {227, 27, 27};
+
+	private static final float[] FACE_TEXTURE_U = {
+		-0.6895093f, 0.040360935f, 0.69911706f, 0.2196775f, 1.0f, 0.0f, 0.17279002f, 0.15655297f, 1.0f, 1.0f, 1.0f, 0.09003686f,
+		0.0f, 1.0f, 0.0f, -0.6895093f, -1.1032646f, 0.69911706f, 0.80106443f, 0.040360935f, 1.9547839E-7f, 0.513196f, 1.8303139f, 3.054266f,
+		0.2196775f, 1.9547839E-7f, 1.0f, 0.0f, 1.0f, 0.0f, 0.0f, 1.0f, 0.0f, -0.6895467f, 0.2196775f, -2.2396212f,
+		0.0f, 0.0f, 0.542616f, -0.0f, 0.0f, 3.054266f, 0.0f, 1.0f, 0.0f, 0.513196f, -0.5788862f, -0.47935277f
+	};
+	private static final float[] FACE_TEXTURE_V = {
+		0.65362436f, 0.17518656f, 0.24106862f, 0.5384072f, -0.0f, -0.0f, 0.29916042f, -0.12366111f, -0.0f, -0.0f, -0.0f, -0.032740477f,
+		1.0f, 1.0f, 0.0f, 0.65362436f, 0.5065201f, 0.24106862f, 0.15873371f, 0.17518656f, 0.99999994f, -0.01289472f, -0.5230509f, -1.262296f,
+		0.5384072f, 0.99999994f, -0.0f, 1.0f, 1.0f, 0.0f, 1.0f, 1.0f, 0.0f, 0.9379281f, 0.5384072f, 1.0828192f,
+		-0.0f, -0.0f, 0.09082415f, -0.0f, 0.99999994f, -1.262296f, 1.0f, 1.0f, 0.0f, -0.01289472f, 0.48001057f, 0.118832804f
+	};
+
+	private static ModelDefinition createModel()
+	{
+		return RandomModels.create(new Random(17L), 12, 16);
+	}
+
+	@Test
+	public void testNormalArrays()
+	{
+		ModelDefinition model = createModel();
+		model.computeNormalArrays();
+
+		assertArrayEquals(VERTEX_NORMALS_X, model.vertexNormalsX);
+		assertArrayEquals(VERTEX_NORMALS_Y, model.vertexNormalsY);
+		assertArrayEquals(VERTEX_NORMALS_Z, model.vertexNormalsZ);
+		assertArrayEquals(VERTEX_NORMALS_MAGNITUDE, model.vertexNormalsMagnitude);
+
+		for (int i = 0; i < FLAT_FACES.length; ++i)
+		{
+			int face = FLAT_FACES[i];
+			assertEquals(FACE_NORMALS_X[i], model.faceNormalsX[face]);
+			assertEquals(FACE_NORMALS_Y[i], model.faceNormalsY[face]);
+			assertEquals(FACE_NORMALS_Z[i], model.faceNormalsZ[face]);
+		}
+	}
+
+	@Test
+	public void testNormals()
+	{
+		ModelDefinition model = createModel();
+		model.computeNormals();
+
+		for (int i = 0; i < model.vertexCount; ++i)
+		{
+			VertexNormal normal = model.vertexNormals[i];
+			assertEquals(VERTEX_NORMALS_X[i], normal.x);
+			assertEquals(VERTEX_NORMALS_Y[i], normal.y);
+			assertEquals(VERTEX_NORMALS_Z[i], normal.z);
+			assertEquals(VERTEX_NORMALS_MAGNITUDE[i], normal.magnitude);
+		}
+
+		for (int face = 0, flat = 0; face < model.faceCount; ++face)
+		{
+			FaceNormal normal = model.faceNormals[face];
+			if (flat < FLAT_FACES.length && FLAT_FACES[flat] == face)
+			{
+				assertEquals(FACE_NORMALS_X[flat], normal.x);
+				assertEquals(FACE_NORMALS_Y[flat], normal.y);
+				assertEquals(FACE_NORMALS_Z[flat], normal.z);
+				++flat;
+			}
+			else
+			{
+				assertNull(normal);
+			}
+		}
+	}
+
+	@Test
+	public void testTextureUVs()
+	{
+		ModelDefinition model = createModel();
+		model.computeTextureUVs();
+
+		assertArrayEquals(FACE_TEXTURE_U, model.faceTextureU, 0f);
+		assertArrayEquals(FACE_TEXTURE_V, model.faceTextureV, 0f);
+	}
+
+	@Test
+	public void testTextureUVCoordinates()
+	{
+		ModelDefinition model = createModel();
+		model.computeTextureUVCoordinates();
+
+		for (int i = 0; i < model.faceCount; ++i)
+		{
+			assertArrayEquals(new float[]{FACE_TEXTURE_U[i * 3], FACE_TEXTURE_U[i * 3 + 1], FACE_TEXTURE_U[i * 3 + 2]},
+				model.faceTextureUCoordinates[i], 0f);
+			assertArrayEquals(new float[]{FACE_TEXTURE_V[i * 3], FACE_TEXTURE_V[i * 3 + 1], FACE_TEXTURE_V[i * 3 + 2]},
+				model.faceTextureVCoordinates[i], 0f);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions;
+
+import java.util.Random;
+
+/**
+ * Random models for exercising model computations
+ */
+public class RandomModels
+{
+	private static final int TEXTURE_TRIANGLES = 4;
+
+	/**
+	 * Create a random textured model, with a mix of smooth and flat
+	 * shaded faces
+	 */
+	public static ModelDefinition create(Random random, int vertexCount, int faceCount)
+	{
+		ModelDefinition model = new ModelDefinition();
+		model.vertexCount = vertexCount;
+		model.vertexPositionsX = new int[vertexCount];
+		model.vertexPositionsY = new int[vertexCount];
+		model.vertexPositionsZ = new int[vertexCount];
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			model.vertexPositionsX[i] = random.nextInt(1024) - 512;
+			model.vertexPositionsY[i] = random.nextInt(1024) - 512;
+			model.vertexPositionsZ[i] = random.nextInt(1024) - 512;
+		}
+
+		model.faceCount = faceCount;
+		model.faceVertexIndices1 = new int[faceCount];
+		model.faceVertexIndices2 = new int[faceCount];
+		model.faceVertexIndices3 = new int[faceCount];
+		model.faceRenderTypes = new byte[faceCount];
+		model.faceTextures = new short[faceCount];
+		model.textureCoordinates = new byte[faceCount];
+		for (int i = 0; i < faceCount; ++i)
+		{
+			model.faceVertexIndices1[i] = random.nextInt(vertexCount);
+			model.faceVertexIndices2[i] = random.nextInt(vertexCount);
+			model.faceVertexIndices3[i] = random.nextInt(vertexCount);
+			model.faceRenderTypes[i] = (byte) (random.nextInt(8) == 0 ? 1 : 0);
+			model.faceTextures[i] = (short) random.nextInt(100);
+			model.textureCoordinates[i] = (byte) (random.nextInt(4) == 0 ? -1 : random.nextInt(TEXTURE_TRIANGLES));
+		}
+
+		model.textureTriangleCount = TEXTURE_TRIANGLES;
+		model.textureTriangleVertexIndices1 = new short[TEXTURE_TRIANGLES];
+		model.textureTriangleVertexIndices2 = new short[TEXTURE_TRIANGLES];
+		model.textureTriangleVertexIndices3 = new short[TEXTURE_TRIANGLES];
+		for (int i = 0; i < TEXTURE_TRIANGLES; ++i)
+		{
+			model.textureTriangleVertexIndices1[i] = (short) random.nextInt(vertexCount);
+			model.textureTriangleVertexIndices2[i] = (short) random.nextInt(vertexCount);
+			model.textureTriangleVertexIndices3[i] = (short) random.nextInt(vertexCount);
+		}
+		return model;
+	}
+}
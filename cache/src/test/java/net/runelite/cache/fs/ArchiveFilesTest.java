@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import net.runelite.cache.io.OutputStream;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Test;
+
+public class ArchiveFilesTest
+{
+	@Test
+	public void testLoadContents()
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < 3; ++i)
+		{
+			FSFile file = new FSFile(i);
+			file.setContents(new byte[]
+			{
+				(byte) i, (byte) (i + 1), (byte) (i + 2), (byte) (i * 3)
+			});
+			files.addFile(file);
+		}
+
+		ArchiveFiles loaded = new ArchiveFiles();
+		for (int i = 0; i < 3; ++i)
+		{
+			loaded.addFile(new FSFile(i));
+		}
+		loaded.loadContents(files.saveContents());
+
+		for (int i = 0; i < 3; ++i)
+		{
+			assertArrayEquals(files.findFile(i).getContents(), loaded.findFile(i).getContents());
+		}
+	}
+
+	@Test
+	public void testLoadChunkedContents()
+	{
+		// two files split over two chunks: file 0 is 1,2 + 3 and file 1 is 4 + 5,6
+		OutputStream out = new OutputStream();
+		out.writeBytes(new byte[]
+		{
+			1, 2, 4, 3, 5, 6
+		});
+		// chunk 0 sizes, delta encoded: 2, 1
+		out.writeInt(2);
+		out.writeInt(-1);
+		// chunk 1 sizes: 1, 2
+		out.writeInt(1);
+		out.writeInt(1);
+		out.writeByte(2);
+
+		ArchiveFiles files = new ArchiveFiles();
+		files.addFile(new FSFile(0));
+		files.addFile(new FSFile(1));
+		files.loadContents(out.flip());
+
+		assertArrayEquals(new byte[]
+		{
+			1, 2, 3
+		}, files.findFile(0).getContents());
+		assertArrayEquals(new byte[]
+		{
+			4, 5, 6
+		}, files.findFile(1).getContents());
+	}
+}
@@ -26,8 +26,11 @@ package net.runelite.cache.fs;
 
 import java.io.IOException;
 import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class ContainerTest
@@ -52,4 +55,76 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testDecompress() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			for (int length : new int[]{0, 7, 1024})
+			{
+				byte[] data = new byte[length];
+				random.nextBytes(data);
+
+				for (int[] key : new int[][]{null, keys})
+				{
+					Container container = new Container(compression, 42);
+					container.compress(data, key);
+					byte[] compressedData = container.data;
+					byte[] copy = compressedData.clone();
+
+					Container res = Container.decompress(compressedData, key);
+					assertArrayEquals(data, res.data);
+					assertEquals(42, res.revision);
+					assertEquals(compression, res.compression);
+					// decryption must not modify the source buffer
+					assertArrayEquals(copy, compressedData);
+				}
+			}
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecompressWrongKey() throws IOException
+	{
+		byte[] data = new byte[1024];
+		new Random(42L).nextBytes(data);
+
+		Container container = new Container(BZ2, -1);
+		container.compress(data, new int[]{4, 8, 15, 16});
+
+		Container.decompress(container.data, new int[]{23, 42, 0, 0});
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecompressLengthTooLarge() throws IOException
+	{
+		decompressWithLength(GZ, Integer.MAX_VALUE);
+	}
+
+	@Test(expected = IOException.class)
+	public void testDecompressLengthTooLargeBZip2() throws IOException
+	{
+		decompressWithLength(BZ2, Integer.MAX_VALUE);
+	}
+
+	private static void decompressWithLength(int compression, int length) throws IOException
+	{
+		Container container = new Container(compression, -1);
+		container.compress(new byte[1024], null);
+
+		// the decompressed length follows the compression type and compressed length
+		byte[] data = container.data;
+		data[5] = (byte) (length >> 24);
+		data[6] = (byte) (length >> 16);
+		data[7] = (byte) (length >> 8);
+		data[8] = (byte) length;
+
+		Container.decompress(data, null);
+	}
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import net.runelite.cache.util.Djb2;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexTest
+{
+	@Test
+	public void testGetArchive()
+	{
+		Index index = new Index(0);
+		Archive a0 = index.addArchive(0);
+		Archive a5 = index.addArchive(5);
+
+		Assert.assertSame(a0, index.getArchive(0));
+		Assert.assertSame(a5, index.getArchive(5));
+		Assert.assertNull(index.getArchive(1));
+
+		index.removeArchive(a5);
+		Assert.assertNull(index.getArchive(5));
+		Assert.assertEquals(1, index.getArchives().size());
+	}
+
+	@Test
+	public void testFindArchiveByName()
+	{
+		Index index = new Index(0);
+		Archive a0 = index.addArchive(0);
+		Archive a1 = index.addArchive(1);
+		a0.setNameHash(Djb2.hash("m50_50"));
+
+		Assert.assertSame(a0, index.findArchiveByName("m50_50"));
+		Assert.assertNull(index.findArchiveByName("l50_50"));
+
+		// renaming an archive must be picked up by the name table
+		a1.setNameHash(Djb2.hash("l50_50"));
+		Assert.assertSame(a1, index.findArchiveByName("l50_50"));
+
+		index.removeArchive(a0);
+		Assert.assertNull(index.findArchiveByName("m50_50"));
+	}
+}
@@ -28,6 +28,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Random;
 import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.index.FileData;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -148,4 +149,49 @@ public class StoreTest
 			}
 		}
 	}
+
+	@Test
+	public void testLoadArchives() throws IOException
+	{
+		Random random = new Random(44L);
+		File root = folder.newFolder();
+		byte[][] contents = new byte[100][];
+
+		try (Store store = new Store(root))
+		{
+			Index index = store.addIndex(0);
+
+			for (int i = 0; i < contents.length; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setRevision(i);
+				archive.setFileData(new FileData[1]);
+				archive.getFileData()[0] = new FileData();
+
+				contents[i] = new byte[1 + random.nextInt(2048)];
+				random.nextBytes(contents[i]);
+
+				Container container = new Container(i % 3, i);
+				container.compress(contents[i], null);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+
+			store.save();
+		}
+
+		try (Store store = new Store(new DiskStorage(root, true)))
+		{
+			store.load();
+
+			Index index = store.findIndex(0);
+			byte[][] loaded = store.loadArchives(index.getArchives(), null, 4);
+
+			Assert.assertEquals(contents.length, loaded.length);
+			for (int i = 0; i < contents.length; ++i)
+			{
+				Assert.assertArrayEquals(contents[i], loaded[i]);
+				Assert.assertEquals(i % 3, index.getArchive(i).getCompression());
+			}
+		}
+	}
 }
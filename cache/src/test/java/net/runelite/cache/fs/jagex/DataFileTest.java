@@ -26,6 +26,7 @@ package net.runelite.cache.fs.jagex;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Container;
 import org.junit.Assert;
@@ -167,4 +168,45 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testMemoryMapped() throws IOException
+	{
+		byte[] b = new byte[4096];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		DataFile df = new DataFile(folder.newFile(), true);
+
+		DataFileWriteResult res = df.write(42, 3, b);
+		Assert.assertArrayEquals(b, df.read(42, 3, res.sector, res.compressedLength));
+
+		// the file grows past the existing mapping and must be remapped
+		DataFileWriteResult res2 = df.write(42, 0x1FFFF, b);
+		Assert.assertArrayEquals(b, df.read(42, 0x1FFFF, res2.sector, res2.compressedLength));
+		Assert.assertArrayEquals(b, df.read(42, 3, res.sector, res.compressedLength));
+
+		Assert.assertNull(df.read(41, 3, res.sector, res.compressedLength));
+	}
+
+	@Test
+	public void testMemoryMappedInvalidNextSector() throws IOException
+	{
+		File file = folder.newFile();
+		DataFile df = new DataFile(file, true);
+
+		DataFileWriteResult res = df.write(42, 3, new byte[4096]);
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			// point the first sector past the end of the file
+			raf.seek(520L * res.sector + 4);
+			raf.write(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF});
+		}
+
+		Assert.assertNull(df.read(42, 3, res.sector, res.compressedLength));
+		Assert.assertNull(new DataFile(file).read(42, 3, res.sector, res.compressedLength));
+	}
 }
@@ -47,4 +47,19 @@ public class IndexFileTest
 		IndexEntry entry2 = index.read(7);
 		Assert.assertEquals(entry, entry2);
 	}
+
+	@Test
+	public void testMemoryMapped() throws IOException
+	{
+		File file = folder.newFile();
+		IndexFile index = new IndexFile(5, file, true);
+		IndexEntry entry = new IndexEntry(index, 7, 8, 9);
+		index.write(entry);
+		Assert.assertEquals(entry, index.read(7));
+
+		IndexEntry entry2 = new IndexEntry(index, 100, 10, 11);
+		index.write(entry2);
+		Assert.assertEquals(entry2, index.read(100));
+		Assert.assertNull(index.read(101));
+	}
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.ItemManager;
+import net.runelite.cache.SpriteManager;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.TextureManager;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@Slf4j
+public class ItemSpriteBatchTest
+{
+	private static final int ITEMS = 64;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private final Map<Integer, ItemDefinition> items = new ConcurrentHashMap<>();
+	private final ItemProvider itemProvider = items::get;
+	private final ModelProvider modelProvider = ItemSpriteBatchTest::createModel;
+	private final SpriteProvider spriteProvider = (spriteId, frameId) -> null;
+	private final TextureProvider textureProvider = () -> new TextureDefinition[0];
+
+	@Test
+	public void testRender() throws IOException
+	{
+		List<ItemDefinition> toRender = new ArrayList<>();
+		for (int i = 0; i < ITEMS; ++i)
+		{
+			ItemDefinition item = new ItemDefinition(i);
+			item.inventoryModel = i % 7;
+			item.zoom2d = 900 + i * 7;
+			item.xan2d = i * 37 % 2048;
+			item.yan2d = i * 91 % 2048;
+			item.zan2d = i % 3 == 0 ? i * 13 % 2048 : 0;
+			item.ambient = i % 30;
+			item.contrast = i % 50;
+			item.colorFind = new short[]{(short) 100};
+			item.colorReplace = new short[]{(short) (i * 311)};
+			items.put(i, item);
+			toRender.add(item);
+		}
+
+		// a coin stack, with a different model at 2 and 5
+		ItemDefinition stack = items.get(0);
+		stack.countCo = new int[]{2, 5, 0, 0, 0, 0, 0, 0, 0, 0};
+		stack.countObj = new int[]{1, 2, 0, 0, 0, 0, 0, 0, 0, 0};
+		assertArrayEquals(new int[]{1, 2, 5}, ItemSpriteBatch.getQuantities(stack));
+
+		Map<Long, BufferedImage> sprites = new ConcurrentHashMap<>();
+		ItemSpriteBatch batch = new ItemSpriteBatch(itemProvider, modelProvider, spriteProvider, textureProvider);
+		int count = batch.render(toRender, 4, (item, quantity, sprite) ->
+			sprites.put((long) item.id << 32 | quantity, sprite));
+
+		assertEquals(ITEMS + 2, count);
+		assertEquals(ITEMS + 2, sprites.size());
+
+		for (Map.Entry<Long, BufferedImage> entry : sprites.entrySet())
+		{
+			int itemId = (int) (entry.getKey() >>> 32);
+			int quantity = (int) (long) entry.getKey();
+
+			BufferedImage expected = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+				itemId, quantity, 1, 3153952, false);
+			assertNotNull(expected);
+			assertSameImage(expected, entry.getValue());
+		}
+
+		// something was drawn besides the border and shadow
+		BufferedImage sprite = sprites.get(1L << 32 | 1);
+		assertTrue(sprite.getRGB(16, 16) != 0);
+
+		assertSameImage(sprite, batch.render(1, 1));
+	}
+
+	@Test
+	@Ignore
+	public void testWriteTo() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		int count;
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			ItemManager itemManager = new ItemManager(store);
+			itemManager.load();
+
+			ModelProvider modelProvider = modelId ->
+			{
+				Index models = store.getIndex(IndexType.MODELS);
+				Archive archive = models.getArchive(modelId);
+
+				byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+				return new ModelLoader().load(modelId, data);
+			};
+
+			SpriteManager spriteManager = new SpriteManager(store);
+			spriteManager.load();
+
+			TextureManager textureManager = new TextureManager(store);
+			textureManager.load();
+
+			List<ItemDefinition> items = itemManager.getItems().stream()
+				.filter(itemDef -> itemDef.name != null && !itemDef.name.equalsIgnoreCase("null"))
+				.collect(Collectors.toList());
+
+			ItemSpriteBatch batch = new ItemSpriteBatch(itemManager, modelProvider, spriteManager, textureManager);
+			count = batch.writeTo(items, Runtime.getRuntime().availableProcessors(), outDir);
+		}
+
+		log.info("Dumped {} item images to {}", count, outDir);
+	}
+
+	private static void assertSameImage(BufferedImage expected, BufferedImage actual)
+	{
+		assertEquals(expected.getWidth(), actual.getWidth());
+		assertEquals(expected.getHeight(), actual.getHeight());
+		assertArrayEquals(
+			expected.getRGB(0, 0, expected.getWidth(), expected.getHeight(), null, 0, expected.getWidth()),
+			actual.getRGB(0, 0, actual.getWidth(), actual.getHeight(), null, 0, actual.getWidth()));
+	}
+
+	/**
+	 * A pyramid whose shape depends on the model id
+	 */
+	private static ModelDefinition createModel(int modelId)
+	{
+		int size = 40 + modelId * 10;
+
+		ModelDefinition model = new ModelDefinition();
+		model.id = modelId;
+		model.vertexCount = 5;
+		model.vertexPositionsX = new int[]{-size, size, size, -size, 0};
+		model.vertexPositionsY = new int[]{0, 0, 0, 0, -size - modelId * 15};
+		model.vertexPositionsZ = new int[]{-size, -size, size, size, 0};
+		model.faceCount = 6;
+		model.faceVertexIndices1 = new int[]{0, 0, 1, 2, 3, 0};
+		model.faceVertexIndices2 = new int[]{1, 4, 4, 4, 4, 2};
+		model.faceVertexIndices3 = new int[]{2, 1, 2, 3, 0, 3};
+		model.faceColors = new short[]{100, 100, 200, 300, 400, 100};
+		return model;
+	}
+}
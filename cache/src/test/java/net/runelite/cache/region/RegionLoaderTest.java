@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.io.File;
+import java.io.IOException;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.util.Djb2;
+import net.runelite.cache.util.XteaKeyManager;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RegionLoaderTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testLoadRegions() throws IOException
+	{
+		File root = folder.newFolder();
+
+		try (Store store = new Store(root))
+		{
+			for (int i = 0; i < IndexType.MAPS.getNumber(); ++i)
+			{
+				store.addIndex(i);
+			}
+			Index index = store.addIndex(IndexType.MAPS.getNumber());
+
+			int id = 0;
+			for (int x = 40; x < 50; ++x)
+			{
+				for (int y = 40; y < 50; ++y)
+				{
+					addArchive(store, index, id++, "m" + x + "_" + y, new byte[Region.Z * Region.X * Region.Y]);
+					addArchive(store, index, id++, "l" + x + "_" + y, new byte[1]);
+				}
+			}
+
+			// a map without locations is not a region
+			addArchive(store, index, id, "m60_60", new byte[Region.Z * Region.X * Region.Y]);
+
+			store.save();
+		}
+
+		try (Store store = new Store(root))
+		{
+			store.load();
+
+			RegionLoader regionLoader = new RegionLoader(store, new XteaKeyManager());
+			regionLoader.loadRegions(4);
+			regionLoader.calculateBounds();
+
+			assertEquals(100, regionLoader.getRegions().size());
+			assertNotNull(regionLoader.findRegionForWorldCoordinates(45 << 6, 47 << 6));
+			assertNull(regionLoader.findRegionForWorldCoordinates(60 << 6, 60 << 6));
+			assertEquals(40 << 6, regionLoader.getLowestX().getBaseX());
+			assertEquals(49 << 6, regionLoader.getHighestY().getBaseY());
+		}
+	}
+
+	private static void addArchive(Store store, Index index, int id, String name, byte[] data) throws IOException
+	{
+		Archive archive = index.addArchive(id);
+		archive.setNameHash(Djb2.hash(name));
+		archive.setFileData(new FileData[1]);
+		archive.getFileData()[0] = new FileData();
+
+		Container container = new Container(0, -1);
+		container.compress(data, null);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.definitions.MapDefinition.Tile;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class RegionTest
+{
+	@Test
+	public void testLoadTerrain()
+	{
+		MapDefinition map = new MapDefinition();
+		Tile[][][] tiles = map.getTiles();
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					Tile tile = tiles[z][x][y] = new Tile();
+					tile.height = 10;
+					tile.settings = (byte) z;
+					tile.overlayId = (byte) x;
+					tile.overlayPath = (byte) (y & 3);
+					tile.overlayRotation = (byte) (x & 3);
+					tile.underlayId = (byte) (200 + z);
+				}
+			}
+		}
+
+		Region region = new Region(50, 50);
+		region.loadTerrain(map);
+
+		assertEquals(-80, region.getTileHeight(0, 5, 7));
+		assertEquals(-320, region.getTileHeight(3, 63, 0));
+		assertEquals(2, region.getTileSetting(2, 63, 63));
+		assertEquals(17, region.getOverlayId(1, 17, 40));
+		assertEquals(3, region.getOverlayPath(0, 0, 63));
+		assertEquals(1, region.getOverlayRotation(3, 33, 2));
+		assertEquals(203, region.getUnderlayId(3, 10, 10));
+	}
+}
@@ -52,4 +52,26 @@ public class XteaTest
 
 		assertArrayEquals(data, decData);
 	}
+
+	@Test
+	public void testInPlace()
+	{
+		byte[] data = "xxtesttesttest1".getBytes();
+
+		int[] key = new int[]
+		{
+			4, 8, 15, 16
+		};
+		byte[] encrypted = new byte[]
+		{
+			'x', 'x', 121, -18, 48, 64, 120, -42, -113, 77, 116, 101, 115, 116, 49
+		};
+
+		Xtea xtea = new Xtea(key);
+		xtea.encrypt(data, 2, data.length - 2);
+		assertArrayEquals(encrypted, data);
+
+		xtea.decrypt(data, 2, data.length - 2);
+		assertArrayEquals("xxtesttesttest1".getBytes(), data);
+	}
 }
@@ -31,8 +31,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 import javax.imageio.ImageIO;
 import net.runelite.http.api.RuneLiteAPI;
 import okhttp3.HttpUrl;
@@ -45,6 +48,11 @@ public class ItemClient
 {
 	private static final Logger logger = LoggerFactory.getLogger(ItemClient.class);
 
+	/**
+	 * Maximum number of ids the price service looks up in a single request
+	 */
+	private static final int MAX_BATCH_LOOKUP = 1024;
+
 	public ItemPrice lookupItemPrice(int itemId) throws IOException
 	{
 		HttpUrl url = RuneLiteAPI.getApiBase().newBuilder()
@@ -77,6 +85,50 @@ public class ItemClient
 	}
 
 	public ItemPrice[] lookupItemPrice(Integer[] itemIds) throws IOException
+	{
+		return lookupItemPrices(Arrays.stream(itemIds).mapToInt(Integer::intValue).toArray());
+	}
+
+	/**
+	 * Looks up the prices of the given items. Duplicate ids are looked up once, and the ids are
+	 * split over as few requests as the price service accepts.
+	 *
+	 * @param itemIds item ids
+	 * @return the prices of the items which have one, or null if a request failed
+	 * @throws IOException
+	 */
+	public ItemPrice[] lookupItemPrices(int... itemIds) throws IOException
+	{
+		final int[] ids = IntStream.of(itemIds).distinct().toArray();
+
+		if (ids.length == 0)
+		{
+			return new ItemPrice[0];
+		}
+
+		if (ids.length <= MAX_BATCH_LOOKUP)
+		{
+			return lookupBatch(ids);
+		}
+
+		final List<ItemPrice> prices = new ArrayList<>(ids.length);
+
+		for (int i = 0; i < ids.length; i += MAX_BATCH_LOOKUP)
+		{
+			final ItemPrice[] batch = lookupBatch(Arrays.copyOfRange(ids, i, Math.min(ids.length, i + MAX_BATCH_LOOKUP)));
+
+			if (batch == null)
+			{
+				return null;
+			}
+
+			prices.addAll(Arrays.asList(batch));
+		}
+
+		return prices.toArray(new ItemPrice[0]);
+	}
+
+	private ItemPrice[] lookupBatch(int[] itemIds) throws IOException
 	{
 		HttpUrl.Builder urlBuilder = RuneLiteAPI.getApiBase().newBuilder()
 				.addPathSegment("item")
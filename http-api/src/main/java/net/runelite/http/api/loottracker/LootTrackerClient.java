@@ -82,6 +82,41 @@ public class LootTrackerClient
 		});
 	}
 
+	/**
+	 * Submit several loot records in a single request
+	 *
+	 * @param lootRecords
+	 */
+	public void submit(Collection<LootRecord> lootRecords)
+	{
+		HttpUrl url = RuneLiteAPI.getApiBase().newBuilder()
+			.addPathSegment("loottracker")
+			.addPathSegment("batch")
+			.build();
+
+		Request request = new Request.Builder()
+			.header(RuneLiteAPI.RUNELITE_AUTH, uuid.toString())
+			.post(RequestBody.create(JSON, GSON.toJson(lootRecords)))
+			.url(url)
+			.build();
+
+		RuneLiteAPI.CLIENT.newCall(request).enqueue(new Callback()
+		{
+			@Override
+			public void onFailure(Call call, IOException e)
+			{
+				log.warn("unable to submit loot", e);
+			}
+
+			@Override
+			public void onResponse(Call call, Response response)
+			{
+				log.debug("Submitted {} loot records", lootRecords.size());
+				response.close();
+			}
+		});
+	}
+
 	public Collection<LootRecord> get() throws IOException
 	{
 		HttpUrl url = RuneLiteAPI.getApiBase().newBuilder()
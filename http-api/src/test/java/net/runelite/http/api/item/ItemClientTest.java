@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.api.item;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import net.runelite.http.api.RuneLiteAPI;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ItemClientTest
+{
+	private final MockWebServer server = new MockWebServer();
+	private final ItemClient itemClient = new ItemClient();
+
+	@Before
+	public void before() throws IOException
+	{
+		// answers with a price for every requested id, except ids over 5000
+		server.setDispatcher(new Dispatcher()
+		{
+			@Override
+			public MockResponse dispatch(RecordedRequest request)
+			{
+				List<String> ids = request.getRequestUrl().queryParameterValues("id");
+				if (ids.stream().anyMatch(id -> Integer.parseInt(id) > 5000))
+				{
+					return new MockResponse().setResponseCode(500);
+				}
+
+				ItemPrice[] prices = ids.stream()
+					.map(id ->
+					{
+						ItemPrice price = new ItemPrice();
+						price.setId(Integer.parseInt(id));
+						price.setPrice(Integer.parseInt(id) * 10);
+						return price;
+					})
+					.toArray(ItemPrice[]::new);
+				return new MockResponse().setBody(RuneLiteAPI.GSON.toJson(prices));
+			}
+		});
+		server.start();
+
+		System.setProperty("runelite.http-service.url", server.url("/").toString());
+	}
+
+	@After
+	public void after() throws IOException
+	{
+		System.clearProperty("runelite.http-service.url");
+		server.shutdown();
+	}
+
+	@Test
+	public void testLookupItemPricesEmpty() throws IOException
+	{
+		assertEquals(0, itemClient.lookupItemPrices().length);
+		assertEquals(0, server.getRequestCount());
+	}
+
+	@Test
+	public void testLookupItemPrices() throws IOException, InterruptedException
+	{
+		ItemPrice[] prices = itemClient.lookupItemPrices(4151, 995, 4151);
+
+		assertArrayEquals(new int[]{4151, 995}, ids(prices));
+		assertEquals(41510, prices[0].getPrice());
+		assertEquals(1, server.getRequestCount());
+		assertEquals("/item/price?id=4151&id=995", server.takeRequest().getPath());
+	}
+
+	@Test
+	public void testLookupItemPricesSplit() throws IOException, InterruptedException
+	{
+		// one more than fits in a request
+		int[] ids = IntStream.range(0, 1025).toArray();
+		ItemPrice[] prices = itemClient.lookupItemPrices(ids);
+
+		assertArrayEquals(ids, ids(prices));
+		assertEquals(2, server.getRequestCount());
+		assertEquals(1024, server.takeRequest().getRequestUrl().queryParameterValues("id").size());
+		assertEquals(1, server.takeRequest().getRequestUrl().queryParameterValues("id").size());
+	}
+
+	@Test
+	public void testLookupItemPricesFailed() throws IOException
+	{
+		// the second request fails
+		int[] ids = IntStream.concat(IntStream.range(0, 1024), IntStream.of(5001)).toArray();
+		assertNull(itemClient.lookupItemPrices(ids));
+		assertEquals(2, server.getRequestCount());
+	}
+
+	private static int[] ids(ItemPrice[] prices)
+	{
+		return Arrays.stream(prices).mapToInt(ItemPrice::getId).toArray();
+	}
+}
@@ -24,25 +24,47 @@
  */
 package net.runelite.http.service.account;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.io.IOException;
 import net.runelite.http.service.account.beans.SessionEntry;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.http.api.RuneLiteAPI;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.sql2o.Connection;
+import org.sql2o.Query;
 import org.sql2o.Sql2o;
+import org.sql2o.Sql2oException;
 
 @Service
+@Slf4j
 public class AuthFilter
 {
 	private final Sql2o sql2o;
 
+	private final Cache<UUID, SessionEntry> sessionCache = CacheBuilder.newBuilder()
+		.maximumSize(50_000L)
+		.expireAfterWrite(1, TimeUnit.MINUTES)
+		.build();
+
+	/**
+	 * last_used times not yet written to the database, by session
+	 */
+	private final Map<UUID, Instant> pendingLastUsed = new ConcurrentHashMap<>();
+
 	@Autowired
 	public AuthFilter(@Qualifier("Runelite SQL2O") Sql2o sql2o)
 	{
@@ -60,11 +82,15 @@ public class AuthFilter
 
 		UUID uuid = UUID.fromString(runeliteAuth);
 
-		try (Connection con = sql2o.open())
+		SessionEntry sessionEntry = sessionCache.getIfPresent(uuid);
+		if (sessionEntry == null)
 		{
-			SessionEntry sessionEntry = con.createQuery("select user, uuid, created from sessions where uuid = :uuid")
-				.addParameter("uuid", uuid.toString())
-				.executeAndFetchFirst(SessionEntry.class);
+			try (Connection con = sql2o.open())
+			{
+				sessionEntry = con.createQuery("select user, uuid, created from sessions where uuid = :uuid")
+					.addParameter("uuid", uuid.toString())
+					.executeAndFetchFirst(SessionEntry.class);
+			}
 
 			if (sessionEntry == null)
 			{
@@ -72,17 +98,71 @@ public class AuthFilter
 				return null;
 			}
 
-			Instant now = Instant.now();
+			sessionCache.put(uuid, sessionEntry);
+		}
 
-			con.createQuery("update sessions set last_used = :last_used where uuid = :uuid")
-				.addParameter("last_used", Timestamp.from(now))
-				.addParameter("uuid", uuid.toString())
-				.executeUpdate();
+		Instant now = Instant.now();
+		pendingLastUsed.put(uuid, now);
+		sessionEntry.setLastUsed(now);
 
-			sessionEntry.setLastUsed(now);
+		return sessionEntry;
+	}
 
-			return sessionEntry;
-		}
+	/**
+	 * Forget a session, eg. after it has been deleted
+	 *
+	 * @param uuid
+	 */
+	public void invalidate(UUID uuid)
+	{
+		sessionCache.invalidate(uuid);
+		pendingLastUsed.remove(uuid);
 	}
 
+	/**
+	 * Write the last_used times of the sessions used since the previous flush
+	 * in a single batch
+	 */
+	@Scheduled(fixedDelay = 10_000L)
+	@PreDestroy
+	public void flushLastUsed()
+	{
+		if (pendingLastUsed.isEmpty())
+		{
+			return;
+		}
+
+		Map<UUID, Instant> updates = new HashMap<>();
+		for (UUID uuid : pendingLastUsed.keySet())
+		{
+			Instant lastUsed = pendingLastUsed.remove(uuid);
+			if (lastUsed != null)
+			{
+				updates.put(uuid, lastUsed);
+			}
+		}
+
+		try (Connection con = sql2o.beginTransaction())
+		{
+			Query query = con.createQuery("update sessions set last_used = :last_used where uuid = :uuid");
+
+			for (Map.Entry<UUID, Instant> entry : updates.entrySet())
+			{
+				query
+					.addParameter("last_used", Timestamp.from(entry.getValue()))
+					.addParameter("uuid", entry.getKey().toString())
+					.addToBatch();
+			}
+
+			query.executeBatch();
+			con.commit(false);
+		}
+		catch (Sql2oException ex)
+		{
+			log.warn("unable to update session last used times", ex);
+
+			// retry on the next flush, unless the session has been used again since
+			updates.forEach(pendingLastUsed::putIfAbsent);
+		}
+	}
 }
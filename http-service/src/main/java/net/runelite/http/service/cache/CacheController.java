@@ -24,6 +24,8 @@
  */
 package net.runelite.http.service.cache;
 
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Ints;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -67,6 +69,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/cache")
@@ -76,6 +79,9 @@ public class CacheController
 	@Autowired
 	private CacheService cacheService;
 
+	@Autowired
+	private RenderCache renderCache;
+
 	@GetMapping("/")
 	public List<Cache> listCaches()
 	{
@@ -227,10 +233,68 @@ public class CacheController
 		@PathVariable int itemId,
 		@RequestParam(defaultValue = "1") int quantity,
 		@RequestParam(defaultValue = "1") int border,
-		@RequestParam(defaultValue = "3153952") int shadowColor
+		@RequestParam(defaultValue = "3153952") int shadowColor,
+		WebRequest webRequest
 	) throws IOException
 	{
 		final CacheEntry cache = cacheService.findMostRecent();
+		if (cache == null)
+		{
+			throw new NotFoundException();
+		}
+
+		IndexEntry configs = null, models = null, sprites = null, textures = null;
+		for (IndexEntry indexEntry : cacheService.findIndexesForCache(cache))
+		{
+			if (indexEntry.getIndexId() == IndexType.CONFIGS.getNumber())
+			{
+				configs = indexEntry;
+			}
+			else if (indexEntry.getIndexId() == IndexType.MODELS.getNumber())
+			{
+				models = indexEntry;
+			}
+			else if (indexEntry.getIndexId() == IndexType.SPRITES.getNumber())
+			{
+				sprites = indexEntry;
+			}
+			else if (indexEntry.getIndexId() == IndexType.TEXTURES.getNumber())
+			{
+				textures = indexEntry;
+			}
+		}
+
+		if (configs == null || models == null || sprites == null || textures == null)
+		{
+			throw new NotFoundException();
+		}
+
+		// the image depends on the item and model definitions, and the
+		// sprites of the textures, which can be anywhere in their indexes
+		byte[] source = Bytes.concat(Ints.toByteArray(configs.getCrc()), Ints.toByteArray(models.getCrc()),
+			Ints.toByteArray(sprites.getCrc()), Ints.toByteArray(textures.getCrc()));
+		String key = RenderCache.key("item", source, itemId, quantity, border, shadowColor);
+		if (webRequest.checkNotModified(key))
+		{
+			return null;
+		}
+
+		final IndexEntry modelIndex = models, spriteIndex = sprites, textureIndex = textures;
+		byte[] data = renderCache.get(key, () -> renderItemImage(modelIndex, spriteIndex, textureIndex,
+			itemId, quantity, border, shadowColor));
+		if (data == null)
+		{
+			throw new NotFoundException();
+		}
+
+		return ResponseEntity.ok()
+			.eTag(key)
+			.body(data);
+	}
+
+	private byte[] renderItemImage(IndexEntry modelIndex, IndexEntry spriteIndex, IndexEntry textureIndex,
+		int itemId, int quantity, int border, int shadowColor) throws IOException
+	{
 		ItemProvider itemProvider = new ItemProvider()
 		{
 			@Override
@@ -252,8 +316,7 @@ public class CacheController
 			@Override
 			public ModelDefinition provide(int modelId) throws IOException
 			{
-				IndexEntry indexEntry = cacheService.findIndexForCache(cache, IndexType.MODELS.getNumber());
-				ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(indexEntry, modelId);
+				ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(modelIndex, modelId);
 				byte[] archiveData = Container.decompress(cacheService.getArchive(archiveEntry), null).data;
 				return new ModelLoader().load(modelId, archiveData);
 			}
@@ -265,8 +328,7 @@ public class CacheController
 			{
 				try
 				{
-					IndexEntry indexEntry = cacheService.findIndexForCache(cache, IndexType.SPRITES.getNumber());
-					ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(indexEntry, spriteId);
+					ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(spriteIndex, spriteId);
 					byte[] archiveData = Container.decompress(cacheService.getArchive(archiveEntry), null).data;
 					SpriteDefinition[] defs = new SpriteLoader().load(spriteId, archiveData);
 					return defs[frameId];
@@ -286,8 +348,7 @@ public class CacheController
 			{
 				try
 				{
-					IndexEntry indexEntry = cacheService.findIndexForCache(cache, IndexType.TEXTURES.getNumber());
-					ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(indexEntry, 0);
+					ArchiveEntry archiveEntry = cacheService.findArchiveForIndex(textureIndex, 0);
 					ArchiveFiles archiveFiles = cacheService.getArchiveFiles(archiveEntry);
 					TextureLoader loader = new TextureLoader();
 					TextureDefinition[] defs = new TextureDefinition[archiveFiles.getFiles().size()];
@@ -309,9 +370,14 @@ public class CacheController
 
 		BufferedImage itemImage = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider2,
 			itemId, quantity, border, shadowColor, false);
+		if (itemImage == null)
+		{
+			return null;
+		}
+
 		ByteArrayOutputStream bao = new ByteArrayOutputStream();
 		ImageIO.write(itemImage, "png", bao);
-		return ResponseEntity.ok(bao.toByteArray());
+		return bao.toByteArray();
 	}
 
 	@GetMapping("object/{objectId}")
@@ -113,6 +113,16 @@ class CacheDAO
 			.executeAndFetchLazy(FileEntry.class);
 	}
 
+	public ResultSetIterable<FileEntry> findFilesForCache(Connection con, CacheEntry cache)
+	{
+		return con.createQuery("select file.id, file.archive as archiveId, file.fileId, file.nameHash from file "
+			+ "where file.archive in (select index_archive.archive from index_archive "
+			+ "join `index` on index.id = index_archive.index "
+			+ "where index.cache = :cache)")
+			.addParameter("cache", cache.getId())
+			.executeAndFetchLazy(FileEntry.class);
+	}
+
 	public CacheEntry findCache(Connection con, int cacheId)
 	{
 		return con.createQuery("select id, revision, date from cache "
@@ -59,10 +59,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.sql2o.Connection;
 import org.sql2o.ResultSetIterable;
 import org.sql2o.Sql2o;
+import org.sql2o.Sql2oException;
 import org.xmlpull.v1.XmlPullParserException;
 
 @Service
@@ -78,6 +80,8 @@ public class CacheService
 
 	private final MinioClient minioClient;
 
+	private volatile CacheSnapshot snapshot;
+
 	@Autowired
 	public CacheService(
 		@Value("${minio.endpoint}") String minioEndpoint,
@@ -94,6 +98,52 @@ public class CacheService
 		return minioClient;
 	}
 
+	/**
+	 * load a snapshot of the most recent cache, replacing the current one
+	 * when a newer cache has been added
+	 */
+	@Scheduled(fixedDelay = 60_000L)
+	public void refreshSnapshot()
+	{
+		try (Connection con = sql2o.open())
+		{
+			CacheDAO cacheDao = new CacheDAO();
+			CacheEntry cache = cacheDao.findMostRecent(con);
+			CacheSnapshot current = snapshot;
+
+			if (cache == null || (current != null && current.getCache().getId() == cache.getId()))
+			{
+				return;
+			}
+
+			log.debug("Loading snapshot of cache {} (revision {})", cache.getId(), cache.getRevision());
+			snapshot = CacheSnapshot.load(con, cacheDao, cache);
+			log.info("Loaded snapshot of cache {} (revision {})", cache.getId(), cache.getRevision());
+		}
+		catch (Sql2oException ex)
+		{
+			log.warn("unable to load cache snapshot", ex);
+		}
+	}
+
+	/**
+	 * get the snapshot for the given cache, if it is the one currently loaded
+	 */
+	private CacheSnapshot snapshotFor(CacheEntry cache)
+	{
+		CacheSnapshot current = snapshot;
+		return current != null && current.getCache().getId() == cache.getId() ? current : null;
+	}
+
+	/**
+	 * get the snapshot the given index belongs to, if it is the one currently loaded
+	 */
+	private CacheSnapshot snapshotFor(IndexEntry index)
+	{
+		CacheSnapshot current = snapshot;
+		return current != null && current.contains(index) ? current : null;
+	}
+
 	/**
 	 * retrieve archive from storage
 	 *
@@ -124,35 +174,52 @@ public class CacheService
 
 	public ArchiveFiles getArchiveFiles(ArchiveEntry archiveEntry) throws IOException
 	{
-		CacheDAO cacheDao = new CacheDAO();
+		List<FileEntry> files = findFilesForArchive(archiveEntry);
 
-		try (Connection con = sql2o.open();
-			ResultSetIterable<FileEntry> files = cacheDao.findFilesForArchive(con, archiveEntry))
+		byte[] archiveData = getArchive(archiveEntry);
+
+		if (archiveData == null)
 		{
-			byte[] archiveData = getArchive(archiveEntry);
+			return null;
+		}
 
-			if (archiveData == null)
-			{
-				return null;
-			}
+		Container result = Container.decompress(archiveData, null);
+		if (result == null)
+		{
+			return null;
+		}
 
-			Container result = Container.decompress(archiveData, null);
-			if (result == null)
-			{
-				return null;
-			}
+		byte[] decompressedData = result.data;
 
-			byte[] decompressedData = result.data;
+		ArchiveFiles archiveFiles = new ArchiveFiles();
+		for (FileEntry fileEntry : files)
+		{
+			FSFile file = new FSFile(fileEntry.getFileId());
+			archiveFiles.addFile(file);
+			file.setNameHash(fileEntry.getNameHash());
+		}
+		archiveFiles.loadContents(decompressedData);
+		return archiveFiles;
+	}
 
-			ArchiveFiles archiveFiles = new ArchiveFiles();
-			for (FileEntry fileEntry : files)
+	private List<FileEntry> findFilesForArchive(ArchiveEntry archiveEntry)
+	{
+		CacheSnapshot current = snapshot;
+		if (current != null)
+		{
+			List<FileEntry> files = current.getFiles(archiveEntry);
+			if (files != null)
 			{
-				FSFile file = new FSFile(fileEntry.getFileId());
-				archiveFiles.addFile(file);
-				file.setNameHash(fileEntry.getNameHash());
+				return files;
 			}
-			archiveFiles.loadContents(decompressedData);
-			return archiveFiles;
+		}
+
+		try (Connection con = sql2o.open();
+			ResultSetIterable<FileEntry> fileEntries = new CacheDAO().findFilesForArchive(con, archiveEntry))
+		{
+			List<FileEntry> files = new ArrayList<>();
+			Iterables.addAll(files, fileEntries);
+			return files;
 		}
 	}
 
@@ -167,6 +234,12 @@ public class CacheService
 
 	public CacheEntry findCache(int cacheId)
 	{
+		CacheSnapshot current = snapshot;
+		if (current != null && current.getCache().getId() == cacheId)
+		{
+			return current.getCache();
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -176,6 +249,12 @@ public class CacheService
 
 	public CacheEntry findMostRecent()
 	{
+		CacheSnapshot current = snapshot;
+		if (current != null)
+		{
+			return current.getCache();
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -185,6 +264,12 @@ public class CacheService
 
 	public List<IndexEntry> findIndexesForCache(CacheEntry cacheEntry)
 	{
+		CacheSnapshot current = snapshotFor(cacheEntry);
+		if (current != null)
+		{
+			return current.getIndexes();
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -194,6 +279,12 @@ public class CacheService
 
 	public IndexEntry findIndexForCache(CacheEntry cahceEntry, int indexId)
 	{
+		CacheSnapshot current = snapshotFor(cahceEntry);
+		if (current != null)
+		{
+			return current.getIndex(indexId);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -203,6 +294,12 @@ public class CacheService
 
 	public List<ArchiveEntry> findArchivesForIndex(IndexEntry indexEntry)
 	{
+		CacheSnapshot current = snapshotFor(indexEntry);
+		if (current != null)
+		{
+			return new ArrayList<>(current.getArchives(indexEntry.getIndexId()));
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -215,6 +312,12 @@ public class CacheService
 
 	public ArchiveEntry findArchiveForIndex(IndexEntry indexEntry, int archiveId)
 	{
+		CacheSnapshot current = snapshotFor(indexEntry);
+		if (current != null)
+		{
+			return current.getArchive(indexEntry.getIndexId(), archiveId);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
@@ -224,6 +327,12 @@ public class CacheService
 
 	public ArchiveEntry findArchiveForTypeAndName(CacheEntry cache, IndexType index, int nameHash)
 	{
+		CacheSnapshot current = snapshotFor(cache);
+		if (current != null)
+		{
+			return current.getArchiveByName(index.getNumber(), nameHash);
+		}
+
 		try (Connection con = sql2o.open())
 		{
 			CacheDAO cacheDao = new CacheDAO();
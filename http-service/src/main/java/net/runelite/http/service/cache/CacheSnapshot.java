@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import net.runelite.http.service.cache.beans.ArchiveEntry;
+import net.runelite.http.service.cache.beans.CacheEntry;
+import net.runelite.http.service.cache.beans.FileEntry;
+import net.runelite.http.service.cache.beans.IndexEntry;
+import org.sql2o.Connection;
+import org.sql2o.ResultSetIterable;
+
+/**
+ * An immutable copy of the index, archive and file metadata of a single
+ * cache. Caches are never modified once the updater has committed them,
+ * so a snapshot of the most recent cache can serve lookups without going
+ * to the database.
+ */
+final class CacheSnapshot
+{
+	private static final ArchiveEntry[] NO_ARCHIVES = new ArchiveEntry[0];
+	private static final FileEntry[] NO_FILES = new FileEntry[0];
+
+	@Getter
+	private final CacheEntry cache;
+
+	/**
+	 * indexes by index id
+	 */
+	private final IndexEntry[] indexes;
+
+	/**
+	 * per index id, the archives sorted by archive id
+	 */
+	private final int[][] archiveIds;
+	private final ArchiveEntry[][] archives;
+
+	/**
+	 * per index id, the archives sorted by name hash
+	 */
+	private final int[][] nameHashes;
+	private final ArchiveEntry[][] archivesByName;
+
+	/**
+	 * files, keyed by the database id of the archive they belong to
+	 */
+	private final int[] fileArchives;
+	private final FileEntry[][] files;
+
+	CacheSnapshot(CacheEntry cache, Collection<IndexEntry> indexEntries, Map<Integer, List<ArchiveEntry>> archiveEntries, Iterable<FileEntry> fileEntries)
+	{
+		this.cache = cache;
+
+		int maxIndex = -1;
+		for (IndexEntry index : indexEntries)
+		{
+			maxIndex = Math.max(maxIndex, index.getIndexId());
+		}
+
+		indexes = new IndexEntry[maxIndex + 1];
+		archiveIds = new int[maxIndex + 1][];
+		archives = new ArchiveEntry[maxIndex + 1][];
+		nameHashes = new int[maxIndex + 1][];
+		archivesByName = new ArchiveEntry[maxIndex + 1][];
+
+		int archiveCount = 0;
+		for (IndexEntry index : indexEntries)
+		{
+			int indexId = index.getIndexId();
+			List<ArchiveEntry> list = archiveEntries.getOrDefault(indexId, Collections.emptyList());
+
+			ArchiveEntry[] byId = list.toArray(NO_ARCHIVES);
+			Arrays.sort(byId, Comparator.comparingInt(ArchiveEntry::getArchiveId));
+
+			ArchiveEntry[] byName = byId.clone();
+			Arrays.sort(byName, Comparator.comparingInt(ArchiveEntry::getNameHash));
+
+			indexes[indexId] = index;
+			archives[indexId] = byId;
+			archiveIds[indexId] = Arrays.stream(byId).mapToInt(ArchiveEntry::getArchiveId).toArray();
+			archivesByName[indexId] = byName;
+			nameHashes[indexId] = Arrays.stream(byName).mapToInt(ArchiveEntry::getNameHash).toArray();
+			archiveCount += byId.length;
+		}
+
+		// group the files by archive, keeping them in insertion order
+		Map<Integer, List<FileEntry>> grouped = new HashMap<>(archiveCount);
+		for (FileEntry file : fileEntries)
+		{
+			grouped.computeIfAbsent(file.getArchiveId(), k -> new ArrayList<>()).add(file);
+		}
+
+		fileArchives = grouped.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+		files = new FileEntry[fileArchives.length][];
+		for (int i = 0; i < fileArchives.length; ++i)
+		{
+			FileEntry[] archiveFiles = grouped.get(fileArchives[i]).toArray(NO_FILES);
+			Arrays.sort(archiveFiles, Comparator.comparingInt(FileEntry::getId));
+			files[i] = archiveFiles;
+		}
+	}
+
+	static CacheSnapshot load(Connection con, CacheDAO cacheDao, CacheEntry cache)
+	{
+		List<IndexEntry> indexes = cacheDao.findIndexesForCache(con, cache);
+		Map<Integer, List<ArchiveEntry>> archives = new HashMap<>();
+		for (IndexEntry index : indexes)
+		{
+			List<ArchiveEntry> list = new ArrayList<>();
+			try (ResultSetIterable<ArchiveEntry> archiveEntries = cacheDao.findArchivesForIndex(con, index))
+			{
+				archiveEntries.forEach(list::add);
+			}
+			archives.put(index.getIndexId(), list);
+		}
+
+		try (ResultSetIterable<FileEntry> files = cacheDao.findFilesForCache(con, cache))
+		{
+			return new CacheSnapshot(cache, indexes, archives, files);
+		}
+	}
+
+	List<IndexEntry> getIndexes()
+	{
+		List<IndexEntry> list = new ArrayList<>();
+		for (IndexEntry index : indexes)
+		{
+			if (index != null)
+			{
+				list.add(index);
+			}
+		}
+		return list;
+	}
+
+	IndexEntry getIndex(int indexId)
+	{
+		return indexId >= 0 && indexId < indexes.length ? indexes[indexId] : null;
+	}
+
+	/**
+	 * Check whether an index entry belongs to this snapshot
+	 *
+	 * @param index
+	 * @return
+	 */
+	boolean contains(IndexEntry index)
+	{
+		IndexEntry entry = getIndex(index.getIndexId());
+		return entry != null && entry.getId() == index.getId();
+	}
+
+	List<ArchiveEntry> getArchives(int indexId)
+	{
+		IndexEntry index = getIndex(indexId);
+		return index == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(archives[indexId]));
+	}
+
+	ArchiveEntry getArchive(int indexId, int archiveId)
+	{
+		if (getIndex(indexId) == null)
+		{
+			return null;
+		}
+
+		int idx = Arrays.binarySearch(archiveIds[indexId], archiveId);
+		return idx >= 0 ? archives[indexId][idx] : null;
+	}
+
+	ArchiveEntry getArchiveByName(int indexId, int nameHash)
+	{
+		if (getIndex(indexId) == null)
+		{
+			return null;
+		}
+
+		int idx = Arrays.binarySearch(nameHashes[indexId], nameHash);
+		return idx >= 0 ? archivesByName[indexId][idx] : null;
+	}
+
+	/**
+	 * Get the files of an archive, in the order they were stored
+	 *
+	 * @param archive
+	 * @return the files, or null if the archive is not part of this snapshot
+	 */
+	List<FileEntry> getFiles(ArchiveEntry archive)
+	{
+		int idx = Arrays.binarySearch(fileArchives, archive.getId());
+		return idx >= 0 ? Collections.unmodifiableList(Arrays.asList(files[idx])) : null;
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cache of images rendered from cache data. Entries are keyed by a hash of
+ * everything the output is rendered from, so they never need invalidating,
+ * and the key doubles as the ETag of the output. Recently used entries are
+ * kept in memory, and all entries are written to disk if a directory is
+ * configured.
+ */
+@Service
+@Slf4j
+public class RenderCache
+{
+	private static final byte[] NOT_FOUND = new byte[0];
+
+	@FunctionalInterface
+	public interface Renderer
+	{
+		/**
+		 * @return the rendered output, or null if there is nothing to render
+		 * @throws IOException
+		 */
+		byte[] render() throws IOException;
+	}
+
+	private final Cache<String, byte[]> memory;
+	private final Path directory;
+
+	@Autowired
+	public RenderCache(
+		@Value("${runelite.render-cache.memory:67108864}") long maximumMemory,
+		@Value("${runelite.render-cache.directory:}") String directory
+	)
+	{
+		this.memory = CacheBuilder.newBuilder()
+			.maximumWeight(maximumMemory)
+			.<String, byte[]>weigher((key, data) -> key.length() + data.length)
+			.build();
+		this.directory = Strings.isNullOrEmpty(directory) ? null : new File(directory).toPath();
+	}
+
+	/**
+	 * Compute the key for rendered output
+	 *
+	 * @param type type of output
+	 * @param source hash of the cache data the output is rendered from
+	 * @param parameters parameters the output is rendered with
+	 * @return
+	 */
+	public static String key(String type, byte[] source, int... parameters)
+	{
+		Hasher hasher = Hashing.sha256().newHasher()
+			.putString(type, StandardCharsets.UTF_8)
+			.putBytes(source);
+		for (int parameter : parameters)
+		{
+			hasher.putInt(parameter);
+		}
+		return hasher.hash().toString();
+	}
+
+	/**
+	 * Get rendered output, rendering it if it is not cached
+	 *
+	 * @param key key of the output
+	 * @param renderer renderer for the output
+	 * @return the output, or null if there is nothing to render
+	 * @throws IOException
+	 */
+	public byte[] get(String key, Renderer renderer) throws IOException
+	{
+		byte[] data;
+		try
+		{
+			data = memory.get(key, () -> load(key, renderer));
+		}
+		catch (ExecutionException | UncheckedExecutionException ex)
+		{
+			Throwables.throwIfInstanceOf(ex.getCause(), IOException.class);
+			Throwables.throwIfUnchecked(ex.getCause());
+			throw new IOException(ex.getCause());
+		}
+
+		return data == NOT_FOUND ? null : data;
+	}
+
+	private byte[] load(String key, Renderer renderer) throws IOException
+	{
+		Path path = directory == null ? null : directory.resolve(key.substring(0, 2)).resolve(key);
+
+		if (path != null)
+		{
+			try
+			{
+				return Files.readAllBytes(path);
+			}
+			catch (NoSuchFileException ex)
+			{
+				// not rendered yet
+			}
+		}
+
+		byte[] data = renderer.render();
+		if (data == null)
+		{
+			return NOT_FOUND;
+		}
+
+		if (path != null)
+		{
+			try
+			{
+				// write to a temporary file first so partially written
+				// files are never read
+				Files.createDirectories(path.getParent());
+				Path tmp = Files.createTempFile(path.getParent(), key, ".tmp");
+				Files.write(tmp, data);
+				Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to write rendered output {}", key, ex);
+			}
+		}
+
+		return data;
+	}
+}
@@ -138,40 +138,36 @@ public class ItemController
 			time = now;
 		}
 
-		ItemEntry item = itemService.getItem(itemId);
-		if (item == null)
-		{
-			itemService.queueItem(itemId); // queue lookup
-			cachedEmpty.put(itemId, itemId); // cache empty
-			return ResponseEntity.notFound()
-				.header(RUNELITE_CACHE, "MISS")
-				.build();
-		}
-
+		// the price query joins the item, so the item only needs to be looked up when there is no price
 		PriceEntry priceEntry = itemService.getPrice(itemId, time);
 
-		if (time != null)
+		if (priceEntry == null)
 		{
-			if (priceEntry == null)
+			ItemEntry item = itemService.getItem(itemId);
+			if (item == null)
 			{
-				// we maybe can't backfill this
+				itemService.queueItem(itemId); // queue lookup
+				cachedEmpty.put(itemId, itemId); // cache empty
 				return ResponseEntity.notFound()
 					.header(RUNELITE_CACHE, "MISS")
 					.build();
 			}
-		}
-		else if (priceEntry == null)
-		{
-			// Price is unknown
-			cachedEmpty.put(itemId, itemId);
+
+			if (time == null)
+			{
+				// Price is unknown
+				cachedEmpty.put(itemId, itemId);
+			}
+
+			// otherwise we maybe can't backfill this
 			return ResponseEntity.notFound()
 				.header(RUNELITE_CACHE, "MISS")
 				.build();
 		}
 
 		ItemPrice itemPrice = new ItemPrice();
-		itemPrice.setId(item.getId());
-		itemPrice.setName(item.getName());
+		itemPrice.setId(priceEntry.getItem());
+		itemPrice.setName(priceEntry.getName());
 		itemPrice.setPrice(priceEntry.getPrice());
 		itemPrice.setTime(priceEntry.getTime());
 
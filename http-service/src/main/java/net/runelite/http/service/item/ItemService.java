@@ -24,18 +24,20 @@
  */
 package net.runelite.http.service.item;
 
+import com.google.common.primitives.Ints;
 import com.google.gson.JsonParseException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.http.api.RuneLiteAPI;
@@ -145,29 +147,46 @@ public class ItemService
 		}
 	}
 
+	/**
+	 * Get the latest price of each of the given items with a single query. Duplicate ids are ignored,
+	 * and items without a price are left out.
+	 *
+	 * @param itemIds item ids
+	 * @return price entries, in the order the ids were given
+	 */
 	public List<PriceEntry> getPrices(int... itemIds)
 	{
-		try (Connection con = sql2o.open())
+		final int[] ids = IntStream.of(itemIds).distinct().toArray();
+
+		if (ids.length == 0)
 		{
-			Set<Integer> seen = new HashSet<>();
-			List<PriceEntry> priceEntries = new ArrayList<>(itemIds.length);
+			return Collections.emptyList();
+		}
 
-			for (int itemId : itemIds)
+		try (Connection con = sql2o.open())
+		{
+			// sql2o can't bind a list parameter, but the ids are ints so inlining them is safe
+			List<PriceEntry> entries = con.createQuery("select t2.item, t3.name, t2.time, prices.price, prices.fetched_time from "
+				+ "(select t1.item as item, max(t1.time) as time from prices t1 where t1.item in (" + Ints.join(",", ids) + ") group by item) t2"
+				+ " join prices on t2.item=prices.item and t2.time=prices.time"
+				+ " join items t3 on t2.item=t3.id")
+				.executeAndFetch(PriceEntry.class);
+
+			Map<Integer, PriceEntry> byItem = new HashMap<>(entries.size());
+			for (PriceEntry entry : entries)
 			{
-				if (seen.contains(itemId))
-				{
-					continue;
-				}
-				seen.add(itemId);
+				byItem.put(entry.getItem(), entry);
+			}
 
-				PriceEntry priceEntry = getPrice(con, itemId, null);
+			List<PriceEntry> priceEntries = new ArrayList<>(byItem.size());
+			for (int itemId : ids)
+			{
+				PriceEntry priceEntry = byItem.get(itemId);
 
-				if (priceEntry == null)
+				if (priceEntry != null)
 				{
-					continue;
+					priceEntries.add(priceEntry);
 				}
-
-				priceEntries.add(priceEntry);
 			}
 
 			return priceEntries;
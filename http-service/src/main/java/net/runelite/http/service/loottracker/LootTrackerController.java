@@ -28,6 +28,7 @@ package net.runelite.http.service.loottracker;
 import com.google.api.client.http.HttpStatusCodes;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import net.runelite.http.api.loottracker.LootRecord;
@@ -36,6 +37,7 @@ import net.runelite.http.service.account.beans.SessionEntry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -46,6 +48,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/loottracker")
 public class LootTrackerController
 {
+	/**
+	 * Most records accepted in one batch. The client sends at most 25.
+	 */
+	private static final int MAX_BATCH_SIZE = 32;
+
 	@Autowired
 	private LootTrackerService service;
 
@@ -66,6 +73,26 @@ public class LootTrackerController
 		response.setStatus(HttpStatusCodes.STATUS_CODE_OK);
 	}
 
+	@PostMapping("/batch")
+	public void storeLootRecords(HttpServletRequest request, HttpServletResponse response, @RequestBody List<LootRecord> records) throws IOException
+	{
+		SessionEntry e = auth.handle(request, response);
+		if (e == null)
+		{
+			response.setStatus(HttpStatusCodes.STATUS_CODE_UNAUTHORIZED);
+			return;
+		}
+
+		if (records.size() > MAX_BATCH_SIZE)
+		{
+			response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+			return;
+		}
+
+		service.store(records, e.getUser());
+		response.setStatus(HttpStatusCodes.STATUS_CODE_OK);
+	}
+
 	@GetMapping
 	public Collection<LootRecord> getLootRecords(HttpServletRequest request, HttpServletResponse response, @RequestParam(value = "count", defaultValue = "1024") int count, @RequestParam(value = "start", defaultValue = "0") int start) throws IOException
 	{
@@ -25,8 +25,10 @@
  */
 package net.runelite.http.service.loottracker;
 
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import net.runelite.http.api.loottracker.GameItem;
 import net.runelite.http.api.loottracker.LootRecord;
@@ -63,8 +65,9 @@ public class LootTrackerService
 		+ ") ENGINE=InnoDB";
 
 	// Queries for inserting kills
-	private static final String INSERT_KILL_QUERY = "INSERT INTO kills (accountId, type, eventId) VALUES (:accountId, :type, :eventId)";
-	private static final String INSERT_DROP_QUERY = "INSERT INTO drops (killId, itemId, itemQuantity) VALUES (LAST_INSERT_ID(), :itemId, :itemQuantity)";
+	// Kills are stored with the time the client recorded them, as clients send them in batches
+	private static final String INSERT_KILL_QUERY = "INSERT INTO kills (accountId, time, type, eventId) VALUES (:accountId, COALESCE(:time, CURRENT_TIMESTAMP), :type, :eventId)";
+	private static final String INSERT_DROP_QUERY = "INSERT INTO drops (killId, itemId, itemQuantity) VALUES (:killId, :itemId, :itemQuantity)";
 
 	private static final String SELECT_LOOT_QUERY = "SELECT killId,time,type,eventId,itemId,itemQuantity FROM kills JOIN drops ON drops.killId = kills.id WHERE accountId = :accountId ORDER BY TIME DESC LIMIT :limit OFFSET :offset";
 
@@ -94,24 +97,56 @@ public class LootTrackerService
 	 */
 	public void store(LootRecord record, int accountId)
 	{
+		store(Collections.singletonList(record), accountId);
+	}
+
+	/**
+	 * Store several LootRecords in a single transaction
+	 *
+	 * @param records   LootRecords to store
+	 * @param accountId runelite account id to tie data too
+	 */
+	public void store(Collection<LootRecord> records, int accountId)
+	{
+		if (records.isEmpty())
+		{
+			return;
+		}
+
 		try (Connection con = sql2o.beginTransaction())
 		{
-			// Kill Entry Query
-			con.createQuery(INSERT_KILL_QUERY, true)
-				.addParameter("accountId", accountId)
-				.addParameter("type", record.getType())
-				.addParameter("eventId", record.getEventId())
-				.executeUpdate();
+			// Insert all of the kills at once, then use their generated ids for the drops
+			Query insertKill = con.createQuery(INSERT_KILL_QUERY, true);
+
+			for (LootRecord record : records)
+			{
+				insertKill
+					.addParameter("accountId", accountId)
+					.addParameter("time", record.getTime() == null ? null : Timestamp.from(record.getTime()))
+					.addParameter("type", record.getType())
+					.addParameter("eventId", record.getEventId())
+					.addToBatch();
+			}
+
+			insertKill.executeBatch();
+			List<Integer> killIds = con.getKeys(Integer.class);
 
 			Query insertDrop = con.createQuery(INSERT_DROP_QUERY);
 
-			// Append all queries for inserting drops
-			for (GameItem drop : record.getDrops())
+			int i = 0;
+			for (LootRecord record : records)
 			{
-				insertDrop
-					.addParameter("itemId", drop.getId())
-					.addParameter("itemQuantity", drop.getQty())
-					.addToBatch();
+				int killId = killIds.get(i++);
+
+				// Append all queries for inserting drops
+				for (GameItem drop : record.getDrops())
+				{
+					insertDrop
+						.addParameter("killId", killId)
+						.addParameter("itemId", drop.getId())
+						.addParameter("itemQuantity", drop.getQty())
+						.addToBatch();
+				}
 			}
 
 			insertDrop.executeBatch();
@@ -24,17 +24,16 @@
  */
 package net.runelite.http.service.sprite;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
+import net.runelite.http.service.cache.RenderCache;
+import net.runelite.http.service.cache.beans.ArchiveEntry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/sprite")
@@ -43,31 +42,36 @@ public class SpriteController
 	@Autowired
 	private SpriteService spriteService;
 
-	private final LoadingCache<Integer, byte[]> spriteCache = CacheBuilder.newBuilder()
-		.maximumSize(1024L)
-		.expireAfterWrite(10, TimeUnit.MINUTES)
-		.build(new CacheLoader<Integer, byte[]>()
-		{
-			@Override
-			public byte[] load(Integer key) throws Exception
-			{
-				byte[] data = spriteService.getImagePng(key >>> 16, key & 0xffff);
-				return data != null ? data : new byte[0];
-			}
-		});
+	@Autowired
+	private RenderCache renderCache;
 
 	@GetMapping(produces = "image/png")
 	public ResponseEntity<byte[]> getSprite(
 		@RequestParam int spriteId,
-		@RequestParam(defaultValue = "0") int frameId
+		@RequestParam(defaultValue = "0") int frameId,
+		WebRequest webRequest
 	) throws IOException
 	{
-		byte[] data = spriteCache.getUnchecked(spriteId << 16 | frameId);
-		if (data == null || data.length == 0)
+		ArchiveEntry archive = spriteService.findSpriteArchive(spriteId);
+		if (archive == null)
+		{
+			return ResponseEntity.notFound().build();
+		}
+
+		String key = RenderCache.key("sprite", archive.getHash(), frameId);
+		if (webRequest.checkNotModified(key))
+		{
+			return null;
+		}
+
+		byte[] data = renderCache.get(key, () -> spriteService.getImagePng(archive, frameId));
+		if (data == null)
 		{
 			return ResponseEntity.notFound().build();
 		}
 
-		return ResponseEntity.ok(data);
+		return ResponseEntity.ok()
+			.eTag(key)
+			.body(data);
 	}
 }
@@ -46,7 +46,7 @@ public class SpriteService
 	@Autowired
 	private CacheService cacheService;
 
-	public SpriteDefinition getSprite(int spriteId, int frameId) throws IOException
+	public ArchiveEntry findSpriteArchive(int spriteId)
 	{
 		CacheEntry cache = cacheService.findMostRecent();
 		if (cache == null)
@@ -60,12 +60,22 @@ public class SpriteService
 			return null;
 		}
 
-		ArchiveEntry archive = cacheService.findArchiveForIndex(index, spriteId);
+		return cacheService.findArchiveForIndex(index, spriteId);
+	}
+
+	public SpriteDefinition getSprite(int spriteId, int frameId) throws IOException
+	{
+		ArchiveEntry archive = findSpriteArchive(spriteId);
 		if (archive == null)
 		{
 			return null;
 		}
 
+		return getSprite(archive, frameId);
+	}
+
+	public SpriteDefinition getSprite(ArchiveEntry archive, int frameId) throws IOException
+	{
 		ArchiveFiles files = cacheService.getArchiveFiles(archive);
 		if (files == null)
 		{
@@ -98,11 +108,17 @@ public class SpriteService
 	public byte[] getImagePng(int spriteId, int frameId) throws IOException
 	{
 		BufferedImage image = getImage(spriteId, frameId);
-		if (image == null)
-		{
-			return null;
-		}
+		return image == null ? null : toPng(image);
+	}
 
+	public byte[] getImagePng(ArchiveEntry archive, int frameId) throws IOException
+	{
+		SpriteDefinition sprite = getSprite(archive, frameId);
+		return sprite == null ? null : toPng(getSpriteImage(sprite));
+	}
+
+	private static byte[] toPng(BufferedImage image) throws IOException
+	{
 		ByteArrayOutputStream bao = new ByteArrayOutputStream();
 		ImageIO.write(image, "png", bao);
 		return bao.toByteArray();
@@ -26,12 +26,26 @@ package net.runelite.http.service.xp;
 
 import com.google.common.hash.BloomFilter;
 import com.google.common.hash.Funnels;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.nio.charset.Charset;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayDeque;
-import java.util.Queue;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.http.api.hiscore.HiscoreEndpoint;
 import net.runelite.http.api.hiscore.HiscoreResult;
@@ -41,10 +55,13 @@ import net.runelite.http.service.xp.beans.PlayerEntity;
 import net.runelite.http.service.xp.beans.XpEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.sql2o.Connection;
+import org.sql2o.Query;
 import org.sql2o.Sql2o;
+import org.sql2o.Sql2oException;
 
 @Service
 @Slf4j
@@ -52,16 +69,73 @@ public class XpTrackerService
 {
 	private static final int QUEUE_LIMIT = 32768;
 	private static final int BLOOMFILTER_EXPECTED_INSERTIONS = 100_000;
+	private static final int MAX_BATCH_SIZE = 256;
 
-	@Autowired
-	@Qualifier("Runelite XP Tracker SQL2O")
-	private Sql2o sql2o;
+	private static final String INSERT_XP = "insert into xp (player,attack_xp,defence_xp,strength_xp,hitpoints_xp,ranged_xp,prayer_xp,magic_xp,cooking_xp,woodcutting_xp,"
+		+ "fletching_xp,fishing_xp,firemaking_xp,crafting_xp,smithing_xp,mining_xp,herblore_xp,agility_xp,thieving_xp,slayer_xp,farming_xp,"
+		+ "runecraft_xp,hunter_xp,construction_xp,attack_rank,defence_rank,strength_rank,hitpoints_rank,ranged_rank,prayer_rank,magic_rank,"
+		+ "cooking_rank,woodcutting_rank,fletching_rank,fishing_rank,firemaking_rank,crafting_rank,smithing_rank,mining_rank,herblore_rank,"
+		+ "agility_rank,thieving_rank,slayer_rank,farming_rank,runecraft_rank,hunter_rank,construction_rank,overall_rank) values (:player,:attack_xp,:defence_xp,"
+		+ ":strength_xp,:hitpoints_xp,:ranged_xp,:prayer_xp,:magic_xp,:cooking_xp,:woodcutting_xp,:fletching_xp,:fishing_xp,:firemaking_xp,"
+		+ ":crafting_xp,:smithing_xp,:mining_xp,:herblore_xp,:agility_xp,:thieving_xp,:slayer_xp,:farming_xp,:runecraft_xp,:hunter_xp,"
+		+ ":construction_xp,:attack_rank,:defence_rank,:strength_rank,:hitpoints_rank,:ranged_rank,:prayer_rank,:magic_rank,:cooking_rank,"
+		+ ":woodcutting_rank,:fletching_rank,:fishing_rank,:firemaking_rank,:crafting_rank,:smithing_rank,:mining_rank,:herblore_rank,"
+		+ ":agility_rank,:thieving_rank,:slayer_rank,:farming_rank,:runecraft_rank,:hunter_rank,:construction_rank,:overall_rank)";
+
+	private final Sql2o sql2o;
+	private final HiscoreService hiscoreService;
+	private final int threads;
+	private final RateLimiter rateLimiter;
+
+	private final BlockingQueue<String> usernameUpdateQueue = new LinkedBlockingQueue<>(QUEUE_LIMIT);
+	// usernames currently in the update queue, and when they were queued
+	private final Map<String, Long> queuedUsernames = new ConcurrentHashMap<>();
+	// hiscore results waiting to be written to the xp table
+	private final BlockingQueue<PendingUpdate> pendingUpdates = new LinkedBlockingQueue<>();
+	private volatile BloomFilter<String> usernameFilter = createFilter();
+
+	private final AtomicLong lookups = new AtomicLong();
+	private final AtomicLong failedLookups = new AtomicLong();
+	private final AtomicLong totalLatency = new AtomicLong();
+	private final AtomicLong maxLatency = new AtomicLong();
+
+	private ExecutorService executor;
 
 	@Autowired
-	private HiscoreService hiscoreService;
+	public XpTrackerService(
+		@Qualifier("Runelite XP Tracker SQL2O") Sql2o sql2o,
+		HiscoreService hiscoreService,
+		@Value("${runelite.xp.update.threads:4}") int threads,
+		@Value("${runelite.xp.update.rate:4}") double rate
+	)
+	{
+		this.sql2o = sql2o;
+		this.hiscoreService = hiscoreService;
+		this.threads = threads;
+		this.rateLimiter = RateLimiter.create(rate);
+	}
 
-	private final Queue<String> usernameUpdateQueue = new ArrayDeque<>();
-	private BloomFilter<String> usernameFilter = createFilter();
+	@PostConstruct
+	public void start()
+	{
+		executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+			.setNameFormat("xp-update-%d")
+			.setDaemon(true)
+			.build());
+
+		for (int i = 0; i < threads; ++i)
+		{
+			executor.execute(this::processQueue);
+		}
+	}
+
+	@PreDestroy
+	public void stop() throws InterruptedException
+	{
+		executor.shutdownNow();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+		flush();
+	}
 
 	public void update(String username) throws ExecutionException
 	{
@@ -88,114 +162,210 @@ public class XpTrackerService
 				usernameFilter.put(username);
 				return;
 			}
+		}
+
+		if (queuedUsernames.putIfAbsent(username, System.nanoTime()) == null
+			&& !usernameUpdateQueue.offer(username))
+		{
+			queuedUsernames.remove(username);
+			log.warn("Username update queue is full ({})", QUEUE_LIMIT);
+			return;
+		}
+
+		usernameFilter.put(username);
+	}
+
+	/**
+	 * Queue a hiscore result to be written to the xp table on the next flush
+	 *
+	 * @param username
+	 * @param hiscoreResult
+	 */
+	public void update(String username, HiscoreResult hiscoreResult)
+	{
+		pendingUpdates.add(new PendingUpdate(username, hiscoreResult));
+	}
+
+	private void processQueue()
+	{
+		while (!Thread.currentThread().isInterrupted())
+		{
+			String username;
+			try
+			{
+				username = usernameUpdateQueue.take();
+			}
+			catch (InterruptedException e)
+			{
+				return;
+			}
+
+			Long queued = queuedUsernames.remove(username);
+
+			rateLimiter.acquire();
 
-			synchronized (usernameUpdateQueue)
+			try
 			{
-				if (usernameUpdateQueue.size() >= QUEUE_LIMIT)
-				{
-					log.warn("Username update queue is full ({})", QUEUE_LIMIT);
-					return;
-				}
+				HiscoreResult hiscoreResult = hiscoreService.lookupUsername(username, HiscoreEndpoint.NORMAL);
+				update(username, hiscoreResult);
+			}
+			catch (ExecutionException | RuntimeException ex)
+			{
+				log.debug("Unable to look up hiscore for {}", username, ex);
+				failedLookups.incrementAndGet();
+				continue;
+			}
 
-				usernameUpdateQueue.add(username);
+			if (queued != null)
+			{
+				long latency = System.nanoTime() - queued;
+				totalLatency.addAndGet(latency);
+				maxLatency.accumulateAndGet(latency, Math::max);
 			}
+			lookups.incrementAndGet();
 		}
+	}
 
-		usernameFilter.put(username);
+	/**
+	 * Write the queued hiscore results, batching the inserts into xp
+	 */
+	@Scheduled(fixedDelay = 1000)
+	public void flush()
+	{
+		List<PendingUpdate> batch = new ArrayList<>(MAX_BATCH_SIZE);
+		while (pendingUpdates.drainTo(batch, MAX_BATCH_SIZE) > 0)
+		{
+			try
+			{
+				store(batch);
+			}
+			catch (Sql2oException ex)
+			{
+				log.warn("Unable to store {} xp updates", batch.size(), ex);
+			}
+			batch.clear();
+		}
 	}
 
-	public void update(String username, HiscoreResult hiscoreResult)
+	private void store(List<PendingUpdate> batch)
 	{
-		try (Connection con = sql2o.open())
+		// a player is only inserted once per batch, xp is unique per player and time
+		Map<String, HiscoreResult> results = new LinkedHashMap<>();
+		for (PendingUpdate update : batch)
 		{
-			PlayerEntity playerEntity = findOrCreatePlayer(con, username);
+			results.put(update.getUsername(), update.getHiscoreResult());
+		}
 
+		Map<PlayerEntity, HiscoreResult> changed = new LinkedHashMap<>();
+		try (Connection con = sql2o.open())
+		{
 			Instant now = Instant.now();
-			XpEntity currentXp = findXpAtTime(con, username, now);
-			if (currentXp != null)
+			for (Map.Entry<String, HiscoreResult> entry : results.entrySet())
 			{
-				XpData hiscoreData = XpMapper.INSTANCE.hiscoreResultToXpData(hiscoreResult);
-				XpData existingData = XpMapper.INSTANCE.xpEntityToXpData(currentXp);
+				String username = entry.getKey();
+				HiscoreResult hiscoreResult = entry.getValue();
+				PlayerEntity playerEntity = findOrCreatePlayer(con, username);
 
-				if (hiscoreData.equals(existingData))
+				XpEntity currentXp = findXpAtTime(con, username, now);
+				if (currentXp != null)
 				{
-					log.debug("Hiscore for {} already up to date", username);
-					return;
+					XpData hiscoreData = XpMapper.INSTANCE.hiscoreResultToXpData(hiscoreResult);
+					XpData existingData = XpMapper.INSTANCE.xpEntityToXpData(currentXp);
+
+					if (hiscoreData.equals(existingData))
+					{
+						log.debug("Hiscore for {} already up to date", username);
+						continue;
+					}
 				}
+
+				changed.put(playerEntity, hiscoreResult);
+			}
+		}
+
+		if (changed.isEmpty())
+		{
+			return;
+		}
+
+		try (Connection con = sql2o.beginTransaction())
+		{
+			Query insertXp = con.createQuery(INSERT_XP);
+			Query updatePlayer = con.createQuery("update player set rank = :rank, last_updated = CURRENT_TIMESTAMP where id = :id");
+
+			for (Map.Entry<PlayerEntity, HiscoreResult> entry : changed.entrySet())
+			{
+				PlayerEntity playerEntity = entry.getKey();
+				HiscoreResult hiscoreResult = entry.getValue();
+
+				insertXp
+					.addParameter("player", playerEntity.getId())
+					.addParameter("attack_xp", hiscoreResult.getAttack().getExperience())
+					.addParameter("defence_xp", hiscoreResult.getDefence().getExperience())
+					.addParameter("strength_xp", hiscoreResult.getStrength().getExperience())
+					.addParameter("hitpoints_xp", hiscoreResult.getHitpoints().getExperience())
+					.addParameter("ranged_xp", hiscoreResult.getRanged().getExperience())
+					.addParameter("prayer_xp", hiscoreResult.getPrayer().getExperience())
+					.addParameter("magic_xp", hiscoreResult.getMagic().getExperience())
+					.addParameter("cooking_xp", hiscoreResult.getCooking().getExperience())
+					.addParameter("woodcutting_xp", hiscoreResult.getWoodcutting().getExperience())
+					.addParameter("fletching_xp", hiscoreResult.getFletching().getExperience())
+					.addParameter("fishing_xp", hiscoreResult.getFishing().getExperience())
+					.addParameter("firemaking_xp", hiscoreResult.getFiremaking().getExperience())
+					.addParameter("crafting_xp", hiscoreResult.getCrafting().getExperience())
+					.addParameter("smithing_xp", hiscoreResult.getSmithing().getExperience())
+					.addParameter("mining_xp", hiscoreResult.getMining().getExperience())
+					.addParameter("herblore_xp", hiscoreResult.getHerblore().getExperience())
+					.addParameter("agility_xp", hiscoreResult.getAgility().getExperience())
+					.addParameter("thieving_xp", hiscoreResult.getThieving().getExperience())
+					.addParameter("slayer_xp", hiscoreResult.getSlayer().getExperience())
+					.addParameter("farming_xp", hiscoreResult.getFarming().getExperience())
+					.addParameter("runecraft_xp", hiscoreResult.getRunecraft().getExperience())
+					.addParameter("hunter_xp", hiscoreResult.getHunter().getExperience())
+					.addParameter("construction_xp", hiscoreResult.getConstruction().getExperience())
+					.addParameter("attack_rank", hiscoreResult.getAttack().getRank())
+					.addParameter("defence_rank", hiscoreResult.getDefence().getRank())
+					.addParameter("strength_rank", hiscoreResult.getStrength().getRank())
+					.addParameter("hitpoints_rank", hiscoreResult.getHitpoints().getRank())
+					.addParameter("ranged_rank", hiscoreResult.getRanged().getRank())
+					.addParameter("prayer_rank", hiscoreResult.getPrayer().getRank())
+					.addParameter("magic_rank", hiscoreResult.getMagic().getRank())
+					.addParameter("cooking_rank", hiscoreResult.getCooking().getRank())
+					.addParameter("woodcutting_rank", hiscoreResult.getWoodcutting().getRank())
+					.addParameter("fletching_rank", hiscoreResult.getFletching().getRank())
+					.addParameter("fishing_rank", hiscoreResult.getFishing().getRank())
+					.addParameter("firemaking_rank", hiscoreResult.getFiremaking().getRank())
+					.addParameter("crafting_rank", hiscoreResult.getCrafting().getRank())
+					.addParameter("smithing_rank", hiscoreResult.getSmithing().getRank())
+					.addParameter("mining_rank", hiscoreResult.getMining().getRank())
+					.addParameter("herblore_rank", hiscoreResult.getHerblore().getRank())
+					.addParameter("agility_rank", hiscoreResult.getAgility().getRank())
+					.addParameter("thieving_rank", hiscoreResult.getThieving().getRank())
+					.addParameter("slayer_rank", hiscoreResult.getSlayer().getRank())
+					.addParameter("farming_rank", hiscoreResult.getFarming().getRank())
+					.addParameter("runecraft_rank", hiscoreResult.getRunecraft().getRank())
+					.addParameter("hunter_rank", hiscoreResult.getHunter().getRank())
+					.addParameter("construction_rank", hiscoreResult.getConstruction().getRank())
+					.addParameter("overall_rank", hiscoreResult.getOverall().getRank())
+					.addToBatch();
+
+				updatePlayer
+					.addParameter("id", playerEntity.getId())
+					.addParameter("rank", hiscoreResult.getOverall().getRank())
+					.addToBatch();
 			}
 
-			con.createQuery("insert into xp (player,attack_xp,defence_xp,strength_xp,hitpoints_xp,ranged_xp,prayer_xp,magic_xp,cooking_xp,woodcutting_xp,"
-				+ "fletching_xp,fishing_xp,firemaking_xp,crafting_xp,smithing_xp,mining_xp,herblore_xp,agility_xp,thieving_xp,slayer_xp,farming_xp,"
-				+ "runecraft_xp,hunter_xp,construction_xp,attack_rank,defence_rank,strength_rank,hitpoints_rank,ranged_rank,prayer_rank,magic_rank,"
-				+ "cooking_rank,woodcutting_rank,fletching_rank,fishing_rank,firemaking_rank,crafting_rank,smithing_rank,mining_rank,herblore_rank,"
-				+ "agility_rank,thieving_rank,slayer_rank,farming_rank,runecraft_rank,hunter_rank,construction_rank,overall_rank) values (:player,:attack_xp,:defence_xp,"
-				+ ":strength_xp,:hitpoints_xp,:ranged_xp,:prayer_xp,:magic_xp,:cooking_xp,:woodcutting_xp,:fletching_xp,:fishing_xp,:firemaking_xp,"
-				+ ":crafting_xp,:smithing_xp,:mining_xp,:herblore_xp,:agility_xp,:thieving_xp,:slayer_xp,:farming_xp,:runecraft_xp,:hunter_xp,"
-				+ ":construction_xp,:attack_rank,:defence_rank,:strength_rank,:hitpoints_rank,:ranged_rank,:prayer_rank,:magic_rank,:cooking_rank,"
-				+ ":woodcutting_rank,:fletching_rank,:fishing_rank,:firemaking_rank,:crafting_rank,:smithing_rank,:mining_rank,:herblore_rank,"
-				+ ":agility_rank,:thieving_rank,:slayer_rank,:farming_rank,:runecraft_rank,:hunter_rank,:construction_rank,:overall_rank)")
-				.addParameter("player", playerEntity.getId())
-				.addParameter("attack_xp", hiscoreResult.getAttack().getExperience())
-				.addParameter("defence_xp", hiscoreResult.getDefence().getExperience())
-				.addParameter("strength_xp", hiscoreResult.getStrength().getExperience())
-				.addParameter("hitpoints_xp", hiscoreResult.getHitpoints().getExperience())
-				.addParameter("ranged_xp", hiscoreResult.getRanged().getExperience())
-				.addParameter("prayer_xp", hiscoreResult.getPrayer().getExperience())
-				.addParameter("magic_xp", hiscoreResult.getMagic().getExperience())
-				.addParameter("cooking_xp", hiscoreResult.getCooking().getExperience())
-				.addParameter("woodcutting_xp", hiscoreResult.getWoodcutting().getExperience())
-				.addParameter("fletching_xp", hiscoreResult.getFletching().getExperience())
-				.addParameter("fishing_xp", hiscoreResult.getFishing().getExperience())
-				.addParameter("firemaking_xp", hiscoreResult.getFiremaking().getExperience())
-				.addParameter("crafting_xp", hiscoreResult.getCrafting().getExperience())
-				.addParameter("smithing_xp", hiscoreResult.getSmithing().getExperience())
-				.addParameter("mining_xp", hiscoreResult.getMining().getExperience())
-				.addParameter("herblore_xp", hiscoreResult.getHerblore().getExperience())
-				.addParameter("agility_xp", hiscoreResult.getAgility().getExperience())
-				.addParameter("thieving_xp", hiscoreResult.getThieving().getExperience())
-				.addParameter("slayer_xp", hiscoreResult.getSlayer().getExperience())
-				.addParameter("farming_xp", hiscoreResult.getFarming().getExperience())
-				.addParameter("runecraft_xp", hiscoreResult.getRunecraft().getExperience())
-				.addParameter("hunter_xp", hiscoreResult.getHunter().getExperience())
-				.addParameter("construction_xp", hiscoreResult.getConstruction().getExperience())
-				.addParameter("attack_rank", hiscoreResult.getAttack().getRank())
-				.addParameter("defence_rank", hiscoreResult.getDefence().getRank())
-				.addParameter("strength_rank", hiscoreResult.getStrength().getRank())
-				.addParameter("hitpoints_rank", hiscoreResult.getHitpoints().getRank())
-				.addParameter("ranged_rank", hiscoreResult.getRanged().getRank())
-				.addParameter("prayer_rank", hiscoreResult.getPrayer().getRank())
-				.addParameter("magic_rank", hiscoreResult.getMagic().getRank())
-				.addParameter("cooking_rank", hiscoreResult.getCooking().getRank())
-				.addParameter("woodcutting_rank", hiscoreResult.getWoodcutting().getRank())
-				.addParameter("fletching_rank", hiscoreResult.getFletching().getRank())
-				.addParameter("fishing_rank", hiscoreResult.getFishing().getRank())
-				.addParameter("firemaking_rank", hiscoreResult.getFiremaking().getRank())
-				.addParameter("crafting_rank", hiscoreResult.getCrafting().getRank())
-				.addParameter("smithing_rank", hiscoreResult.getSmithing().getRank())
-				.addParameter("mining_rank", hiscoreResult.getMining().getRank())
-				.addParameter("herblore_rank", hiscoreResult.getHerblore().getRank())
-				.addParameter("agility_rank", hiscoreResult.getAgility().getRank())
-				.addParameter("thieving_rank", hiscoreResult.getThieving().getRank())
-				.addParameter("slayer_rank", hiscoreResult.getSlayer().getRank())
-				.addParameter("farming_rank", hiscoreResult.getFarming().getRank())
-				.addParameter("runecraft_rank", hiscoreResult.getRunecraft().getRank())
-				.addParameter("hunter_rank", hiscoreResult.getHunter().getRank())
-				.addParameter("construction_rank", hiscoreResult.getConstruction().getRank())
-				.addParameter("overall_rank", hiscoreResult.getOverall().getRank())
-				.executeUpdate();
-
-			con.createQuery("update player set rank = :rank, last_updated = CURRENT_TIMESTAMP where id = :id")
-				.addParameter("id", playerEntity.getId())
-				.addParameter("rank", hiscoreResult.getOverall().getRank())
-				.executeUpdate();
+			insertXp.executeBatch();
+			updatePlayer.executeBatch();
+			con.commit(false);
 		}
+
+		log.debug("Stored {} xp updates", changed.size());
 	}
 
-	private synchronized PlayerEntity findOrCreatePlayer(Connection con, String username)
+	private PlayerEntity findOrCreatePlayer(Connection con, String username)
 	{
-		PlayerEntity playerEntity = con.createQuery("select * from player where name = :name")
-			.addParameter("name", username)
-			.executeAndFetchFirst(PlayerEntity.class);
+		PlayerEntity playerEntity = findPlayer(con, username);
 		if (playerEntity != null)
 		{
 			return playerEntity;
@@ -203,11 +373,25 @@ public class XpTrackerService
 
 		Instant now = Instant.now();
 
-		int id = con.createQuery("insert into player (name, tracked_since) values (:name, :tracked_since)")
-			.addParameter("name", username)
-			.addParameter("tracked_since", now)
-			.executeUpdate()
-			.getKey(int.class);
+		int id;
+		try
+		{
+			id = con.createQuery("insert into player (name, tracked_since) values (:name, :tracked_since)")
+				.addParameter("name", username)
+				.addParameter("tracked_since", now)
+				.executeUpdate()
+				.getKey(int.class);
+		}
+		catch (Sql2oException ex)
+		{
+			// names are unique, so this fails if the player was created concurrently
+			playerEntity = findPlayer(con, username);
+			if (playerEntity == null)
+			{
+				throw ex;
+			}
+			return playerEntity;
+		}
 
 		playerEntity = new PlayerEntity();
 		playerEntity.setId(id);
@@ -217,6 +401,13 @@ public class XpTrackerService
 		return playerEntity;
 	}
 
+	private static PlayerEntity findPlayer(Connection con, String username)
+	{
+		return con.createQuery("select * from player where name = :name")
+			.addParameter("name", username)
+			.executeAndFetchFirst(PlayerEntity.class);
+	}
+
 	private XpEntity findXpAtTime(Connection con, String username, Instant time)
 	{
 		return con.createQuery("select * from xp join player on player.id=xp.player where player.name = :username and time <= :time order by time desc limit 1")
@@ -234,21 +425,28 @@ public class XpTrackerService
 		}
 	}
 
-	@Scheduled(fixedDelay = 1000)
-	public void update() throws ExecutionException
+	/**
+	 * get statistics about the hiscore lookups made for queued usernames
+	 *
+	 * @return
+	 */
+	public XpUpdateStats getStats()
 	{
-		String next;
-		synchronized (usernameUpdateQueue)
-		{
-			next = usernameUpdateQueue.poll();
-		}
-
-		if (next == null)
-		{
-			return;
-		}
+		long count = lookups.get();
+		return new XpUpdateStats(
+			usernameUpdateQueue.size(),
+			pendingUpdates.size(),
+			count,
+			failedLookups.get(),
+			Duration.ofNanos(count == 0 ? 0 : totalLatency.get() / count),
+			Duration.ofNanos(maxLatency.get())
+		);
+	}
 
-		update(next);
+	@Scheduled(fixedDelay = 60_000L)
+	public void logStats()
+	{
+		log.debug("Xp update stats: {}", getStats());
 	}
 
 	@Scheduled(fixedDelay = 6 * 60 * 60 * 1000) // 6 hours
@@ -264,12 +462,9 @@ public class XpTrackerService
 			BLOOMFILTER_EXPECTED_INSERTIONS
 		);
 
-		synchronized (usernameUpdateQueue)
+		for (String toUpdate : usernameUpdateQueue)
 		{
-			for (String toUpdate : usernameUpdateQueue)
-			{
-				filter.put(toUpdate);
-			}
+			filter.put(toUpdate);
 		}
 
 		return filter;
@@ -304,4 +499,11 @@ public class XpTrackerService
 			return Duration.ofDays(7);
 		}
 	}
+
+	@Data
+	private static class PendingUpdate
+	{
+		private final String username;
+		private final HiscoreResult hiscoreResult;
+	}
 }
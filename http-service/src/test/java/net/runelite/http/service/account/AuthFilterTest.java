@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.account;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import net.runelite.http.api.RuneLiteAPI;
+import net.runelite.http.service.account.beans.SessionEntry;
+import net.runelite.http.service.util.InstantConverter;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.sql2o.Connection;
+import org.sql2o.Sql2o;
+import org.sql2o.converters.Converter;
+import org.sql2o.quirks.NoQuirks;
+
+public class AuthFilterTest
+{
+	private static final UUID SESSION = UUID.fromString("0b6ef1b5-e4d8-4c9b-8d2a-6a2bd3b4a2f1");
+
+	private Sql2o sql2o;
+	private Connection keepAlive;
+	private AuthFilter authFilter;
+
+	@Before
+	public void before()
+	{
+		Map<Class, Converter> converters = new HashMap<>();
+		converters.put(Instant.class, new InstantConverter());
+		sql2o = new Sql2o("jdbc:h2:mem:auth;MODE=MySQL", null, null, new NoQuirks(converters));
+		keepAlive = sql2o.open();
+		keepAlive.createQuery("create table sessions (`user` int not null, uuid varchar(36) not null, "
+			+ "created timestamp not null default current_timestamp, last_used timestamp null)")
+			.executeUpdate();
+		keepAlive.createQuery("insert into sessions (`user`, uuid) values (42, :uuid)")
+			.addParameter("uuid", SESSION.toString())
+			.executeUpdate();
+
+		authFilter = new AuthFilter(sql2o);
+	}
+
+	@After
+	public void after()
+	{
+		keepAlive.createQuery("drop table sessions").executeUpdate();
+		keepAlive.close();
+	}
+
+	@Test
+	public void testHandle() throws IOException
+	{
+		SessionEntry session = authFilter.handle(request(SESSION), new MockHttpServletResponse());
+		assertNotNull(session);
+		assertEquals(42, session.getUser());
+
+		// served from the session cache
+		keepAlive.createQuery("update sessions set `user` = 43").executeUpdate();
+		session = authFilter.handle(request(SESSION), new MockHttpServletResponse());
+		assertEquals(42, session.getUser());
+
+		// last_used is only written on flush
+		assertNull(lastUsed());
+		authFilter.flushLastUsed();
+		assertEquals(session.getLastUsed(), lastUsed().toInstant());
+	}
+
+	@Test
+	public void testUnknownSession() throws IOException
+	{
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		assertNull(authFilter.handle(request(UUID.randomUUID()), response));
+		assertEquals(401, response.getStatus());
+	}
+
+	@Test
+	public void testInvalidate() throws IOException
+	{
+		assertNotNull(authFilter.handle(request(SESSION), new MockHttpServletResponse()));
+
+		keepAlive.createQuery("delete from sessions").executeUpdate();
+		authFilter.invalidate(SESSION);
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		assertNull(authFilter.handle(request(SESSION), response));
+		assertEquals(401, response.getStatus());
+	}
+
+	private static MockHttpServletRequest request(UUID uuid)
+	{
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(RuneLiteAPI.RUNELITE_AUTH, uuid.toString());
+		return request;
+	}
+
+	private Timestamp lastUsed()
+	{
+		return keepAlive.createQuery("select last_used from sessions where uuid = :uuid")
+			.addParameter("uuid", SESSION.toString())
+			.executeScalar(Timestamp.class);
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import net.runelite.http.service.cache.beans.ArchiveEntry;
+import net.runelite.http.service.cache.beans.CacheEntry;
+import net.runelite.http.service.cache.beans.FileEntry;
+import net.runelite.http.service.cache.beans.IndexEntry;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class CacheSnapshotTest
+{
+	@Test
+	public void testLookups()
+	{
+		CacheEntry cache = new CacheEntry();
+		cache.setId(1);
+
+		IndexEntry configs = index(10, 2);
+		IndexEntry sprites = index(11, 8);
+
+		ArchiveEntry items = archive(100, 10, 0);
+		ArchiveEntry npcs = archive(101, 9, 0);
+		ArchiveEntry sprite = archive(102, 5, 1234);
+
+		FileEntry second = file(1001, 101, 1);
+		FileEntry first = file(1000, 101, 0);
+
+		CacheSnapshot snapshot = new CacheSnapshot(cache, Arrays.asList(configs, sprites),
+			ImmutableMap.of(2, Arrays.asList(items, npcs), 8, Collections.singletonList(sprite)),
+			Arrays.asList(second, first));
+
+		assertSame(cache, snapshot.getCache());
+		assertEquals(Arrays.asList(configs, sprites), snapshot.getIndexes());
+		assertSame(configs, snapshot.getIndex(2));
+		assertNull(snapshot.getIndex(5));
+		assertNull(snapshot.getIndex(300));
+
+		assertTrue(snapshot.contains(configs));
+		assertFalse(snapshot.contains(index(12, 2)));
+
+		assertEquals(Arrays.asList(npcs, items), snapshot.getArchives(2));
+		assertSame(items, snapshot.getArchive(2, 10));
+		assertSame(npcs, snapshot.getArchive(2, 9));
+		assertNull(snapshot.getArchive(2, 5));
+		assertNull(snapshot.getArchive(5, 10));
+
+		assertSame(sprite, snapshot.getArchiveByName(8, 1234));
+		assertNull(snapshot.getArchiveByName(8, 4321));
+
+		assertEquals(Arrays.asList(first, second), snapshot.getFiles(npcs));
+		assertNull(snapshot.getFiles(items));
+	}
+
+	private static IndexEntry index(int id, int indexId)
+	{
+		IndexEntry index = new IndexEntry();
+		index.setId(id);
+		index.setIndexId(indexId);
+		return index;
+	}
+
+	private static ArchiveEntry archive(int id, int archiveId, int nameHash)
+	{
+		ArchiveEntry archive = new ArchiveEntry();
+		archive.setId(id);
+		archive.setArchiveId(archiveId);
+		archive.setNameHash(nameHash);
+		return archive;
+	}
+
+	private static FileEntry file(int id, int archive, int fileId)
+	{
+		FileEntry file = new FileEntry();
+		file.setId(id);
+		file.setArchiveId(archive);
+		file.setFileId(fileId);
+		return file;
+	}
+}
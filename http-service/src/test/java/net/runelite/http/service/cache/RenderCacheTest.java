@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RenderCacheTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testKey()
+	{
+		byte[] hash = {1, 2, 3};
+		assertEquals(RenderCache.key("sprite", hash, 0), RenderCache.key("sprite", hash, 0));
+		assertNotEquals(RenderCache.key("sprite", hash, 0), RenderCache.key("sprite", hash, 1));
+		assertNotEquals(RenderCache.key("sprite", hash, 0), RenderCache.key("item", hash, 0));
+	}
+
+	@Test
+	public void testTiers() throws IOException
+	{
+		File directory = folder.newFolder();
+		AtomicInteger renders = new AtomicInteger();
+		RenderCache.Renderer renderer = () ->
+		{
+			renders.incrementAndGet();
+			return new byte[]{42};
+		};
+
+		String key = RenderCache.key("sprite", new byte[]{1}, 0);
+
+		RenderCache renderCache = new RenderCache(1024, directory.getPath());
+		assertArrayEquals(new byte[]{42}, renderCache.get(key, renderer));
+		assertArrayEquals(new byte[]{42}, renderCache.get(key, renderer));
+		assertEquals(1, renders.get());
+
+		// a new instance has nothing in memory, but reads it back from disk
+		renderCache = new RenderCache(1024, directory.getPath());
+		assertArrayEquals(new byte[]{42}, renderCache.get(key, renderer));
+		assertEquals(1, renders.get());
+	}
+
+	@Test
+	public void testNotFound() throws IOException
+	{
+		AtomicInteger renders = new AtomicInteger();
+		RenderCache.Renderer renderer = () ->
+		{
+			renders.incrementAndGet();
+			return null;
+		};
+
+		RenderCache renderCache = new RenderCache(1024, "");
+		String key = RenderCache.key("sprite", new byte[]{1}, 0);
+		assertNull(renderCache.get(key, renderer));
+		assertNull(renderCache.get(key, renderer));
+		assertEquals(1, renders.get());
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.item;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.runelite.http.service.cache.CacheService;
+import net.runelite.http.service.util.InstantConverter;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import org.sql2o.Connection;
+import org.sql2o.Query;
+import org.sql2o.Sql2o;
+import org.sql2o.converters.Converter;
+import org.sql2o.quirks.NoQuirks;
+
+public class ItemServiceTest
+{
+	private static final int ITEMS = 1100;
+
+	private Connection keepAlive;
+	private ItemService itemService;
+
+	@Before
+	public void before()
+	{
+		Map<Class, Converter> converters = new HashMap<>();
+		converters.put(Instant.class, new InstantConverter());
+		Sql2o sql2o = spy(new Sql2o("jdbc:h2:mem:items;MODE=MySQL", null, null, new NoQuirks(converters)));
+
+		keepAlive = sql2o.open();
+		// the service's own schema has a fulltext index, which H2 can't parse
+		keepAlive.createQuery("create table items (id int not null primary key, name tinytext not null, description tinytext not null, "
+			+ "type varchar(16) not null, icon blob, icon_large blob, timestamp timestamp not null default current_timestamp())")
+			.executeUpdate();
+		keepAlive.createQuery("create table prices (item int not null, price int not null, time timestamp not null, "
+			+ "fetched_time timestamp not null, unique key item_time (item, time))")
+			.executeUpdate();
+
+		doReturn(mock(Connection.class, RETURNS_DEEP_STUBS)).doCallRealMethod().when(sql2o).open();
+		itemService = new ItemService(sql2o, mock(CacheService.class));
+
+		// every item has an old and a new price, except item 0 which has none
+		Query insertItem = keepAlive.createQuery("insert into items (id, name, description, type) values (:id, :name, '', 'DEFAULT')");
+		Query insertPrice = keepAlive.createQuery("insert into prices (item, price, time, fetched_time) values (:item, :price, :time, :time)");
+		for (int id = 0; id < ITEMS; ++id)
+		{
+			insertItem.addParameter("id", id)
+				.addParameter("name", "item " + id)
+				.addToBatch();
+
+			if (id > 0)
+			{
+				insertPrice.addParameter("item", id)
+					.addParameter("price", id)
+					.addParameter("time", "2019-01-01 00:00:00")
+					.addToBatch();
+				insertPrice.addParameter("item", id)
+					.addParameter("price", id * 10)
+					.addParameter("time", "2019-01-02 00:00:00")
+					.addToBatch();
+			}
+		}
+		insertItem.executeBatch();
+		insertPrice.executeBatch();
+	}
+
+	@After
+	public void after()
+	{
+		keepAlive.createQuery("drop all objects").executeUpdate();
+		keepAlive.close();
+	}
+
+	@Test
+	public void testGetPricesEmpty()
+	{
+		assertTrue(itemService.getPrices().isEmpty());
+	}
+
+	@Test
+	public void testGetPrices()
+	{
+		List<PriceEntry> prices = itemService.getPrices(5, 0, 3, 5, 2000, 1);
+
+		// latest prices in request order, without duplicates or items without a price
+		assertEquals(3, prices.size());
+		assertEquals(5, prices.get(0).getItem());
+		assertEquals(50, prices.get(0).getPrice());
+		assertEquals("item 5", prices.get(0).getName());
+		assertEquals(3, prices.get(1).getItem());
+		assertEquals(30, prices.get(1).getPrice());
+		assertEquals(1, prices.get(2).getItem());
+		assertEquals(10, prices.get(2).getPrice());
+	}
+
+	@Test
+	public void testGetPricesLarge()
+	{
+		// more ids than a client sends in one request
+		int[] ids = IntStream.range(1, 1026).toArray();
+		List<PriceEntry> prices = itemService.getPrices(ids);
+
+		assertEquals(ids.length, prices.size());
+		assertEquals(IntStream.of(ids).boxed().collect(Collectors.toList()),
+			prices.stream().map(PriceEntry::getItem).collect(Collectors.toList()));
+		assertTrue(prices.stream().allMatch(price -> price.getPrice() == price.getItem() * 10));
+	}
+}
@@ -26,7 +26,9 @@ package net.runelite.http.service.loottracker;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -40,9 +42,11 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -91,4 +95,38 @@ public class LootTrackerControllerTest
 
 		verify(lootTrackerService).store(eq(lootRecord), anyInt());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void storeLootRecords() throws Exception
+	{
+		LootRecord lootRecord = new LootRecord();
+		lootRecord.setType(LootRecordType.NPC);
+		lootRecord.setTime(Instant.now());
+		lootRecord.setDrops(Collections.singletonList(new GameItem(4151, 1)));
+
+		List<LootRecord> lootRecords = Arrays.asList(lootRecord, lootRecord);
+
+		String data = RuneLiteAPI.GSON.toJson(lootRecords);
+		mockMvc.perform(post("/loottracker/batch").content(data).contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk());
+
+		verify(lootTrackerService).store(eq(lootRecords), anyInt());
+	}
+
+	@Test
+	public void storeLootRecordsTooMany() throws Exception
+	{
+		LootRecord lootRecord = new LootRecord();
+		lootRecord.setType(LootRecordType.NPC);
+		lootRecord.setTime(Instant.now());
+		lootRecord.setDrops(Collections.singletonList(new GameItem(4151, 1)));
+
+		List<LootRecord> lootRecords = Collections.nCopies(33, lootRecord);
+
+		String data = RuneLiteAPI.GSON.toJson(lootRecords);
+		mockMvc.perform(post("/loottracker/batch").content(data).contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isBadRequest());
+
+		verify(lootTrackerService, never()).store(anyCollection(), anyInt());
+	}
+}
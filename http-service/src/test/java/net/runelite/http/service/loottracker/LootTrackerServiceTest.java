@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.loottracker;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.http.api.loottracker.GameItem;
+import net.runelite.http.api.loottracker.LootRecord;
+import net.runelite.http.api.loottracker.LootRecordType;
+import net.runelite.http.service.util.InstantConverter;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import org.sql2o.Connection;
+import org.sql2o.Sql2o;
+import org.sql2o.converters.Converter;
+import org.sql2o.quirks.NoQuirks;
+
+public class LootTrackerServiceTest
+{
+	private Connection keepAlive;
+	private LootTrackerService lootTrackerService;
+
+	@Before
+	public void before()
+	{
+		Map<Class, Converter> converters = new HashMap<>();
+		converters.put(Instant.class, new InstantConverter());
+		Sql2o sql2o = spy(new Sql2o("jdbc:h2:mem:loottracker;MODE=MySQL", null, null, new NoQuirks(converters)));
+
+		keepAlive = sql2o.open();
+		// the service's own schema references the users table and uses an enum, which H2 can't parse
+		keepAlive.createQuery("create table kills (id int auto_increment primary key, time timestamp not null default current_timestamp(), "
+			+ "accountId int not null, type varchar(16) not null, eventId varchar(255) not null)")
+			.executeUpdate();
+		keepAlive.createQuery("create table drops (killId int not null, itemId int not null, itemQuantity int not null)")
+			.executeUpdate();
+
+		doReturn(mock(Connection.class, RETURNS_DEEP_STUBS)).doCallRealMethod().when(sql2o).open();
+		lootTrackerService = new LootTrackerService(sql2o);
+	}
+
+	@After
+	public void after()
+	{
+		keepAlive.createQuery("drop all objects").executeUpdate();
+		keepAlive.close();
+	}
+
+	@Test
+	public void testStoreKeepsRecordTimes()
+	{
+		Instant time = Instant.now().minus(5, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.SECONDS);
+
+		List<LootRecord> records = new ArrayList<>();
+		for (int i = 0; i < 3; ++i)
+		{
+			records.add(new LootRecord("npc " + i, LootRecordType.NPC,
+				Collections.singletonList(new GameItem(4151, i + 1)), time.plusSeconds(i * 60)));
+		}
+		lootTrackerService.store(records, 1);
+
+		List<LootRecord> stored = new ArrayList<>(lootTrackerService.get(1, 100, 0));
+		assertEquals(3, stored.size());
+
+		// newest first, each with the time it was recorded rather than when it was stored
+		for (int i = 0; i < 3; ++i)
+		{
+			LootRecord record = stored.get(i);
+			assertEquals("npc " + (2 - i), record.getEventId());
+			assertEquals(time.plusSeconds((2 - i) * 60), record.getTime());
+			assertEquals(Collections.singletonList(new GameItem(4151, 3 - i)), record.getDrops());
+		}
+	}
+
+	@Test
+	public void testStoreWithoutTime()
+	{
+		Instant before = Instant.now().minusSeconds(1);
+		lootTrackerService.store(new LootRecord("npc", LootRecordType.NPC,
+			Arrays.asList(new GameItem(995, 100), new GameItem(526, 1)), null), 1);
+
+		List<LootRecord> stored = new ArrayList<>(lootTrackerService.get(1, 100, 0));
+		assertEquals(1, stored.size());
+		assertEquals(2, stored.get(0).getDrops().size());
+
+		// old clients don't send a time, so the kill gets the time it was stored
+		Instant time = stored.get(0).getTime();
+		assertTrue(!time.isBefore(before) && Duration.between(before, time).getSeconds() < 60);
+	}
+}
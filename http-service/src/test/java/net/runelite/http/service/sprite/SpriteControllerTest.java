@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.sprite;
+
+import net.runelite.http.service.cache.RenderCache;
+import net.runelite.http.service.cache.beans.ArchiveEntry;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@WebMvcTest(SpriteController.class)
+@Import(RenderCache.class)
+@ActiveProfiles("test")
+public class SpriteControllerTest
+{
+	private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G'};
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	private SpriteService spriteService;
+
+	@Before
+	public void before() throws Exception
+	{
+		ArchiveEntry archive = new ArchiveEntry();
+		archive.setArchiveId(42);
+		archive.setHash(new byte[]{1, 2, 3, 4});
+
+		when(spriteService.findSpriteArchive(42)).thenReturn(archive);
+		when(spriteService.getImagePng(any(ArchiveEntry.class), eq(0))).thenReturn(PNG);
+	}
+
+	@Test
+	public void testETag() throws Exception
+	{
+		String etag = '"' + RenderCache.key("sprite", new byte[]{1, 2, 3, 4}, 0) + '"';
+
+		mockMvc.perform(get("/sprite").param("spriteId", "42"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, etag))
+			.andExpect(content().bytes(PNG));
+
+		mockMvc.perform(get("/sprite").param("spriteId", "42").header(HttpHeaders.IF_NONE_MATCH, etag))
+			.andExpect(status().isNotModified());
+
+		mockMvc.perform(get("/sprite").param("spriteId", "42"))
+			.andExpect(status().isOk());
+
+		// rendered once, and served from the render cache afterwards
+		verify(spriteService, times(1)).getImagePng(any(ArchiveEntry.class), anyInt());
+	}
+
+	@Test
+	public void testNotFound() throws Exception
+	{
+		mockMvc.perform(get("/sprite").param("spriteId", "43"))
+			.andExpect(status().isNotFound());
+	}
+}
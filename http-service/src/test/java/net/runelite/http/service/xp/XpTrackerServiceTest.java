@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.http.service.xp;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.http.api.hiscore.HiscoreEndpoint;
+import net.runelite.http.api.hiscore.HiscoreResult;
+import net.runelite.http.api.hiscore.HiscoreResultBuilder;
+import net.runelite.http.api.hiscore.HiscoreSkill;
+import net.runelite.http.api.hiscore.Skill;
+import net.runelite.http.service.hiscore.HiscoreService;
+import net.runelite.http.service.util.InstantConverter;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.sql2o.Connection;
+import org.sql2o.Sql2o;
+import org.sql2o.converters.Converter;
+import org.sql2o.quirks.NoQuirks;
+
+public class XpTrackerServiceTest
+{
+	private static final String[] SKILLS = {
+		"attack", "defence", "strength", "hitpoints", "ranged", "prayer", "magic", "cooking", "woodcutting",
+		"fletching", "fishing", "firemaking", "crafting", "smithing", "mining", "herblore", "agility", "thieving",
+		"slayer", "farming", "runecraft", "hunter", "construction"
+	};
+
+	private Connection keepAlive;
+	private HiscoreService hiscoreService;
+	private XpTrackerService xpTrackerService;
+
+	@Before
+	public void before() throws Exception
+	{
+		Map<Class, Converter> converters = new HashMap<>();
+		converters.put(Instant.class, new InstantConverter());
+		Sql2o sql2o = new Sql2o("jdbc:h2:mem:xptracker-test;MODE=MySQL", null, null, new NoQuirks(converters));
+
+		keepAlive = sql2o.open();
+		keepAlive.createQuery("create table player (id int not null auto_increment primary key, name varchar(32) not null unique, "
+			+ "tracked_since timestamp not null default current_timestamp(), last_updated timestamp not null default current_timestamp(), "
+			+ "rank int default null)")
+			.executeUpdate();
+
+		// the xp table without the generated level columns of schema.sql, which H2 can't parse
+		StringBuilder xp = new StringBuilder("create table xp (id int not null auto_increment primary key, "
+			+ "time timestamp not null default current_timestamp(), player int not null, overall_rank int not null");
+		for (String skill : SKILLS)
+		{
+			xp.append(", ").append(skill).append("_xp int not null, ").append(skill).append("_rank int not null");
+		}
+		xp.append(", unique key player_time (player, time))");
+		keepAlive.createQuery(xp.toString()).executeUpdate();
+
+		hiscoreService = mock(HiscoreService.class);
+		when(hiscoreService.lookupUsername(anyString(), eq(HiscoreEndpoint.NORMAL)))
+			.thenReturn(hiscoreResult(1000));
+
+		xpTrackerService = new XpTrackerService(sql2o, hiscoreService, 2, 1000);
+		xpTrackerService.start();
+	}
+
+	@After
+	public void after() throws InterruptedException
+	{
+		xpTrackerService.stop();
+		keepAlive.createQuery("drop all objects").executeUpdate();
+		keepAlive.close();
+	}
+
+	@Test
+	public void testQueue() throws Exception
+	{
+		keepAlive.createQuery("insert into player (name, last_updated) values ('zezima', '2000-01-01 00:00:00'), "
+			+ "('lynx titan', '2000-01-01 00:00:00')")
+			.executeUpdate();
+
+		xpTrackerService.tryUpdate("zezima");
+		xpTrackerService.tryUpdate("lynx titan");
+		xpTrackerService.tryUpdate("zezima");
+
+		long start = System.currentTimeMillis();
+		while (xpTrackerService.getStats().getLookups() < 2)
+		{
+			assertTrue("timed out waiting for lookups", System.currentTimeMillis() - start < 10_000);
+			Thread.sleep(10);
+		}
+
+		xpTrackerService.flush();
+
+		verify(hiscoreService, times(1)).lookupUsername("zezima", HiscoreEndpoint.NORMAL);
+		verify(hiscoreService, times(1)).lookupUsername("lynx titan", HiscoreEndpoint.NORMAL);
+		assertEquals(2, count("select count(*) from xp"));
+		assertEquals(2, count("select count(*) from player where rank = 1000"));
+		assertEquals(0, xpTrackerService.getStats().getQueued());
+	}
+
+	@Test
+	public void testQueueDedupe() throws Exception
+	{
+		keepAlive.createQuery("insert into player (name, last_updated) values ('zezima', '2000-01-01 00:00:00')")
+			.executeUpdate();
+
+		// stop the workers so the name is still queued when it is seen again
+		xpTrackerService.stop();
+
+		xpTrackerService.tryUpdate("zezima");
+		// clearing the filter lets the second update through to the queued name check
+		xpTrackerService.clearFilter();
+		xpTrackerService.tryUpdate("zezima");
+
+		assertEquals(1, xpTrackerService.getStats().getQueued());
+
+		xpTrackerService.start();
+
+		long start = System.currentTimeMillis();
+		while (xpTrackerService.getStats().getLookups() < 1)
+		{
+			assertTrue("timed out waiting for lookups", System.currentTimeMillis() - start < 10_000);
+			Thread.sleep(10);
+		}
+
+		verify(hiscoreService, times(1)).lookupUsername("zezima", HiscoreEndpoint.NORMAL);
+		assertEquals(0, xpTrackerService.getStats().getQueued());
+	}
+
+	@Test
+	public void testUnchanged()
+	{
+		xpTrackerService.update("zezima", hiscoreResult(1000));
+		xpTrackerService.flush();
+		assertEquals(1, count("select count(*) from xp"));
+
+		// the same hiscore is not stored again
+		xpTrackerService.update("zezima", hiscoreResult(1000));
+		xpTrackerService.flush();
+		assertEquals(1, count("select count(*) from xp"));
+		assertEquals(1, count("select count(*) from player"));
+	}
+
+	private int count(String query)
+	{
+		return keepAlive.createQuery(query).executeScalar(Integer.class);
+	}
+
+	private static HiscoreResult hiscoreResult(int rank)
+	{
+		HiscoreResultBuilder builder = new HiscoreResultBuilder();
+		for (HiscoreSkill skill : HiscoreSkill.values())
+		{
+			builder.setNextSkill(new Skill(rank, 99, 13_034_431));
+		}
+		return builder.build();
+	}
+}
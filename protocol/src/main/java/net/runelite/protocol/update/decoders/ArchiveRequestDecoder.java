@@ -36,11 +36,17 @@ public class ArchiveRequestDecoder extends ByteToMessageDecoder
 	@Override
 	protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception
 	{
+		if (in.readableBytes() < 4)
+		{
+			return;
+		}
+
 		byte opcode = in.getByte(in.readerIndex());
 		if (opcode != UpdateOpcodes.ARCHIVE_REQUEST_HIGH
 			&& opcode != UpdateOpcodes.ARCHIVE_REQUEST_LOW)
 		{
-			ctx.fireChannelRead(in.retain());
+			// all update packets are 4 bytes, pass this one on to the next decoder
+			ctx.fireChannelRead(in.readRetainedSlice(4));
 			return;
 		}
 
@@ -25,7 +25,6 @@
 package net.runelite.protocol.update.decoders;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import java.util.List;
@@ -48,13 +47,12 @@ public class ArchiveResponseDecoder extends ByteToMessageDecoder
 			return;
 		}
 
-		ByteBuf copy = in.slice();
-
-		int index = copy.readUnsignedByte();
-		int file = copy.readUnsignedShort();
+		int readerIndex = in.readerIndex();
+		int index = in.getUnsignedByte(readerIndex);
+		int file = in.getUnsignedShort(readerIndex + 1);
 		// decompress() starts reading here
-		int compression = copy.readUnsignedByte();
-		int compressedFileSize = copy.readInt();
+		int compression = in.getUnsignedByte(readerIndex + 3);
+		int compressedFileSize = in.getInt(readerIndex + 4);
 
 		assert compression == CompressionType.NONE ||
 			compression == CompressionType.BZ2 ||
@@ -75,38 +73,29 @@ public class ArchiveResponseDecoder extends ByteToMessageDecoder
 			return;
 		}
 
-		ByteBuf compressedData = Unpooled.buffer(size);
+		// the whole archive is buffered, so strip the block separators by
+		// reading each block straight into the array handed to the consumer
+		byte[] compressedData = new byte[size];
+		int written = 0;
 
-		int totalRead = 3;
 		in.skipBytes(3); // skip index/file
 
-		for (int i = 0; i < breaks + 1; ++i)
+		int bytesToRead = Math.min(CHUNK_SIZE - 3, size);
+		for (;;)
 		{
-			int bytesInBlock = CHUNK_SIZE - (totalRead % CHUNK_SIZE);
-			int bytesToRead = Math.min(bytesInBlock, size - compressedData.writerIndex());
-
-			logger.trace("{}/{}: reading block {}/{}, read so far this block: {}, file status: {}/{}",
-				index, file,
-				(totalRead % CHUNK_SIZE), CHUNK_SIZE,
-				bytesInBlock,
-				compressedData.writerIndex(), size);
-
-			ByteBuf chunk = in.readBytes(bytesToRead);
-			compressedData.writeBytes(chunk);
-			chunk.release();
-
-			totalRead += bytesToRead;
+			in.readBytes(compressedData, written, bytesToRead);
+			written += bytesToRead;
 
-			if (i < breaks)
+			if (written == size)
 			{
-				assert compressedData.writerIndex() < size;
-				int b = in.readUnsignedByte();
-				++totalRead;
-				assert b == 0xff;
+				break;
 			}
-		}
 
-		assert compressedData.writerIndex() == size;
+			int b = in.readUnsignedByte();
+			assert b == 0xff;
+
+			bytesToRead = Math.min(CHUNK_SIZE - 1, size - written);
+		}
 
 		logger.trace("{}/{}: done downloading file, remaining buffer {}",
 			index, file,
@@ -115,10 +104,8 @@ public class ArchiveResponseDecoder extends ByteToMessageDecoder
 		ArchiveResponsePacket archiveResponse = new ArchiveResponsePacket();
 		archiveResponse.setIndex(index);
 		archiveResponse.setArchive(file);
-		archiveResponse.setData(compressedData.array());
+		archiveResponse.setData(compressedData);
 		out.add(archiveResponse);
-
-		compressedData.release();
 	}
 
 	/**
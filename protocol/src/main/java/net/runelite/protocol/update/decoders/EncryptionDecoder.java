@@ -36,9 +36,15 @@ public class EncryptionDecoder extends ByteToMessageDecoder
 	@Override
 	protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception
 	{
+		if (in.readableBytes() < 4)
+		{
+			return;
+		}
+
 		if (in.getByte(in.readerIndex()) != UpdateOpcodes.ENCRYPTION)
 		{
-			ctx.fireChannelRead(in.retain());
+			// all update packets are 4 bytes, pass this one on to the next decoder
+			ctx.fireChannelRead(in.readRetainedSlice(4));
 			return;
 		}
 
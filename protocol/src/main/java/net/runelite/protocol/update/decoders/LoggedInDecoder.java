@@ -34,9 +34,15 @@ public class LoggedInDecoder extends ByteToMessageDecoder
 	@Override
 	protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> list) throws Exception
 	{
+		if (in.readableBytes() < 4)
+		{
+			return;
+		}
+
 		if (in.getByte(in.readerIndex()) != UpdateOpcodes.CLIENT_LOGGED_IN)
 		{
-			ctx.fireChannelRead(in.retain());
+			// all update packets are 4 bytes, pass this one on to the next decoder
+			ctx.fireChannelRead(in.readRetainedSlice(4));
 			return;
 		}
 
@@ -24,10 +24,11 @@
  */
 package net.runelite.protocol.update.encoders;
 
+import com.google.common.primitives.Ints;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
+import net.runelite.cache.fs.jagex.CompressionType;
 import net.runelite.protocol.api.update.ArchiveResponsePacket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,49 +39,68 @@ public class ArchiveResponseEncoder extends MessageToByteEncoder<ArchiveResponse
 
 	private static final int CHUNK_SIZE = 512;
 
+	@Override
+	protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, ArchiveResponsePacket archiveResponse, boolean preferDirect) throws Exception
+	{
+		int size = encodedSize(containerLength(archiveResponse.getData()));
+		return preferDirect ? ctx.alloc().ioBuffer(size) : ctx.alloc().heapBuffer(size);
+	}
+
 	@Override
 	protected void encode(ChannelHandlerContext ctx, ArchiveResponsePacket archiveResponse, ByteBuf out) throws Exception
 	{
+		byte[] data = archiveResponse.getData();
+		// archives loaded from disk may have their revision appended, which
+		// is not part of the container and must not be sent
+		int length = containerLength(data);
+
+		out.ensureWritable(encodedSize(length));
+
 		// archive file header
 		// 1 byte index
 		// 2 byte archive
 		out.writeByte(archiveResponse.getIndex());
 		out.writeShort(archiveResponse.getArchive());
 
-		int pos = out.readableBytes();
-
 		// next is the compressed data which starts with compression
 		// type and length
-		ByteBuf file = Unpooled.wrappedBuffer(archiveResponse.getData());
 		// - 3 for the header
-		int chunkSize = Math.min(file.readableBytes(), CHUNK_SIZE - 3);
-
-		writeChunk(file.readBytes(chunkSize), out);
+		int chunkSize = Math.min(length, CHUNK_SIZE - 3);
+		out.writeBytes(data, 0, chunkSize);
 
-		while (file.isReadable())
+		for (int pos = chunkSize; pos < length; pos += chunkSize)
 		{
 			out.writeByte(0xff);
 
-			chunkSize = Math.min(file.readableBytes(), CHUNK_SIZE - 1);
-			writeChunk(file.readBytes(chunkSize), out);
+			chunkSize = Math.min(length - pos, CHUNK_SIZE - 1);
+			out.writeBytes(data, pos, chunkSize);
 		}
 
-		int size = out.readableBytes() - pos;
-		logger.debug("Wrote index {} archive {} (size {}) in {} bytes",
-			archiveResponse.getIndex(), archiveResponse.getArchive(),
-			archiveResponse.getData().length, size);
+		logger.trace("Wrote index {} archive {} (size {})",
+			archiveResponse.getIndex(), archiveResponse.getArchive(), length);
 	}
 
-	private void writeChunk(ByteBuf chunk, ByteBuf out)
+	/**
+	 * Length of the container at the start of the given data
+	 */
+	private static int containerLength(byte[] data)
 	{
-		try
-		{
-			out.writeBytes(chunk);
-		}
-		finally
-		{
-			chunk.release();
-		}
+		int compression = data[0] & 0xff;
+		int compressedSize = Ints.fromBytes(data[1], data[2], data[3], data[4]);
+		return 1 // compression type
+			+ 4 // compressed size
+			+ compressedSize
+			+ (compression != CompressionType.NONE ? 4 : 0); // decompressed size
+	}
+
+	/**
+	 * Size of the response for a container of the given length, including
+	 * the header and block separators
+	 */
+	private static int encodedSize(int length)
+	{
+		int breaks = length <= CHUNK_SIZE - 3 ? 0 : (length - (CHUNK_SIZE - 3) + CHUNK_SIZE - 2) / (CHUNK_SIZE - 1);
+		return 3 + length + breaks;
 	}
 
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.protocol.update.decoders;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.Random;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.protocol.api.update.ArchiveResponsePacket;
+import net.runelite.protocol.update.encoders.ArchiveResponseEncoder;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class ArchiveResponseDecoderTest
+{
+	private static final int[] SIZES =
+	{
+		0, 1, 504, 505, 506, 1015, 1016, 1017, 5000, 100_000
+	};
+
+	@Test
+	public void testFragmented() throws Exception
+	{
+		Random random = new Random(42L);
+		byte[][] archives = new byte[SIZES.length][];
+
+		EmbeddedChannel encoder = new EmbeddedChannel(new ArchiveResponseEncoder());
+		for (int i = 0; i < SIZES.length; ++i)
+		{
+			byte[] data = new byte[SIZES[i]];
+			random.nextBytes(data);
+
+			Container container = new Container(CompressionType.NONE, -1);
+			container.compress(data, null);
+			archives[i] = container.data;
+
+			ArchiveResponsePacket archiveResponse = new ArchiveResponsePacket();
+			archiveResponse.setIndex(2);
+			archiveResponse.setArchive(i);
+			archiveResponse.setData(archives[i]);
+			encoder.writeOutbound(archiveResponse);
+		}
+
+		ByteBuf encoded = Unpooled.buffer();
+		ByteBuf buf;
+		while ((buf = encoder.readOutbound()) != null)
+		{
+			encoded.writeBytes(buf);
+			buf.release();
+		}
+
+		EmbeddedChannel channel = new EmbeddedChannel(new ArchiveResponseDecoder());
+		int decoded = 0;
+		while (encoded.isReadable())
+		{
+			// feed the stream in uneven pieces so archives and block
+			// separators are split across reads
+			int len = Math.min(encoded.readableBytes(), 1 + random.nextInt(700));
+			channel.writeInbound(encoded.readRetainedSlice(len));
+
+			ArchiveResponsePacket response;
+			while ((response = channel.readInbound()) != null)
+			{
+				assertEquals(2, response.getIndex());
+				assertEquals(decoded, response.getArchive());
+				assertArrayEquals(archives[decoded], response.getData());
+				++decoded;
+			}
+		}
+		encoded.release();
+
+		assertEquals(SIZES.length, decoded);
+		assertNull(channel.readInbound());
+		channel.finish();
+	}
+}
@@ -27,20 +27,17 @@ package net.runelite.api;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
-import java.awt.Rectangle;
 import java.awt.geom.Area;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import static net.runelite.api.Constants.TILE_FLAG_BRIDGE;
 import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.geometry.RectangleUnion;
 import net.runelite.api.model.Jarvis;
-import net.runelite.api.model.Triangle;
-import net.runelite.api.model.Vertex;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetInfo;
 
@@ -151,6 +148,87 @@ public class Perspective
 
 	}
 
+	/**
+	 * Translates the vertices of a model within the 3D world to their
+	 * corresponding coordinates on the game screen. This is the same as
+	 * calling {@link #localToCanvas(Client, int, int, int)} for every vertex
+	 * after rotating it, without allocating a {@link Point} for each.
+	 *
+	 * @param client the game client
+	 * @param end the number of vertices to translate
+	 * @param x3dCenter the local x coordinate of the model origin
+	 * @param y3dCenter the local y coordinate of the model origin
+	 * @param z3dCenter the height of the model origin
+	 * @param rotate the orientation of the model (0-2048, where 0 is north)
+	 * @param x3d the model's vertex x coordinates
+	 * @param y3d the model's vertex y coordinates (height)
+	 * @param z3d the model's vertex z coordinates
+	 * @param x2d output canvas x coordinates, {@link Integer#MIN_VALUE} for
+	 * vertices {@link #localToCanvas(Client, int, int, int)} returns null for
+	 * @param y2d output canvas y coordinates
+	 */
+	public static void modelToCanvas(@Nonnull Client client, int end, int x3dCenter, int y3dCenter, int z3dCenter, int rotate,
+		int[] x3d, int[] y3d, int[] z3d, int[] x2d, int[] y2d)
+	{
+		final int cameraX = client.getCameraX();
+		final int cameraY = client.getCameraY();
+		final int cameraZ = client.getCameraZ();
+		final int pitchSin = SINE[client.getCameraPitch()];
+		final int pitchCos = COSINE[client.getCameraPitch()];
+		final int yawSin = SINE[client.getCameraYaw()];
+		final int yawCos = COSINE[client.getCameraYaw()];
+		final int scale = client.getScale();
+		final int viewportXMiddle = client.getViewportWidth() / 2 + client.getViewportXOffset();
+		final int viewportYMiddle = client.getViewportHeight() / 2 + client.getViewportYOffset();
+
+		// models are orientated north (1024) and there are 2048 angles total
+		rotate = (rotate + 1024) % 2048;
+		final int rotateSin = SINE[rotate];
+		final int rotateCos = COSINE[rotate];
+
+		for (int i = 0; i < end; ++i)
+		{
+			int rx = x3d[i];
+			int rz = z3d[i];
+
+			if (rotate != 0)
+			{
+				final int x0 = rx;
+				rx = x0 * rotateCos + rz * rotateSin >> 16;
+				rz = rz * rotateCos - x0 * rotateSin >> 16;
+			}
+
+			int x = x3dCenter - rx;
+			int y = y3dCenter - rz;
+			int z = z3dCenter + y3d[i];
+
+			if (x < 128 || y < 128 || x > 13056 || y > 13056)
+			{
+				x2d[i] = Integer.MIN_VALUE;
+				continue;
+			}
+
+			x -= cameraX;
+			y -= cameraY;
+			z -= cameraZ;
+
+			int var8 = yawCos * x + y * yawSin >> 16;
+			y = yawCos * y - yawSin * x >> 16;
+			x = var8;
+			var8 = pitchCos * z - y * pitchSin >> 16;
+			y = z * pitchSin + y * pitchCos >> 16;
+
+			if (y < 50)
+			{
+				x2d[i] = Integer.MIN_VALUE;
+				continue;
+			}
+
+			x2d[i] = viewportXMiddle + x * scale / y;
+			y2d[i] = viewportYMiddle + var8 * scale / y;
+		}
+	}
+
 	/**
 	 * Translates two-dimensional ground coordinates within the 3D world to
 	 * their corresponding coordinates on the Minimap.
@@ -509,113 +587,122 @@ public class Perspective
 			return null;
 		}
 
-		List<Triangle> triangles = model.getTriangles().stream()
-			.map(triangle -> triangle.rotate(orientation))
-			.collect(Collectors.toList());
+		final int vertexCount = model.getVerticesCount();
+		final int[] verticesX = new int[vertexCount];
+		final int[] verticesY = model.getVerticesY();
+		final int[] verticesZ = new int[vertexCount];
+		rotateVertices(model, orientation, verticesX, verticesZ);
 
-		List<Vertex> vertices = model.getVertices().stream()
-				.map(v -> v.rotate(orientation))
-				.collect(Collectors.toList());
-
-		Area clickBox = get2DGeometry(client, triangles, point);
-		Area visibleAABB = getAABB(client, vertices, point);
+		Area visibleAABB = getAABB(client, verticesX, verticesY, verticesZ, vertexCount, point);
 
 		if (visibleAABB == null)
 		{
 			return null;
 		}
 
+		Area clickBox = get2DGeometry(client, model, orientation, point);
 		clickBox.intersect(visibleAABB);
 		return clickBox;
 	}
 
 	/**
-	 * Determine if a given point is off-screen.
-	 *
-	 * @param client
-	 * @param point
-	 * @return
+	 * Rotates the x and z coordinates of the model's vertices, the same way
+	 * {@link net.runelite.api.model.Vertex#rotate(int)} does.
 	 */
-	private static boolean isOffscreen(@Nonnull Client client, @Nonnull Point point)
+	private static void rotateVertices(@Nonnull Model model, int orientation, int[] rotatedX, int[] rotatedZ)
 	{
-		return (point.getX() < 0 || point.getX() >= client.getViewportWidth())
-			&& (point.getY() < 0 || point.getY() >= client.getViewportHeight());
+		final int vertexCount = rotatedX.length;
+		final int[] verticesX = model.getVerticesX();
+		final int[] verticesZ = model.getVerticesZ();
+
+		// models are orientated north (1024) and there are 2048 angles total
+		orientation = (orientation + 1024) % 2048;
+
+		if (orientation == 0)
+		{
+			System.arraycopy(verticesX, 0, rotatedX, 0, vertexCount);
+			System.arraycopy(verticesZ, 0, rotatedZ, 0, vertexCount);
+			return;
+		}
+
+		final int sin = SINE[orientation];
+		final int cos = COSINE[orientation];
+
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			final int x = verticesX[i];
+			final int z = verticesZ[i];
+			rotatedX[i] = x * cos + z * sin >> 16;
+			rotatedZ[i] = z * cos - x * sin >> 16;
+		}
 	}
 
 	private static @Nonnull Area get2DGeometry(
 		@Nonnull Client client,
-		@Nonnull List<Triangle> triangles,
+		@Nonnull Model model,
+		int orientation,
 		@Nonnull LocalPoint point
 	)
 	{
-		int radius = 5;
-		Area geometry = new Area();
-
+		final int radius = 5;
 		final int tileHeight = getTileHeight(client, point, client.getPlane());
-
-		for (Triangle triangle : triangles)
+		final int viewportWidth = client.getViewportWidth();
+		final int viewportHeight = client.getViewportHeight();
+
+		// project each vertex once, rather than once for every triangle using it
+		final int vertexCount = model.getVerticesCount();
+		final int[] canvasX = new int[vertexCount];
+		final int[] canvasY = new int[vertexCount];
+		modelToCanvas(client, vertexCount, point.getX(), point.getY(), tileHeight, orientation,
+			model.getVerticesX(), model.getVerticesY(), model.getVerticesZ(), canvasX, canvasY);
+
+		final boolean[] offscreen = new boolean[vertexCount];
+		for (int i = 0; i < vertexCount; ++i)
 		{
-			Vertex _a = triangle.getA();
-			Point a = localToCanvas(client,
-				point.getX() - _a.getX(),
-				point.getY() - _a.getZ(),
-				tileHeight + _a.getY());
-			if (a == null)
-			{
-				continue;
-			}
+			offscreen[i] = (canvasX[i] < 0 || canvasX[i] >= viewportWidth) && (canvasY[i] < 0 || canvasY[i] >= viewportHeight);
+		}
 
-			Vertex _b = triangle.getB();
-			Point b = localToCanvas(client,
-				point.getX() - _b.getX(),
-				point.getY() - _b.getZ(),
-				tileHeight + _b.getY());
-			if (b == null)
-			{
-				continue;
-			}
+		final int triangleCount = model.getTrianglesCount();
+		final int[] trianglesX = model.getTrianglesX();
+		final int[] trianglesY = model.getTrianglesY();
+		final int[] trianglesZ = model.getTrianglesZ();
+		final RectangleUnion geometry = new RectangleUnion(triangleCount);
 
-			Vertex _c = triangle.getC();
-			Point c = localToCanvas(client,
-				point.getX() - _c.getX(),
-				point.getY() - _c.getZ(),
-				tileHeight + _c.getY());
-			if (c == null)
+		for (int i = 0; i < triangleCount; ++i)
+		{
+			final int a = trianglesX[i];
+			final int b = trianglesY[i];
+			final int c = trianglesZ[i];
+
+			if (canvasX[a] == Integer.MIN_VALUE || canvasX[b] == Integer.MIN_VALUE || canvasX[c] == Integer.MIN_VALUE)
 			{
 				continue;
 			}
 
-			if (isOffscreen(client, a) && isOffscreen(client, b) && isOffscreen(client, c))
+			if (offscreen[a] && offscreen[b] && offscreen[c])
 			{
 				continue;
 			}
 
-			int minX = Math.min(Math.min(a.getX(), b.getX()), c.getX());
-			int minY = Math.min(Math.min(a.getY(), b.getY()), c.getY());
+			int minX = Math.min(Math.min(canvasX[a], canvasX[b]), canvasX[c]);
+			int minY = Math.min(Math.min(canvasY[a], canvasY[b]), canvasY[c]);
 
 			// For some reason, this calculation is always 4 pixels short of the actual in-client one
-			int maxX = Math.max(Math.max(a.getX(), b.getX()), c.getX()) + 4;
-			int maxY = Math.max(Math.max(a.getY(), b.getY()), c.getY()) + 4;
-
-			Rectangle clickableRect = new Rectangle(
-				minX - radius, minY - radius,
-				maxX - minX + radius, maxY - minY + radius
-			);
-
-			if (geometry.contains(clickableRect))
-			{
-				continue;
-			}
+			int maxX = Math.max(Math.max(canvasX[a], canvasX[b]), canvasX[c]) + 4;
+			int maxY = Math.max(Math.max(canvasY[a], canvasY[b]), canvasY[c]) + 4;
 
-			geometry.add(new Area(clickableRect));
+			geometry.add(minX - radius, minY - radius, maxX, maxY);
 		}
 
-		return geometry;
+		return new Area(geometry.toPath());
 	}
 
 	private static Area getAABB(
 		@Nonnull Client client,
-		@Nonnull List<Vertex> vertices,
+		@Nonnull int[] verticesX,
+		@Nonnull int[] verticesY,
+		@Nonnull int[] verticesZ,
+		int vertexCount,
 		@Nonnull LocalPoint point
 	)
 	{
@@ -626,11 +713,11 @@ public class Perspective
 		int maxZ = 0;
 		int minZ = 0;
 
-		for (Vertex vertex : vertices)
+		for (int i = 0; i < vertexCount; ++i)
 		{
-			int x = vertex.getX();
-			int y = vertex.getY();
-			int z = vertex.getZ();
+			int x = verticesX[i];
+			int y = verticesY[i];
+			int z = verticesZ[i];
 
 			if (x > maxX)
 			{
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.geometry;
+
+import java.awt.geom.Path2D;
+import java.util.Arrays;
+
+/**
+ * Computes the union of integer axis aligned rectangles with a sweep over their y coordinates.
+ * <p>
+ * The union is emitted as a set of non-overlapping rectangles, which is considerably cheaper than
+ * adding every rectangle to an {@link java.awt.geom.Area} one at a time, while covering exactly the
+ * same pixels.
+ */
+public class RectangleUnion
+{
+	private int[] rects;
+	private int count;
+
+	public RectangleUnion()
+	{
+		this(16);
+	}
+
+	public RectangleUnion(int capacity)
+	{
+		rects = new int[Math.max(capacity, 1) * 4];
+	}
+
+	/**
+	 * Adds a rectangle to the union. Empty rectangles are ignored.
+	 *
+	 * @param x1 left edge, inclusive
+	 * @param y1 top edge, inclusive
+	 * @param x2 right edge, exclusive
+	 * @param y2 bottom edge, exclusive
+	 */
+	public void add(int x1, int y1, int x2, int y2)
+	{
+		if (x1 >= x2 || y1 >= y2)
+		{
+			return;
+		}
+
+		if (count * 4 == rects.length)
+		{
+			rects = Arrays.copyOf(rects, rects.length * 2);
+		}
+
+		int off = count++ * 4;
+		rects[off] = x1;
+		rects[off + 1] = y1;
+		rects[off + 2] = x2;
+		rects[off + 3] = y2;
+	}
+
+	public int size()
+	{
+		return count;
+	}
+
+	public void clear()
+	{
+		count = 0;
+	}
+
+	/**
+	 * Builds a path made of non-overlapping rectangles covering the union of all added rectangles.
+	 * Vertically adjacent rows with identical horizontal spans are merged into a single rectangle.
+	 *
+	 * @return the union as a path
+	 */
+	public Path2D toPath()
+	{
+		final Path2D.Float path = new Path2D.Float(Path2D.WIND_NON_ZERO, count * 4 + 1);
+
+		if (count == 0)
+		{
+			return path;
+		}
+
+		// distinct y coordinates of all horizontal edges
+		int[] ys = new int[count * 2];
+		for (int i = 0; i < count; ++i)
+		{
+			ys[i * 2] = rects[i * 4 + 1];
+			ys[i * 2 + 1] = rects[i * 4 + 3];
+		}
+		Arrays.sort(ys);
+		int numYs = 1;
+		for (int i = 1; i < ys.length; ++i)
+		{
+			if (ys[i] != ys[numYs - 1])
+			{
+				ys[numYs++] = ys[i];
+			}
+		}
+
+		// rectangle indexes ordered by their top edge
+		final long[] order = new long[count];
+		for (int i = 0; i < count; ++i)
+		{
+			order[i] = ((long) rects[i * 4 + 1] << 32) | i;
+		}
+		Arrays.sort(order);
+
+		final int[] active = new int[count];
+		final long[] spans = new long[count];
+		int[] curX1 = new int[count];
+		int[] curX2 = new int[count];
+		int[] prevX1 = new int[count];
+		int[] prevX2 = new int[count];
+		int prevCount = 0;
+		int prevTop = 0;
+		int activeCount = 0;
+		int next = 0;
+
+		for (int band = 0; band < numYs - 1; ++band)
+		{
+			final int top = ys[band];
+
+			// drop rectangles which ended above this band
+			int kept = 0;
+			for (int i = 0; i < activeCount; ++i)
+			{
+				if (rects[active[i] * 4 + 3] > top)
+				{
+					active[kept++] = active[i];
+				}
+			}
+			activeCount = kept;
+
+			// and pick up the ones starting at it
+			while (next < count && (int) (order[next] >> 32) <= top)
+			{
+				active[activeCount++] = (int) order[next++];
+			}
+
+			for (int i = 0; i < activeCount; ++i)
+			{
+				final int off = active[i] * 4;
+				spans[i] = ((long) rects[off] << 32) | (rects[off + 2] & 0xFFFFFFFFL);
+			}
+			Arrays.sort(spans, 0, activeCount);
+
+			// merge overlapping and touching spans
+			int curCount = 0;
+			for (int i = 0; i < activeCount; ++i)
+			{
+				final int x1 = (int) (spans[i] >> 32);
+				final int x2 = (int) spans[i];
+
+				if (curCount > 0 && x1 <= curX2[curCount - 1])
+				{
+					curX2[curCount - 1] = Math.max(curX2[curCount - 1], x2);
+				}
+				else
+				{
+					curX1[curCount] = x1;
+					curX2[curCount] = x2;
+					++curCount;
+				}
+			}
+
+			if (curCount == prevCount && equals(curX1, prevX1, curCount) && equals(curX2, prevX2, curCount))
+			{
+				continue;
+			}
+
+			emit(path, prevX1, prevX2, prevCount, prevTop, top);
+
+			int[] tmp = prevX1;
+			prevX1 = curX1;
+			curX1 = tmp;
+			tmp = prevX2;
+			prevX2 = curX2;
+			curX2 = tmp;
+			prevCount = curCount;
+			prevTop = top;
+		}
+
+		emit(path, prevX1, prevX2, prevCount, prevTop, ys[numYs - 1]);
+		return path;
+	}
+
+	private static boolean equals(int[] a, int[] b, int n)
+	{
+		for (int i = 0; i < n; ++i)
+		{
+			if (a[i] != b[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void emit(Path2D path, int[] x1s, int[] x2s, int n, int top, int bottom)
+	{
+		for (int i = 0; i < n; ++i)
+		{
+			path.moveTo(x1s[i], top);
+			path.lineTo(x2s[i], top);
+			path.lineTo(x2s[i], bottom);
+			path.lineTo(x1s[i], bottom);
+			path.closePath();
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+import java.util.Arrays;
+
+/**
+ * Provides utility methods for computing the convex hull of <em>n</em>
+ * points stored in primitive arrays.
+ * <p>
+ * The implementation uses Andrew's monotone chain algorithm and runs in
+ * O(n log n) time. Points are packed into longs with {@link #pack(int, int)}
+ * so they can be sorted without boxing. The resulting hull is the same, and
+ * in the same order, as the one {@link Jarvis#convexHull(java.util.List)}
+ * produces.
+ */
+public class MonotoneChain
+{
+	/**
+	 * Packs a point into a long which sorts by x and then by y.
+	 */
+	public static long pack(int x, int y)
+	{
+		return ((long) x << 32) | ((y ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+	}
+
+	public static int unpackX(long point)
+	{
+		return (int) (point >> 32);
+	}
+
+	public static int unpackY(long point)
+	{
+		return (int) point ^ Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Computes the convex hull of the passed points.
+	 * <p>
+	 * The first {@code count} entries of {@code points} are sorted in place.
+	 * The hull starts with the left most point and excludes points lying on
+	 * its edges.
+	 *
+	 * @param points packed points
+	 * @param count number of points
+	 * @param hull output array for the packed hull points, must be at least
+	 * {@code count + 1} long
+	 * @return number of points on the hull, or -1 if there are fewer than 3 points
+	 */
+	public static int convexHull(long[] points, int count, long[] hull)
+	{
+		if (count < 3)
+		{
+			return -1;
+		}
+
+		Arrays.sort(points, 0, count);
+
+		// lower hull, then upper hull, counter clockwise
+		int size = 0;
+		long previous = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			final long p = points[i];
+			if (i > 0 && p == previous)
+			{
+				continue;
+			}
+			previous = p;
+
+			while (size >= 2 && crossProduct(hull[size - 2], hull[size - 1], p) <= 0)
+			{
+				--size;
+			}
+			hull[size++] = p;
+		}
+
+		final int lower = size + 1;
+		for (int i = count - 2; i >= 0; --i)
+		{
+			final long p = points[i];
+			if (p == points[i + 1])
+			{
+				continue;
+			}
+
+			while (size >= lower && crossProduct(hull[size - 2], hull[size - 1], p) <= 0)
+			{
+				--size;
+			}
+			hull[size++] = p;
+		}
+
+		// the last point is the first one again, unless all points are the same
+		if (size > 1)
+		{
+			--size;
+		}
+
+		// Jarvis walks the hull the other way around
+		for (int i = 1, j = size - 1; i < j; ++i, --j)
+		{
+			final long tmp = hull[i];
+			hull[i] = hull[j];
+			hull[j] = tmp;
+		}
+
+		return size;
+	}
+
+	private static long crossProduct(long o, long a, long b)
+	{
+		final long ox = unpackX(o);
+		final long oy = unpackY(o);
+		return (unpackX(a) - ox) * (unpackY(b) - oy) - (unpackY(a) - oy) * (unpackX(b) - ox);
+	}
+}
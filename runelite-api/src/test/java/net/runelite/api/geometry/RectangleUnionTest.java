@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.geometry;
+
+import java.awt.Rectangle;
+import java.awt.geom.Area;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class RectangleUnionTest
+{
+	@Test
+	public void testEmpty()
+	{
+		RectangleUnion union = new RectangleUnion();
+		union.add(5, 5, 5, 10);
+		assertEquals(0, union.size());
+		assertTrue(new Area(union.toPath()).isEmpty());
+	}
+
+	@Test
+	public void testMatchesArea()
+	{
+		Random random = new Random(42L);
+
+		for (int iteration = 0; iteration < 200; ++iteration)
+		{
+			RectangleUnion union = new RectangleUnion(1);
+			Area expected = new Area();
+
+			int count = 1 + random.nextInt(64);
+			for (int i = 0; i < count; ++i)
+			{
+				int x = random.nextInt(200) - 50;
+				int y = random.nextInt(200) - 50;
+				int width = 1 + random.nextInt(60);
+				int height = 1 + random.nextInt(60);
+
+				union.add(x, y, x + width, y + height);
+				expected.add(new Area(new Rectangle(x, y, width, height)));
+			}
+
+			Area actual = new Area(union.toPath());
+			assertTrue("iteration " + iteration, expected.equals(actual));
+		}
+	}
+
+	@Test
+	public void testMergesRows()
+	{
+		RectangleUnion union = new RectangleUnion();
+		union.add(0, 0, 10, 10);
+		union.add(0, 10, 10, 20);
+		union.add(10, 0, 20, 20);
+
+		Area area = new Area(union.toPath());
+		assertTrue(area.isRectangular());
+		assertEquals(new Rectangle(0, 0, 20, 20), area.getBounds());
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import net.runelite.api.Point;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MonotoneChainTest
+{
+	@Test
+	public void testPack()
+	{
+		int[] values = {Integer.MIN_VALUE, -5, 0, 7, Integer.MAX_VALUE};
+		for (int x : values)
+		{
+			for (int y : values)
+			{
+				long packed = MonotoneChain.pack(x, y);
+				Assert.assertEquals(x, MonotoneChain.unpackX(packed));
+				Assert.assertEquals(y, MonotoneChain.unpackY(packed));
+			}
+		}
+
+		Assert.assertTrue(MonotoneChain.pack(-1, 5) < MonotoneChain.pack(0, -5));
+		Assert.assertTrue(MonotoneChain.pack(0, -5) < MonotoneChain.pack(0, 5));
+	}
+
+	@Test
+	public void test()
+	{
+		Point[] points =
+		{
+			new Point(0, 3),
+			new Point(1, 1),
+			new Point(2, 2),
+			new Point(4, 4),
+			new Point(0, 0),
+			new Point(1, 2),
+			new Point(3, 1),
+			new Point(3, 3)
+		};
+
+		List<Point> result = convexHull(points);
+		Assert.assertEquals(4, result.size());
+		Assert.assertEquals(new Point(0, 0), result.get(0));
+		Assert.assertEquals(new Point(0, 3), result.get(1));
+		Assert.assertEquals(new Point(4, 4), result.get(2));
+		Assert.assertEquals(new Point(3, 1), result.get(3));
+	}
+
+	@Test
+	public void testTooFewPoints()
+	{
+		Assert.assertNull(convexHull(new Point[]{new Point(0, 0), new Point(1, 1)}));
+	}
+
+	@Test
+	public void testMatchesJarvis()
+	{
+		Random random = new Random(1234L);
+
+		for (int iteration = 0; iteration < 500; ++iteration)
+		{
+			// small coordinate range so duplicate and collinear points are common
+			int range = 4 + random.nextInt(60);
+			Point[] points = new Point[3 + random.nextInt(100)];
+			for (int i = 0; i < points.length; ++i)
+			{
+				points[i] = new Point(random.nextInt(range) - range / 2, random.nextInt(range) - range / 2);
+			}
+
+			List<Point> expected = Jarvis.convexHull(Arrays.asList(points));
+			Assert.assertEquals("iteration " + iteration, expected, convexHull(points));
+		}
+	}
+
+	private static List<Point> convexHull(Point[] points)
+	{
+		long[] packed = new long[points.length];
+		for (int i = 0; i < points.length; ++i)
+		{
+			packed[i] = MonotoneChain.pack(points[i].getX(), points[i].getY());
+		}
+
+		long[] hull = new long[points.length + 1];
+		int size = MonotoneChain.convexHull(packed, points.length, hull);
+		if (size < 0)
+		{
+			return null;
+		}
+
+		List<Point> result = new ArrayList<>(size);
+		for (int i = 0; i < size; ++i)
+		{
+			result.add(new Point(MonotoneChain.unpackX(hull[i]), MonotoneChain.unpackY(hull[i])));
+		}
+		return result;
+	}
+}
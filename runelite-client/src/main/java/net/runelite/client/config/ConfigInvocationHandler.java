@@ -24,29 +24,64 @@
  */
 package net.runelite.client.config;
 
+import com.google.common.collect.ImmutableSet;
+import java.awt.Color;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
 
 @Slf4j
 class ConfigInvocationHandler implements InvocationHandler
 {
+	/**
+	 * Return types whose values can be shared between callers. Mutable types,
+	 * such as {@link java.awt.Dimension}, are parsed on every call.
+	 */
+	private static final Set<Class<?>> CACHEABLE_TYPES = ImmutableSet.of(
+		boolean.class, Boolean.class, int.class, Integer.class, String.class, Color.class,
+		Instant.class, Duration.class, Keybind.class, ModifierlessKeybind.class, WorldPoint.class
+	);
+
+	// marks a cached null value
+	private static final Object NULL = new Object();
+
 	private final ConfigManager manager;
+	private final ConfigGroup group;
+
+	// parsed value of each getter, cleared by invalidate()
+	private final Map<Method, Object> values = new ConcurrentHashMap<>();
+	private final Map<Method, MethodHandle> defaultMethods = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
 
-	public ConfigInvocationHandler(ConfigManager manager)
+	ConfigInvocationHandler(ConfigManager manager, Class<?> iface)
 	{
 		this.manager = manager;
+		this.group = iface.getAnnotation(ConfigGroup.class);
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
-		Class<?> iface = proxy.getClass().getInterfaces()[0];
+		if (args == null)
+		{
+			Object value = values.get(method);
+			if (value != null)
+			{
+				return value == NULL ? null : value;
+			}
+		}
 
-		ConfigGroup group = iface.getAnnotation(ConfigGroup.class);
 		ConfigItem item = method.getAnnotation(ConfigItem.class);
 
 		if (group == null)
@@ -64,34 +99,21 @@ class ConfigInvocationHandler implements InvocationHandler
 		if (args == null)
 		{
 			// Getting configuration item
-			String value = manager.getConfiguration(group.value(), item.keyName());
+			long gen = generation.get();
+			Object value = getValue(proxy, method, item);
 
-			if (value == null)
+			if (isCacheable(method.getReturnType()))
 			{
-				if (method.isDefault())
-				{
-					return callDefaultMethod(proxy, method, null);
-				}
-
-				return null;
-			}
+				values.put(method, value == null ? NULL : value);
 
-			// Convert value to return type
-			Class<?> returnType = method.getReturnType();
-			
-			try
-			{
-				return ConfigManager.stringToObject(value, returnType);
-			}
-			catch (Exception e)
-			{
-				log.warn("Unable to unmarshal {}.{} ", group.value(), item.keyName(), e);
-				if (method.isDefault())
+				// the value may have changed while it was being read
+				if (generation.get() != gen)
 				{
-					return callDefaultMethod(proxy, method, null);
+					values.remove(method);
 				}
-				return null;
 			}
+
+			return value;
 		}
 		else
 		{
@@ -138,7 +160,86 @@ class ConfigInvocationHandler implements InvocationHandler
 		}
 	}
 
+	private Object getValue(Object proxy, Method method, ConfigItem item) throws Throwable
+	{
+		String value = manager.getConfiguration(group.value(), item.keyName());
+
+		if (value == null)
+		{
+			if (method.isDefault())
+			{
+				return getDefaultMethod(proxy, method).invoke();
+			}
+
+			return null;
+		}
+
+		// Convert value to return type
+		Class<?> returnType = method.getReturnType();
+
+		try
+		{
+			return ConfigManager.stringToObject(value, returnType);
+		}
+		catch (Exception e)
+		{
+			log.warn("Unable to unmarshal {}.{} ", group.value(), item.keyName(), e);
+			if (method.isDefault())
+			{
+				return getDefaultMethod(proxy, method).invoke();
+			}
+			return null;
+		}
+	}
+
+	private MethodHandle getDefaultMethod(Object proxy, Method method) throws Throwable
+	{
+		MethodHandle handle = defaultMethods.get(method);
+		if (handle == null)
+		{
+			handle = defaultMethodHandle(method).bindTo(proxy);
+			defaultMethods.put(method, handle);
+		}
+		return handle;
+	}
+
+	private static boolean isCacheable(Class<?> type)
+	{
+		return type.isEnum() || CACHEABLE_TYPES.contains(type);
+	}
+
+	/**
+	 * Drop the cached value of a configuration key, if it belongs to this proxy's group
+	 */
+	void invalidate(String groupName, String key)
+	{
+		if (group == null || !group.value().equals(groupName))
+		{
+			return;
+		}
+
+		generation.incrementAndGet();
+		values.keySet().removeIf(m ->
+		{
+			ConfigItem item = m.getAnnotation(ConfigItem.class);
+			return item != null && item.keyName().equals(key);
+		});
+	}
+
+	void invalidateAll()
+	{
+		generation.incrementAndGet();
+		values.clear();
+	}
+
 	static Object callDefaultMethod(Object proxy, Method method, Object[] args) throws Throwable
+	{
+		return defaultMethodHandle(method)
+			.bindTo(proxy)
+			.invokeWithArguments(args);
+	}
+
+	private static MethodHandle defaultMethodHandle(Method method) throws Throwable
 	{
 		// Call the default method implementation - https://rmannibucau.wordpress.com/2014/03/27/java-8-default-interface-methods-and-jdk-dynamic-proxies/
 		Constructor<MethodHandles.Lookup> constructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
@@ -146,8 +247,6 @@ class ConfigInvocationHandler implements InvocationHandler
 
 		Class<?> declaringClass = method.getDeclaringClass();
 		return constructor.newInstance(declaringClass, MethodHandles.Lookup.PUBLIC | MethodHandles.Lookup.PRIVATE)
-			.unreflectSpecial(method, declaringClass)
-			.bindTo(proxy)
-			.invokeWithArguments(args);
+			.unreflectSpecial(method, declaringClass);
 	}
 }
@@ -54,6 +54,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -86,7 +87,7 @@ public class ConfigManager
 	private ConfigClient client;
 	private File propertiesFile;
 
-	private final ConfigInvocationHandler handler = new ConfigInvocationHandler(this);
+	private final Map<Class<?>, ConfigInvocationHandler> handlers = new ConcurrentHashMap<>();
 	private final Properties properties = new Properties();
 	private final Map<String, String> pendingChanges = new HashMap<>();
 
@@ -168,6 +169,7 @@ public class ConfigManager
 		}
 
 		properties.clear();
+		invalidateAll();
 
 		for (ConfigEntry entry : configuration.getConfig())
 		{
@@ -183,6 +185,7 @@ public class ConfigManager
 			final String key = split[1];
 			final String value = entry.getValue();
 			final String oldValue = (String) properties.setProperty(entry.getKey(), value);
+			invalidate(groupName, key);
 
 			ConfigChanged configChanged = new ConfigChanged();
 			configChanged.setGroup(groupName);
@@ -290,6 +293,8 @@ public class ConfigManager
 			log.warn("Unable to load settings", ex);
 		}
 
+		invalidateAll();
+
 		try
 		{
 			Map<String, String> copy = (Map) ImmutableMap.copyOf(properties);
@@ -346,6 +351,9 @@ public class ConfigManager
 			throw new RuntimeException("Non-public configuration classes can't have default methods invoked");
 		}
 
+		// proxies of the same interface share a handler, and so its cached values
+		ConfigInvocationHandler handler = handlers.computeIfAbsent(clazz, c -> new ConfigInvocationHandler(this, c));
+
 		T t = (T) Proxy.newProxyInstance(clazz.getClassLoader(), new Class<?>[]
 			{
 				clazz
@@ -390,6 +398,8 @@ public class ConfigManager
 			return;
 		}
 
+		invalidate(groupName, key);
+
 		log.debug("Setting configuration value for {}.{} to {}", groupName, key, value);
 
 		synchronized (pendingChanges)
@@ -420,6 +430,8 @@ public class ConfigManager
 			return;
 		}
 
+		invalidate(groupName, key);
+
 		log.debug("Unsetting configuration value for {}.{}", groupName, key);
 
 		synchronized (pendingChanges)
@@ -435,6 +447,26 @@ public class ConfigManager
 		eventBus.post(configChanged);
 	}
 
+	/**
+	 * Drop the values config proxies have cached for a key. This must happen
+	 * before the ConfigChanged event is posted, as subscribers read the new value.
+	 */
+	private void invalidate(String groupName, String key)
+	{
+		for (ConfigInvocationHandler handler : handlers.values())
+		{
+			handler.invalidate(groupName, key);
+		}
+	}
+
+	private void invalidateAll()
+	{
+		for (ConfigInvocationHandler handler : handlers.values())
+		{
+			handler.invalidateAll();
+		}
+	}
+
 	public ConfigDescriptor getConfigDescriptor(Object configurationProxy)
 	{
 		Class<?> inter = configurationProxy.getClass().getInterfaces()[0];
@@ -26,9 +26,6 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Multimap;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -38,11 +35,21 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
@@ -64,6 +71,15 @@ public class EventBus
 		private final Method method;
 		@EqualsAndHashCode.Exclude
 		private final SubscriberMethod lamda;
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		private final LongAdder invocations = new LongAdder();
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		private final LongAdder totalNanos = new LongAdder();
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -76,10 +92,57 @@ public class EventBus
 				method.invoke(object, arg);
 			}
 		}
+
+		void record(final long nanos)
+		{
+			invocations.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+		}
+
+		void resetTiming()
+		{
+			invocations.reset();
+			totalNanos.reset();
+			maxNanos.reset();
+		}
 	}
 
+	/**
+	 * Snapshot of the time spent in a single subscriber method since timing was last reset.
+	 */
+	@Value
+	public static class SubscriberTiming
+	{
+		private final Class<?> eventType;
+		private final Object subscriber;
+		private final Method method;
+		private final long invocations;
+		private final long totalNanos;
+		private final long maxNanos;
+
+		public long getAverageNanos()
+		{
+			return invocations == 0 ? 0 : totalNanos / invocations;
+		}
+	}
+
+	private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+
 	private final Consumer<Throwable> exceptionHandler;
-	private ImmutableMultimap<Class, Subscriber> subscribers = ImmutableMultimap.of();
+
+	/**
+	 * Dispatch table from event class to its subscribers in registration order. The map and the arrays
+	 * in it are never modified after being published, register and unregister replace the whole map.
+	 */
+	private volatile Map<Class<?>, Subscriber[]> subscribers = Collections.emptyMap();
+
+	/**
+	 * Whether subscriber invocations are timed. Off by default, as it adds two
+	 * {@link System#nanoTime()} calls to every invocation.
+	 */
+	@Getter
+	private volatile boolean timingEnabled;
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -98,12 +161,7 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class, Subscriber> builder = ImmutableMultimap.builder();
-
-		if (subscribers != null)
-		{
-			builder.putAll(subscribers);
-		}
+		final Map<Class<?>, Subscriber[]> map = new IdentityHashMap<>(subscribers);
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -127,7 +185,7 @@ public class EventBus
 
 				for (Class<?> psc = parameterClazz.getSuperclass(); psc != null; psc = psc.getSuperclass())
 				{
-					if (subscribers.containsKey(psc))
+					if (map.containsKey(psc))
 					{
 						throw new IllegalArgumentException("@Subscribed method \"" + method + "\" cannot subscribe to class which inherits from subscribed class \"" + psc + "\"");
 					}
@@ -161,12 +219,15 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, lambda);
-				builder.put(parameterClazz, subscriber);
+				final Subscriber[] existing = map.getOrDefault(parameterClazz, NO_SUBSCRIBERS);
+				final Subscriber[] updated = Arrays.copyOf(existing, existing.length + 1);
+				updated[existing.length] = subscriber;
+				map.put(parameterClazz, updated);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		subscribers = map;
 	}
 
 	/**
@@ -176,13 +237,7 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		if (subscribers == null)
-		{
-			return;
-		}
-
-		final Multimap<Class, Subscriber> map = HashMultimap.create();
-		map.putAll(subscribers);
+		final Map<Class<?>, Subscriber[]> map = new IdentityHashMap<>(subscribers);
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -196,11 +251,29 @@ public class EventBus
 				}
 
 				final Class<?> parameterClazz = method.getParameterTypes()[0];
-				map.remove(parameterClazz, new Subscriber(object, method, null));
+				final Subscriber[] existing = map.get(parameterClazz);
+
+				if (existing == null)
+				{
+					continue;
+				}
+
+				final Subscriber[] updated = Arrays.stream(existing)
+					.filter(s -> s.getObject() != object || !s.getMethod().equals(method))
+					.toArray(Subscriber[]::new);
+
+				if (updated.length == 0)
+				{
+					map.remove(parameterClazz);
+				}
+				else
+				{
+					map.put(parameterClazz, updated);
+				}
 			}
 		}
 
-		subscribers = ImmutableMultimap.copyOf(map);
+		subscribers = map;
 	}
 
 	/**
@@ -211,8 +284,19 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] eventSubscribers = subscribers.get(event.getClass());
+
+		if (eventSubscribers == null)
 		{
+			return;
+		}
+
+		final boolean timing = timingEnabled;
+
+		for (final Subscriber subscriber : eventSubscribers)
+		{
+			final long start = timing ? System.nanoTime() : 0L;
+
 			try
 			{
 				subscriber.invoke(event);
@@ -221,9 +305,72 @@ public class EventBus
 			{
 				exceptionHandler.accept(e);
 			}
+
+			if (timing)
+			{
+				subscriber.record(System.nanoTime() - start);
+			}
 		}
 	}
 
+	/**
+	 * Enables or disables timing of subscriber invocations. Enabling timing resets all previously
+	 * collected timings.
+	 *
+	 * @param timingEnabled whether to time subscriber invocations
+	 */
+	public synchronized void setTimingEnabled(final boolean timingEnabled)
+	{
+		if (timingEnabled && !this.timingEnabled)
+		{
+			resetTimings();
+		}
+
+		this.timingEnabled = timingEnabled;
+	}
+
+	/**
+	 * Resets the timings collected for all registered subscribers.
+	 */
+	public void resetTimings()
+	{
+		for (final Subscriber[] eventSubscribers : subscribers.values())
+		{
+			for (final Subscriber subscriber : eventSubscribers)
+			{
+				subscriber.resetTiming();
+			}
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the timings collected for all registered subscribers, sorted by total time
+	 * spent, highest first.
+	 *
+	 * @return subscriber timings
+	 */
+	public List<SubscriberTiming> getSubscriberTimings()
+	{
+		final List<SubscriberTiming> timings = new ArrayList<>();
+
+		for (final Map.Entry<Class<?>, Subscriber[]> entry : subscribers.entrySet())
+		{
+			for (final Subscriber subscriber : entry.getValue())
+			{
+				timings.add(new SubscriberTiming(
+					entry.getKey(),
+					subscriber.getObject(),
+					subscriber.getMethod(),
+					subscriber.getInvocations().sum(),
+					subscriber.getTotalNanos().sum(),
+					subscriber.getMaxNanos().get()));
+			}
+		}
+
+		timings.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+		return timings;
+	}
+
 	private static MethodHandles.Lookup privateLookupIn(Class clazz) throws IllegalAccessException, NoSuchFieldException, InvocationTargetException
 	{
 		try
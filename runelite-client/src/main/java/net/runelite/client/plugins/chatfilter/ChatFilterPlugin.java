@@ -29,8 +29,6 @@ import com.google.common.base.Splitter;
 import com.google.inject.Provides;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import javax.inject.Inject;
@@ -45,6 +43,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.util.ChatMatcher;
 import net.runelite.client.util.Text;
 import org.apache.commons.lang3.StringUtils;
 
@@ -63,7 +62,7 @@ public class ChatFilterPlugin extends Plugin
 	private static final String CENSOR_MESSAGE = "Hey, everyone, I just tried to say something very silly!";
 
 	private final JagexPrintableCharMatcher jagexPrintableCharMatcher = new JagexPrintableCharMatcher();
-	private final List<Pattern> filteredPatterns = new ArrayList<>();
+	private ChatMatcher filterMatcher;
 
 	@Inject
 	private Client client;
@@ -86,7 +85,7 @@ public class ChatFilterPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
-		filteredPatterns.clear();
+		filterMatcher = null;
 	}
 
 	@Subscribe
@@ -173,57 +172,55 @@ public class ChatFilterPlugin extends Plugin
 	{
 		String strippedMessage = jagexPrintableCharMatcher.retainFrom(message)
 			.replace('\u00A0', ' ');
-		boolean filtered = false;
-		for (Pattern pattern : filteredPatterns)
-		{
-			Matcher m = pattern.matcher(strippedMessage);
-
-			StringBuffer sb = new StringBuffer();
 
-			while (m.find())
-			{
-				switch (config.filterType())
-				{
-					case CENSOR_WORDS:
-						m.appendReplacement(sb, StringUtils.repeat("*", m.group(0).length()));
-						filtered = true;
-						break;
-					case CENSOR_MESSAGE:
-						return CENSOR_MESSAGE;
-					case REMOVE_MESSAGE:
-						return null;
-				}
-			}
-			m.appendTail(sb);
+		if (filterMatcher == null)
+		{
+			return message;
+		}
 
-			strippedMessage = sb.toString();
+		final List<ChatMatcher.Match> matches = filterMatcher.findAll(strippedMessage);
+		if (matches.isEmpty())
+		{
+			return message;
 		}
 
-		return filtered ? strippedMessage : message;
+		switch (config.filterType())
+		{
+			case CENSOR_WORDS:
+				return ChatMatcher.replaceAll(strippedMessage, matches, s -> StringUtils.repeat("*", s.length()));
+			case CENSOR_MESSAGE:
+				return CENSOR_MESSAGE;
+			case REMOVE_MESSAGE:
+			default:
+				return null;
+		}
 	}
 
 	void updateFilteredPatterns()
 	{
-		filteredPatterns.clear();
+		final List<String> words = new ArrayList<>(Text.fromCSV(config.filteredWords()));
+		final List<Pattern> patterns = new ArrayList<>();
 
-		Text.fromCSV(config.filteredWords()).stream()
-			.map(s -> Pattern.compile(Pattern.quote(s), Pattern.CASE_INSENSITIVE))
-			.forEach(filteredPatterns::add);
+		for (String regex : NEWLINE_SPLITTER.splitToList(config.filteredRegex()))
+		{
+			// Plain words don't need a regex
+			if (ChatMatcher.isLiteral(regex))
+			{
+				words.add(regex);
+				continue;
+			}
 
-		NEWLINE_SPLITTER.splitToList(config.filteredRegex()).stream()
-			.map(s ->
+			try
 			{
-				try
-				{
-					return Pattern.compile(s, Pattern.CASE_INSENSITIVE);
-				}
-				catch (PatternSyntaxException ex)
-				{
-					return null;
-				}
-			})
-			.filter(Objects::nonNull)
-			.forEach(filteredPatterns::add);
+				patterns.add(Pattern.compile(regex, Pattern.CASE_INSENSITIVE));
+			}
+			catch (PatternSyntaxException ex)
+			{
+				// ignore invalid patterns
+			}
+		}
+
+		filterMatcher = new ChatMatcher(words, patterns, false);
 	}
 
 	@Subscribe
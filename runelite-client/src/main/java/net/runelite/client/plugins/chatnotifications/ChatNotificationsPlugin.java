@@ -27,11 +27,11 @@ package net.runelite.client.plugins.chatnotifications;
 
 import com.google.common.base.Strings;
 import com.google.inject.Provides;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import static java.util.regex.Pattern.quote;
-import java.util.stream.Collectors;
 import javax.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.api.MessageNode;
@@ -46,6 +46,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.util.ChatMatcher;
 import net.runelite.client.util.Text;
 
 @PluginDescriptor(
@@ -74,7 +75,7 @@ public class ChatNotificationsPlugin extends Plugin
 	//Custom Highlights
 	private Pattern usernameMatcher = null;
 	private String usernameReplacer = "";
-	private Pattern highlightMatcher = null;
+	private ChatMatcher highlightMatcher = null;
 
 	@Provides
 	ChatNotificationsConfig provideConfig(ConfigManager configManager)
@@ -116,13 +117,7 @@ public class ChatNotificationsPlugin extends Plugin
 		if (!config.highlightWordsString().trim().equals(""))
 		{
 			List<String> items = Text.fromCSV(config.highlightWordsString());
-			String joined = items.stream()
-				.map(Text::escapeJagex) // we compare these strings to the raw Jagex ones
-				.map(Pattern::quote)
-				.collect(Collectors.joining("|"));
-			// To match <word> \b doesn't work due to <> not being in \w,
-			// so match \b or \s
-			highlightMatcher = Pattern.compile("(?:\\b|(?<=\\s))(" + joined + ")(?:\\b|(?=\\s))", Pattern.CASE_INSENSITIVE);
+			highlightMatcher = new ChatMatcher(items, Collections.emptyList(), true);
 		}
 	}
 
@@ -180,22 +175,12 @@ public class ChatNotificationsPlugin extends Plugin
 		if (highlightMatcher != null)
 		{
 			String nodeValue = messageNode.getValue();
-			Matcher matcher = highlightMatcher.matcher(nodeValue);
-			boolean found = false;
-			StringBuffer stringBuffer = new StringBuffer();
-
-			while (matcher.find())
+			List<ChatMatcher.Match> matches = highlightMatcher.findAll(nodeValue);
+			if (!matches.isEmpty())
 			{
-				String value = matcher.group();
-				matcher.appendReplacement(stringBuffer, "<col" + ChatColorType.HIGHLIGHT + ">" + value + "<col" + ChatColorType.NORMAL + ">");
+				messageNode.setValue(ChatMatcher.replaceAll(nodeValue, matches,
+					value -> "<col" + ChatColorType.HIGHLIGHT + ">" + value + "<col" + ChatColorType.NORMAL + ">"));
 				update = true;
-				found = true;
-			}
-
-			if (found)
-			{
-				matcher.appendTail(stringBuffer);
-				messageNode.setValue(stringBuffer.toString());
 
 				if (config.notifyOnHighlight())
 				{
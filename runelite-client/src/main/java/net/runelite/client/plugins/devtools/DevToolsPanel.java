@@ -120,6 +120,7 @@ class DevToolsPanel extends PluginPanel
 		});
 
 		container.add(plugin.getSoundEffects());
+		container.add(plugin.getEventTimings());
 
 		return container;
 	}
@@ -103,6 +103,9 @@ public class DevToolsPlugin extends Plugin
 	@Inject
 	private SoundEffectOverlay soundEffectOverlay;
 
+	@Inject
+	private EventTimingOverlay eventTimingOverlay;
+
 	@Inject
 	private EventBus eventBus;
 
@@ -130,6 +133,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton widgetInspector;
 	private DevToolsButton varInspector;
 	private DevToolsButton soundEffects;
+	private DevToolsButton eventTimings;
 	private NavigationButton navButton;
 
 	@Provides
@@ -171,6 +175,7 @@ public class DevToolsPlugin extends Plugin
 		widgetInspector = new DevToolsButton("Widget Inspector");
 		varInspector = new DevToolsButton("Var Inspector");
 		soundEffects = new DevToolsButton("Sound Effects");
+		eventTimings = new DevToolsButton("Event Timings");
 
 		overlayManager.add(overlay);
 		overlayManager.add(locationOverlay);
@@ -179,6 +184,7 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.add(worldMapLocationOverlay);
 		overlayManager.add(mapRegionOverlay);
 		overlayManager.add(soundEffectOverlay);
+		overlayManager.add(eventTimingOverlay);
 
 		final DevToolsPanel panel = injector.getInstance(DevToolsPanel.class);
 
@@ -207,6 +213,8 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.remove(worldMapLocationOverlay);
 		overlayManager.remove(mapRegionOverlay);
 		overlayManager.remove(soundEffectOverlay);
+		overlayManager.remove(eventTimingOverlay);
+		eventBus.setTimingEnabled(false);
 		clientToolbar.removeNavigation(navButton);
 	}
 
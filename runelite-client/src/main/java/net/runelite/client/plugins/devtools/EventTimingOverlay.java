@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.ui.overlay.Overlay;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.PanelComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+
+class EventTimingOverlay extends Overlay
+{
+	private static final int MAX_LINES = 15;
+
+	private final EventBus eventBus;
+	private final DevToolsPlugin plugin;
+	private final PanelComponent panelComponent = new PanelComponent();
+
+	@Inject
+	EventTimingOverlay(EventBus eventBus, DevToolsPlugin plugin)
+	{
+		this.eventBus = eventBus;
+		this.plugin = plugin;
+		panelComponent.setPreferredSize(new Dimension(300, 0));
+		setPosition(OverlayPosition.TOP_LEFT);
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
+		final boolean active = plugin.getEventTimings().isActive();
+
+		if (eventBus.isTimingEnabled() != active)
+		{
+			eventBus.setTimingEnabled(active);
+		}
+
+		if (!active)
+		{
+			return null;
+		}
+
+		panelComponent.getChildren().clear();
+		panelComponent.getChildren().add(TitleComponent.builder()
+			.text("Event Timings (avg/max us)")
+			.build());
+
+		final List<EventBus.SubscriberTiming> timings = eventBus.getSubscriberTimings();
+
+		for (int i = 0; i < Math.min(MAX_LINES, timings.size()); i++)
+		{
+			final EventBus.SubscriberTiming timing = timings.get(i);
+
+			if (timing.getInvocations() == 0)
+			{
+				break;
+			}
+
+			panelComponent.getChildren().add(LineComponent.builder()
+				.left(timing.getSubscriber().getClass().getSimpleName() + "." + timing.getMethod().getName())
+				.right(timing.getAverageNanos() / 1000 + "/" + timing.getMaxNanos() / 1000)
+				.rightColor(Color.YELLOW)
+				.build());
+		}
+
+		return panelComponent.render(graphics);
+	}
+}
@@ -33,6 +33,7 @@ import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -51,6 +52,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
+import net.runelite.api.GameState;
 import net.runelite.api.InventoryID;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.ItemContainer;
@@ -60,6 +62,7 @@ import net.runelite.api.SpriteID;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.events.ChatMessage;
 import net.runelite.api.events.ConfigChanged;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.ItemContainerChanged;
 import net.runelite.api.events.WidgetLoaded;
 import net.runelite.api.widgets.WidgetID;
@@ -77,6 +80,7 @@ import net.runelite.client.game.ItemStack;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.task.Schedule;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.util.ImageUtil;
@@ -113,6 +117,9 @@ public class LootTrackerPlugin extends Plugin
 		13113, "Larran's small chest"
 	);
 
+	// Loot is submitted in batches once this many records are queued, or periodically
+	private static final int MAX_QUEUED_LOOT = 25;
+
 	@Inject
 	private ClientToolbar clientToolbar;
 
@@ -148,6 +155,8 @@ public class LootTrackerPlugin extends Plugin
 	@Getter(AccessLevel.PACKAGE)
 	private LootTrackerClient lootTrackerClient;
 
+	private final List<LootRecord> queuedLoots = new ArrayList<>();
+
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
 	{
 		final List<ItemStack> list = new ArrayList<>();
@@ -200,6 +209,7 @@ public class LootTrackerPlugin extends Plugin
 	@Subscribe
 	public void onSessionClose(SessionClose sessionClose)
 	{
+		submitLoot();
 		lootTrackerClient = null;
 	}
 
@@ -280,10 +290,20 @@ public class LootTrackerPlugin extends Plugin
 	@Override
 	protected void shutDown()
 	{
+		submitLoot();
 		clientToolbar.removeNavigation(navButton);
 		lootTrackerClient = null;
 	}
 
+	@Subscribe
+	public void onGameStateChanged(final GameStateChanged event)
+	{
+		if (event.getGameState() == GameState.LOGIN_SCREEN)
+		{
+			submitLoot();
+		}
+	}
+
 	@Subscribe
 	public void onNpcLootReceived(final NpcLootReceived npcLootReceived)
 	{
@@ -297,7 +317,7 @@ public class LootTrackerPlugin extends Plugin
 		if (lootTrackerClient != null && config.saveLoot())
 		{
 			LootRecord lootRecord = new LootRecord(name, LootRecordType.NPC, toGameItems(items), Instant.now());
-			lootTrackerClient.submit(lootRecord);
+			queueLoot(lootRecord);
 		}
 	}
 
@@ -314,7 +334,7 @@ public class LootTrackerPlugin extends Plugin
 		if (lootTrackerClient != null && config.saveLoot())
 		{
 			LootRecord lootRecord = new LootRecord(name, LootRecordType.PLAYER, toGameItems(items), Instant.now());
-			lootTrackerClient.submit(lootRecord);
+			queueLoot(lootRecord);
 		}
 	}
 
@@ -373,7 +393,7 @@ public class LootTrackerPlugin extends Plugin
 		if (lootTrackerClient != null && config.saveLoot())
 		{
 			LootRecord lootRecord = new LootRecord(eventType, LootRecordType.EVENT, toGameItems(items), Instant.now());
-			lootTrackerClient.submit(lootRecord);
+			queueLoot(lootRecord);
 		}
 	}
 
@@ -484,13 +504,62 @@ public class LootTrackerPlugin extends Plugin
 			if (lootTrackerClient != null && config.saveLoot())
 			{
 				LootRecord lootRecord = new LootRecord(chestType, LootRecordType.EVENT, toGameItems(items), Instant.now());
-				lootTrackerClient.submit(lootRecord);
+				queueLoot(lootRecord);
 			}
 
 			inventorySnapshot = null;
 		}
 	}
 
+	@Schedule(
+		period = 5,
+		unit = ChronoUnit.MINUTES,
+		asynchronous = true
+	)
+	public void submitLootTask()
+	{
+		submitLoot();
+	}
+
+	private void queueLoot(LootRecord lootRecord)
+	{
+		boolean full;
+		synchronized (queuedLoots)
+		{
+			queuedLoots.add(lootRecord);
+			full = queuedLoots.size() >= MAX_QUEUED_LOOT;
+		}
+
+		if (full)
+		{
+			submitLoot();
+		}
+	}
+
+	private void submitLoot()
+	{
+		List<LootRecord> copy;
+		synchronized (queuedLoots)
+		{
+			if (queuedLoots.isEmpty())
+			{
+				return;
+			}
+
+			copy = new ArrayList<>(queuedLoots);
+			queuedLoots.clear();
+		}
+
+		LootTrackerClient lootTrackerClient = this.lootTrackerClient;
+		if (lootTrackerClient == null || !config.saveLoot())
+		{
+			return;
+		}
+
+		log.debug("Submitting {} loot records", copy.size());
+		lootTrackerClient.submit(copy);
+	}
+
 	void toggleItem(String name, boolean ignore)
 	{
 		final Set<String> ignoredItemSet = new HashSet<>(ignoredItems);
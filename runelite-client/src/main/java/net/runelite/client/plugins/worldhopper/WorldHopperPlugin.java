@@ -38,6 +38,7 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -75,7 +76,8 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
-import net.runelite.client.plugins.worldhopper.ping.Ping;
+import net.runelite.client.plugins.worldhopper.ping.PingStats;
+import net.runelite.client.plugins.worldhopper.ping.WorldPinger;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.util.ExecutorServiceExceptionLogger;
@@ -145,6 +147,8 @@ public class WorldHopperPlugin extends Plugin
 	private int favoriteWorld1, favoriteWorld2;
 
 	private ScheduledFuture<?> worldResultFuture, pingFuture;
+	private final WorldPinger worldPinger = new WorldPinger();
+	private final Map<Integer, PingStats> pingStats = new ConcurrentHashMap<>();
 	private WorldResult worldResult;
 	private Instant lastFetch;
 	private boolean firstRun;
@@ -212,6 +216,7 @@ public class WorldHopperPlugin extends Plugin
 	{
 		pingFuture.cancel(true);
 		pingFuture = null;
+		pingStats.clear();
 
 		keyManager.unregisterKeyListener(previousKeyListener);
 		keyManager.unregisterKeyListener(nextKeyListener);
@@ -764,10 +769,26 @@ public class WorldHopperPlugin extends Plugin
 
 		Stopwatch stopwatch = Stopwatch.createStarted();
 
-		for (World world : worldResult.getWorlds())
+		try
+		{
+			worldPinger.ping(worldResult.getWorlds(), (world, ping) ->
+			{
+				PingStats stats = pingStats.computeIfAbsent(world.getId(), id -> new PingStats());
+				stats.add(ping);
+
+				int displayPing = stats.getPing();
+				SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), displayPing));
+			});
+		}
+		catch (IOException ex)
 		{
-			int ping = Ping.ping(world);
-			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
+			log.warn("error pinging worlds", ex);
+			return;
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			return;
 		}
 
 		stopwatch.stop();
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+/**
+ * Rolling latency statistics for a single world
+ */
+public class PingStats
+{
+	private static final int SAMPLES = 5;
+
+	private final int[] samples = new int[SAMPLES];
+	private int count;
+	private int next;
+	private int last = -1;
+
+	/**
+	 * Record a ping
+	 *
+	 * @param ping round trip time in milliseconds, or -1 if the world did not respond
+	 */
+	public synchronized void add(int ping)
+	{
+		last = ping;
+		if (ping < 0)
+		{
+			return;
+		}
+
+		samples[next] = ping;
+		next = (next + 1) % SAMPLES;
+		count = Math.min(count + 1, SAMPLES);
+	}
+
+	public synchronized int getLast()
+	{
+		return last;
+	}
+
+	/**
+	 * Get the average of the recent successful pings
+	 *
+	 * @return average ping, or -1 if there are none
+	 */
+	public synchronized int getAverage()
+	{
+		if (count == 0)
+		{
+			return -1;
+		}
+
+		int sum = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			sum += samples[i];
+		}
+		return sum / count;
+	}
+
+	/**
+	 * Get the ping to show for the world
+	 *
+	 * @return the average of the recent pings, or -1 if the last ping failed
+	 */
+	public synchronized int getPing()
+	{
+		return last < 0 ? -1 : getAverage();
+	}
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.OSType;
+import net.runelite.http.api.worlds.World;
+
+/**
+ * Pings many worlds at once. Outside of Windows this times non-blocking TCP
+ * connects on a single selector, with a bounded number of connects in flight,
+ * so pinging every world takes about as long as the slowest few pings.
+ */
+@Slf4j
+public class WorldPinger
+{
+	private static final int DEFAULT_MAX_IN_FLIGHT = 64;
+	private static final int DEFAULT_TIMEOUT = 2000;
+	private static final int PORT = 43594;
+
+	// IcmpSendEcho blocks, so only a few are sent at a time
+	private static final int ICMP_THREADS = 8;
+
+	public interface PingListener
+	{
+		/**
+		 * Called for each world as soon as its ping is known
+		 *
+		 * @param world world pinged
+		 * @param ping  round trip time in milliseconds, or -1 if the world did not respond
+		 */
+		void pinged(World world, int ping);
+	}
+
+	private final int maxInFlight;
+	private final int timeout;
+	private final int port;
+
+	public WorldPinger()
+	{
+		this(DEFAULT_MAX_IN_FLIGHT, DEFAULT_TIMEOUT, PORT);
+	}
+
+	WorldPinger(int maxInFlight, int timeout, int port)
+	{
+		this.maxInFlight = maxInFlight;
+		this.timeout = timeout;
+		this.port = port;
+	}
+
+	/**
+	 * Ping the given worlds, blocking until every world has responded or timed out
+	 *
+	 * @param worlds   worlds to ping
+	 * @param listener notified of each ping as it completes
+	 * @throws IOException          if the selector can't be opened
+	 * @throws InterruptedException if interrupted while pinging
+	 */
+	public void ping(Collection<World> worlds, PingListener listener) throws IOException, InterruptedException
+	{
+		switch (OSType.getOSType())
+		{
+			case Windows:
+				icmpPing(worlds, listener);
+				break;
+			default:
+				tcpPing(worlds, listener);
+				break;
+		}
+	}
+
+	private void icmpPing(Collection<World> worlds, PingListener listener) throws InterruptedException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(ICMP_THREADS);
+		try
+		{
+			List<Callable<Void>> tasks = new ArrayList<>(worlds.size());
+			for (World world : worlds)
+			{
+				tasks.add(() ->
+				{
+					listener.pinged(world, Ping.ping(world));
+					return null;
+				});
+			}
+			executor.invokeAll(tasks);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	void tcpPing(Collection<World> worlds, PingListener listener) throws IOException, InterruptedException
+	{
+		Iterator<World> pending = worlds.iterator();
+		// connects in flight, in the order they were started, so the oldest is the next to time out
+		Deque<Connect> inFlight = new ArrayDeque<>(maxInFlight);
+		long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+
+		try (Selector selector = Selector.open())
+		{
+			try
+			{
+				while (pending.hasNext() || !inFlight.isEmpty())
+				{
+					while (inFlight.size() < maxInFlight && pending.hasNext())
+					{
+						Connect connect = connect(selector, pending.next(), listener);
+						if (connect != null)
+						{
+							inFlight.add(connect);
+						}
+					}
+
+					if (inFlight.isEmpty())
+					{
+						continue;
+					}
+
+					long wait = inFlight.peek().start + timeoutNanos - System.nanoTime();
+					selector.select(Math.max(1L, TimeUnit.NANOSECONDS.toMillis(wait)));
+
+					if (Thread.interrupted())
+					{
+						throw new InterruptedException();
+					}
+
+					long now = System.nanoTime();
+					for (SelectionKey key : selector.selectedKeys())
+					{
+						Connect connect = (Connect) key.attachment();
+						int ping;
+						try
+						{
+							connect.channel.finishConnect();
+							ping = (int) TimeUnit.NANOSECONDS.toMillis(now - connect.start);
+						}
+						catch (IOException ex)
+						{
+							log.debug("error pinging world {}", connect.world.getId(), ex);
+							ping = -1;
+						}
+						connect.finish(listener, ping);
+					}
+					selector.selectedKeys().clear();
+
+					// discard finished connects and time out the oldest ones
+					for (Iterator<Connect> it = inFlight.iterator(); it.hasNext(); )
+					{
+						Connect connect = it.next();
+						if (!connect.done && now - connect.start >= timeoutNanos)
+						{
+							connect.finish(listener, -1);
+						}
+						if (connect.done)
+						{
+							it.remove();
+						}
+					}
+				}
+			}
+			finally
+			{
+				for (Connect connect : inFlight)
+				{
+					connect.close();
+				}
+			}
+		}
+	}
+
+	private Connect connect(Selector selector, World world, PingListener listener)
+	{
+		SocketChannel channel = null;
+		try
+		{
+			InetAddress inetAddress = InetAddress.getByName(world.getAddress());
+
+			channel = SocketChannel.open();
+			channel.configureBlocking(false);
+
+			Connect connect = new Connect(world, channel, System.nanoTime());
+			if (channel.connect(new InetSocketAddress(inetAddress, port)))
+			{
+				connect.finish(listener, 0);
+				return null;
+			}
+
+			channel.register(selector, SelectionKey.OP_CONNECT, connect);
+			return connect;
+		}
+		catch (IOException ex)
+		{
+			log.debug("error pinging world {}", world.getId(), ex);
+
+			if (channel != null)
+			{
+				try
+				{
+					channel.close();
+				}
+				catch (IOException ignored)
+				{
+				}
+			}
+
+			listener.pinged(world, -1);
+			return null;
+		}
+	}
+
+	private static class Connect
+	{
+		private final World world;
+		private final SocketChannel channel;
+		private final long start;
+		private boolean done;
+
+		private Connect(World world, SocketChannel channel, long start)
+		{
+			this.world = world;
+			this.channel = channel;
+			this.start = start;
+		}
+
+		private void finish(PingListener listener, int ping)
+		{
+			done = true;
+			close();
+			listener.pinged(world, ping);
+		}
+
+		private void close()
+		{
+			try
+			{
+				// also cancels the selection key
+				channel.close();
+			}
+			catch (IOException ex)
+			{
+				log.debug("error closing ping connection to world {} ({})", world.getId(), world.getAddress(), ex);
+			}
+		}
+	}
+}
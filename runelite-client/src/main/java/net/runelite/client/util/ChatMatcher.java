@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Value;
+
+/**
+ * Finds a set of words and patterns in chat messages with a single scan of the message.
+ * <p>
+ * Words are matched case-insensitively with an Aho-Corasick automaton, and only the
+ * patterns which really need a regular expression are run separately. Jagex tags in the
+ * message are skipped when matching words, except for the {@code <lt>} and {@code <gt>}
+ * escapes, which match {@code <} and {@code >}.
+ * <p>
+ * When several entries match at the same position, the one added first wins, like in a
+ * regex alternation. Matches never overlap.
+ */
+public class ChatMatcher
+{
+	private static final Pattern REGEX_METACHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+
+	@Value
+	public static class Match
+	{
+		/**
+		 * index of the first character of the match in the message
+		 */
+		private final int start;
+		/**
+		 * index after the last character of the match in the message
+		 */
+		private final int end;
+	}
+
+	@Value
+	private static class Candidate
+	{
+		private final int start;
+		private final int end;
+		private final int priority;
+	}
+
+	private static class Node
+	{
+		private final Map<Character, Node> children = new HashMap<>();
+		private Node fail;
+		// nearest node on the failure chain which ends a word
+		private Node output;
+		// index of the word ending at this node, or -1
+		private int word = -1;
+	}
+
+	private final Node root = new Node();
+	private final int[] wordLengths;
+	private final List<Pattern> patterns;
+	private final boolean wholeWords;
+
+	/**
+	 * Create a matcher
+	 *
+	 * @param words      literal words to match, case-insensitively
+	 * @param patterns   regular expressions to match
+	 * @param wholeWords if matches must start and end on a word boundary or whitespace
+	 */
+	public ChatMatcher(Collection<String> words, Collection<Pattern> patterns, boolean wholeWords)
+	{
+		this.wordLengths = new int[words.size()];
+		this.patterns = new ArrayList<>(patterns);
+		this.wholeWords = wholeWords;
+
+		int index = 0;
+		for (String word : words)
+		{
+			wordLengths[index] = word.length();
+			if (!word.isEmpty())
+			{
+				add(word, index);
+			}
+			++index;
+		}
+
+		buildFailureLinks();
+	}
+
+	/**
+	 * Check if a regular expression matches only itself, so that it can be matched as a word
+	 *
+	 * @param regex
+	 * @return
+	 */
+	public static boolean isLiteral(String regex)
+	{
+		return !REGEX_METACHARACTERS.matcher(regex).find();
+	}
+
+	public boolean matches(String text)
+	{
+		return !findAll(text).isEmpty();
+	}
+
+	/**
+	 * Replace each match in the text
+	 *
+	 * @param text        message to search
+	 * @param replacement maps the matched part of the message to its replacement
+	 * @return the message with the matches replaced, or the original message if nothing matched
+	 */
+	public String replaceAll(String text, Function<String, String> replacement)
+	{
+		return replaceAll(text, findAll(text), replacement);
+	}
+
+	/**
+	 * Replace matches previously found in the text
+	 *
+	 * @param text        message the matches were found in
+	 * @param matches     matches from {@link #findAll(String)}
+	 * @param replacement maps the matched part of the message to its replacement
+	 * @return the message with the matches replaced, or the original message if there are no matches
+	 */
+	public static String replaceAll(String text, List<Match> matches, Function<String, String> replacement)
+	{
+		if (matches.isEmpty())
+		{
+			return text;
+		}
+
+		StringBuilder sb = new StringBuilder(text.length() + matches.size() * 16);
+		int last = 0;
+		for (Match match : matches)
+		{
+			sb.append(text, last, match.getStart())
+				.append(replacement.apply(text.substring(match.getStart(), match.getEnd())));
+			last = match.getEnd();
+		}
+		sb.append(text, last, text.length());
+		return sb.toString();
+	}
+
+	/**
+	 * Find all of the matches in a message
+	 *
+	 * @param text message to search
+	 * @return non-overlapping matches, in order
+	 */
+	public List<Match> findAll(String text)
+	{
+		List<Candidate> candidates = new ArrayList<>();
+		scanWords(text, candidates);
+
+		for (int i = 0; i < patterns.size(); ++i)
+		{
+			Matcher matcher = patterns.get(i).matcher(text);
+			while (matcher.find())
+			{
+				if (matcher.end() > matcher.start())
+				{
+					candidates.add(new Candidate(matcher.start(), matcher.end(), wordLengths.length + i));
+				}
+			}
+		}
+
+		if (candidates.isEmpty())
+		{
+			return new ArrayList<>(0);
+		}
+
+		candidates.sort(Comparator.comparingInt(Candidate::getStart).thenComparingInt(Candidate::getPriority));
+
+		List<Match> matches = new ArrayList<>();
+		int pos = 0;
+		for (Candidate candidate : candidates)
+		{
+			if (candidate.getStart() >= pos)
+			{
+				matches.add(new Match(candidate.getStart(), candidate.getEnd()));
+				pos = candidate.getEnd();
+			}
+		}
+		return matches;
+	}
+
+	private void scanWords(String text, List<Candidate> candidates)
+	{
+		if (root.children.isEmpty())
+		{
+			return;
+		}
+
+		final int length = text.length();
+		// where each character the automaton has seen since the last tag starts in the text
+		final int[] charStart = new int[length];
+		final int[] charEnd = new int[length];
+		int chars = 0;
+
+		Node state = root;
+		int i = 0;
+		while (i < length)
+		{
+			char c = text.charAt(i);
+			int start = i;
+			int end = i + 1;
+
+			if (c == '<')
+			{
+				int close = text.indexOf('>', i + 1);
+				if (close != -1)
+				{
+					end = close + 1;
+					if (close == i + 3 && text.startsWith("lt", i + 1))
+					{
+						c = '<';
+					}
+					else if (close == i + 3 && text.startsWith("gt", i + 1))
+					{
+						c = '>';
+					}
+					else
+					{
+						// words don't match across tags
+						state = root;
+						chars = 0;
+						i = end;
+						continue;
+					}
+				}
+			}
+
+			charStart[chars] = start;
+			charEnd[chars] = end;
+			++chars;
+			i = end;
+
+			c = Character.toLowerCase(c);
+			while (state != root && !state.children.containsKey(c))
+			{
+				state = state.fail;
+			}
+			state = state.children.getOrDefault(c, root);
+
+			for (Node node = state.word != -1 ? state : state.output; node != null; node = node.output)
+			{
+				int matchStart = charStart[chars - wordLengths[node.word]];
+				int matchEnd = charEnd[chars - 1];
+
+				if (!wholeWords || isWordStart(text, matchStart) && isWordEnd(text, matchEnd))
+				{
+					candidates.add(new Candidate(matchStart, matchEnd, node.word));
+				}
+			}
+		}
+	}
+
+	private void add(String word, int index)
+	{
+		Node node = root;
+		for (int i = 0; i < word.length(); ++i)
+		{
+			node = node.children.computeIfAbsent(Character.toLowerCase(word.charAt(i)), k -> new Node());
+		}
+
+		// keep the first of duplicate words
+		if (node.word == -1)
+		{
+			node.word = index;
+		}
+	}
+
+	private void buildFailureLinks()
+	{
+		Queue<Node> queue = new ArrayDeque<>();
+		for (Node child : root.children.values())
+		{
+			child.fail = root;
+			queue.add(child);
+		}
+
+		while (!queue.isEmpty())
+		{
+			Node node = queue.poll();
+			for (Map.Entry<Character, Node> entry : node.children.entrySet())
+			{
+				char c = entry.getKey();
+				Node child = entry.getValue();
+
+				Node fail = node.fail;
+				while (fail != root && !fail.children.containsKey(c))
+				{
+					fail = fail.fail;
+				}
+				Node target = fail.children.get(c);
+				child.fail = target != null && target != child ? target : root;
+				child.output = child.fail.word != -1 ? child.fail : child.fail.output;
+
+				queue.add(child);
+			}
+		}
+	}
+
+	// the same as (?:\b|(?<=\s)) before the match
+	private static boolean isWordStart(String text, int index)
+	{
+		return isBoundary(text, index) || index > 0 && Character.isWhitespace(text.charAt(index - 1));
+	}
+
+	// the same as (?:\b|(?=\s)) after the match
+	private static boolean isWordEnd(String text, int index)
+	{
+		return isBoundary(text, index) || index < text.length() && Character.isWhitespace(text.charAt(index));
+	}
+
+	private static boolean isBoundary(String text, int index)
+	{
+		boolean before = index > 0 && isWordChar(text.charAt(index - 1));
+		boolean after = index < text.length() && isWordChar(text.charAt(index));
+		return before != after;
+	}
+
+	private static boolean isWordChar(char c)
+	{
+		return Character.isLetterOrDigit(c) || c == '_';
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.eventbus.EventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Cost of reading config values through a config proxy. The uncached
+ * benchmarks read and parse the stored string on every call, which is
+ * what every getter did before values were cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigInvocationHandlerBenchmark
+{
+	@ConfigGroup("benchmark")
+	public interface BenchmarkConfig
+	{
+		@ConfigItem(
+			keyName = "color",
+			name = "Color",
+			description = ""
+		)
+		default Color color()
+		{
+			return Color.RED;
+		}
+
+		@ConfigItem(
+			keyName = "size",
+			name = "Size",
+			description = ""
+		)
+		default Dimension size()
+		{
+			return new Dimension(1, 1);
+		}
+
+		@ConfigItem(
+			keyName = "unset",
+			name = "Unset",
+			description = ""
+		)
+		default int unset()
+		{
+			return 5;
+		}
+	}
+
+	private ConfigManager manager;
+	private BenchmarkConfig config;
+
+	@Setup
+	public void setup()
+	{
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+		manager = new ConfigManager(executor);
+		// stop the periodic sync so nothing is written to the settings file
+		executor.shutdownNow();
+		manager.eventBus = new EventBus();
+		manager.setConfiguration("benchmark", "color", Color.BLUE);
+		manager.setConfiguration("benchmark", "size", new Dimension(50, 60));
+		config = manager.getConfig(BenchmarkConfig.class);
+	}
+
+	@Benchmark
+	public Color cachedColor()
+	{
+		return config.color();
+	}
+
+	@Benchmark
+	public Color uncachedColor()
+	{
+		return manager.getConfiguration("benchmark", "color", Color.class);
+	}
+
+	@Benchmark
+	public int cachedDefault()
+	{
+		return config.unset();
+	}
+
+	@Benchmark
+	public Dimension uncacheableDimension()
+	{
+		// mutable types are parsed on every call
+		return config.size();
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ConfigInvocationHandlerBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
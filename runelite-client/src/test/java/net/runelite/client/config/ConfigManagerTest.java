@@ -109,4 +109,28 @@ public class ConfigManagerTest
 		ConfigDescriptor descriptor = manager.getConfigDescriptor(conf);
 		Assert.assertEquals(1, descriptor.getItems().size());
 	}
+
+	@Test
+	public void testConfigChangeInvalidatesValue() throws IOException
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		Assert.assertEquals("default", conf.key());
+
+		manager.setConfiguration("test", "key", "moo");
+		Assert.assertEquals("moo", conf.key());
+
+		manager.unsetConfiguration("test", "key");
+		Assert.assertEquals("default", conf.key());
+	}
+
+	@Test
+	public void testProxiesShareValues() throws IOException
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		TestConfig conf2 = manager.getConfig(TestConfig.class);
+		Assert.assertEquals("default", conf2.key());
+
+		conf.key("new value");
+		Assert.assertEquals("new value", conf2.key());
+	}
 }
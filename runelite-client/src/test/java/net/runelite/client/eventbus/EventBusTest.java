@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	public static class TestEvent
+	{
+	}
+
+	public static class OtherEvent
+	{
+	}
+
+	private static class TestSubscriber
+	{
+		private final List<String> log;
+		private final String name;
+
+		TestSubscriber(List<String> log, String name)
+		{
+			this.log = log;
+			this.name = name;
+		}
+
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			log.add(name);
+		}
+	}
+
+	private static class OtherSubscriber
+	{
+		private int count;
+
+		@Subscribe
+		public void onOtherEvent(OtherEvent event)
+		{
+			count++;
+		}
+	}
+
+	@Test
+	public void testOrderPreservedAfterUnregister()
+	{
+		final List<String> log = new ArrayList<>();
+		final EventBus eventBus = new EventBus();
+		final TestSubscriber a = new TestSubscriber(log, "a");
+		final TestSubscriber b = new TestSubscriber(log, "b");
+		final TestSubscriber c = new TestSubscriber(log, "c");
+
+		eventBus.register(a);
+		eventBus.register(b);
+		eventBus.register(c);
+		eventBus.unregister(b);
+		eventBus.post(new TestEvent());
+
+		assertEquals(2, log.size());
+		assertEquals("a", log.get(0));
+		assertEquals("c", log.get(1));
+
+		eventBus.unregister(a);
+		eventBus.unregister(c);
+		eventBus.post(new TestEvent());
+
+		assertEquals(2, log.size());
+	}
+
+	@Test
+	public void testDispatchByClass()
+	{
+		final List<String> log = new ArrayList<>();
+		final EventBus eventBus = new EventBus();
+		final OtherSubscriber other = new OtherSubscriber();
+
+		eventBus.register(new TestSubscriber(log, "a"));
+		eventBus.register(other);
+		eventBus.post(new OtherEvent());
+		eventBus.post(new OtherEvent());
+		eventBus.post(new Object());
+
+		assertTrue(log.isEmpty());
+		assertEquals(2, other.count);
+	}
+
+	@Test
+	public void testTiming()
+	{
+		final EventBus eventBus = new EventBus();
+		final OtherSubscriber other = new OtherSubscriber();
+		eventBus.register(other);
+
+		eventBus.post(new OtherEvent());
+		assertEquals(0, eventBus.getSubscriberTimings().get(0).getInvocations());
+
+		eventBus.setTimingEnabled(true);
+		eventBus.post(new OtherEvent());
+		eventBus.post(new OtherEvent());
+
+		final List<EventBus.SubscriberTiming> timings = eventBus.getSubscriberTimings();
+		assertEquals(1, timings.size());
+		assertEquals(OtherEvent.class, timings.get(0).getEventType());
+		assertEquals(other, timings.get(0).getSubscriber());
+		assertEquals(2, timings.get(0).getInvocations());
+
+		eventBus.setTimingEnabled(false);
+		eventBus.post(new OtherEvent());
+		assertEquals(2, eventBus.getSubscriberTimings().get(0).getInvocations());
+
+		eventBus.setTimingEnabled(true);
+		assertEquals(0, eventBus.getSubscriberTimings().get(0).getInvocations());
+		assertEquals(4, other.count);
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.runelite.http.api.worlds.World;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WorldPingerTest
+{
+	@Test
+	public void testPing() throws IOException, InterruptedException
+	{
+		try (ServerSocket serverSocket = new ServerSocket(0, 512, InetAddress.getLoopbackAddress()))
+		{
+			List<World> worlds = worlds(100);
+			Map<Integer, Integer> pings = new ConcurrentHashMap<>();
+
+			WorldPinger pinger = new WorldPinger(8, 2000, serverSocket.getLocalPort());
+			pinger.tcpPing(worlds, (world, ping) -> assertEquals(null, pings.put(world.getId(), ping)));
+
+			assertEquals(worlds.size(), pings.size());
+			for (int ping : pings.values())
+			{
+				assertTrue(ping >= 0);
+			}
+		}
+	}
+
+	@Test
+	public void testRefused() throws IOException, InterruptedException
+	{
+		int port;
+		try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress()))
+		{
+			port = serverSocket.getLocalPort();
+		}
+
+		List<World> worlds = worlds(10);
+		Map<Integer, Integer> pings = new ConcurrentHashMap<>();
+
+		WorldPinger pinger = new WorldPinger(4, 2000, port);
+		pinger.tcpPing(worlds, (world, ping) -> pings.put(world.getId(), ping));
+
+		assertEquals(worlds.size(), pings.size());
+		for (int ping : pings.values())
+		{
+			assertEquals(-1, ping);
+		}
+	}
+
+	@Test
+	public void testStats()
+	{
+		PingStats stats = new PingStats();
+		assertEquals(-1, stats.getPing());
+
+		stats.add(10);
+		stats.add(20);
+		assertEquals(15, stats.getPing());
+
+		stats.add(-1);
+		assertEquals(-1, stats.getPing());
+		assertEquals(15, stats.getAverage());
+
+		for (int i = 0; i < 5; ++i)
+		{
+			stats.add(30);
+		}
+		assertEquals(30, stats.getPing());
+	}
+
+	private static List<World> worlds(int count)
+	{
+		List<World> worlds = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i)
+		{
+			worlds.add(World.builder()
+				.id(301 + i)
+				.address(InetAddress.getLoopbackAddress().getHostAddress())
+				.build());
+		}
+		return worlds;
+	}
+}
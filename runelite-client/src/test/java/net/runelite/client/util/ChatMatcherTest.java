@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ChatMatcherTest
+{
+	private static final Function<String, String> CENSOR = s -> new String(new char[s.length()]).replace('\0', '*');
+	private static final Function<String, String> HIGHLIGHT = s -> "<colHIGHLIGHT>" + s + "<colNORMAL>";
+
+	@Test
+	public void testWords()
+	{
+		ChatMatcher matcher = new ChatMatcher(Arrays.asList("hat", "HE"), Collections.emptyList(), false);
+		assertEquals("w***s up", matcher.replaceAll("whats up", CENSOR));
+		assertEquals("t** ***", matcher.replaceAll("the HAT", CENSOR));
+		assertFalse(matcher.matches("nothing to see"));
+	}
+
+	@Test
+	public void testPatterns()
+	{
+		ChatMatcher matcher = new ChatMatcher(Collections.singletonList("73"),
+			Collections.singletonList(Pattern.compile("5[0-9]x2", Pattern.CASE_INSENSITIVE)), false);
+		assertTrue(matcher.matches("55X2 Dicing | Trusted Ranks | Huge Pay Outs!"));
+		assertEquals("** isn't funny", matcher.replaceAll("73 isn't funny", CENSOR));
+	}
+
+	@Test
+	public void testFirstEntryWins()
+	{
+		ChatMatcher matcher = new ChatMatcher(Arrays.asList("Deathbeam", "Deathbeam OSRS", "test"), Collections.emptyList(), true);
+		assertEquals("<colHIGHLIGHT>Deathbeam<colNORMAL>, <colHIGHLIGHT>Deathbeam<colNORMAL> OSRS",
+			matcher.replaceAll("Deathbeam, Deathbeam OSRS", HIGHLIGHT));
+	}
+
+	@Test
+	public void testWholeWords()
+	{
+		ChatMatcher matcher = new ChatMatcher(Collections.singletonList("test"), Collections.emptyList(), true);
+		assertEquals("foo <colHIGHLIGHT>test<colNORMAL>. bar", matcher.replaceAll("foo test. bar", HIGHLIGHT));
+		assertFalse(matcher.matches("testing"));
+	}
+
+	@Test
+	public void testEscapedTags()
+	{
+		ChatMatcher matcher = new ChatMatcher(Collections.singletonList("<test>"), Collections.emptyList(), true);
+		assertEquals("test <colHIGHLIGHT><lt>test<gt><colNORMAL> test", matcher.replaceAll("test <lt>test<gt> test", HIGHLIGHT));
+	}
+
+	@Test
+	public void testSkipsTags()
+	{
+		ChatMatcher matcher = new ChatMatcher(Collections.singletonList("red"), Collections.emptyList(), false);
+		assertFalse(matcher.matches("<col=ff0000>blue"));
+		assertTrue(matcher.matches("<col=ff0000>red"));
+	}
+
+	@Test
+	public void testIsLiteral()
+	{
+		assertTrue(ChatMatcher.isLiteral("73"));
+		assertFalse(ChatMatcher.isLiteral("5[0-9]x2"));
+		assertFalse(ChatMatcher.isLiteral(")"));
+	}
+}
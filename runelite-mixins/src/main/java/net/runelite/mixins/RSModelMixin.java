@@ -29,14 +29,13 @@ import java.util.ArrayList;
 import java.util.List;
 import net.runelite.api.Model;
 import net.runelite.api.Perspective;
-import net.runelite.api.Point;
 import net.runelite.api.mixins.Copy;
 import net.runelite.api.mixins.Inject;
 import net.runelite.api.mixins.MethodHook;
 import net.runelite.api.mixins.Mixin;
 import net.runelite.api.mixins.Replace;
 import net.runelite.api.mixins.Shadow;
-import net.runelite.api.model.Jarvis;
+import net.runelite.api.model.MonotoneChain;
 import net.runelite.api.model.Triangle;
 import net.runelite.api.model.Vertex;
 import net.runelite.rs.api.RSClient;
@@ -66,6 +65,18 @@ public abstract class RSModelMixin implements RSModel
 	@Inject
 	private float[][] rl$faceTextureVCoordinates;
 
+	@Inject
+	private static final int[] rl$hullXs = new int[4700];
+
+	@Inject
+	private static final int[] rl$hullYs = new int[4700];
+
+	@Inject
+	private static final long[] rl$hullPoints = new long[4700];
+
+	@Inject
+	private static final long[] rl$hull = new long[4701];
+
 	@MethodHook(value = "<init>", end = true)
 	@Inject
 	public void rl$init(RSModel[] models, int length)
@@ -324,45 +335,44 @@ public abstract class RSModelMixin implements RSModel
 	@Inject
 	public Polygon getConvexHull(int localX, int localY, int orientation, int tileHeight)
 	{
-		List<Vertex> vertices = getVertices();
+		final int vertexCount = getVerticesCount();
 
-		// rotate vertices
-		for (int i = 0; i < vertices.size(); ++i)
-		{
-			Vertex v = vertices.get(i);
-			vertices.set(i, v.rotate(orientation));
-		}
+		// The scratch buffers are sized for the largest models the client can hold and are
+		// only touched from the client thread
+		final boolean fits = vertexCount <= rl$hullPoints.length;
+		final int[] x2d = fits ? rl$hullXs : new int[vertexCount];
+		final int[] y2d = fits ? rl$hullYs : new int[vertexCount];
+		final long[] points = fits ? rl$hullPoints : new long[vertexCount];
+		final long[] hull = fits ? rl$hull : new long[vertexCount + 1];
 
-		List<Point> points = new ArrayList<Point>();
+		Perspective.modelToCanvas(client, vertexCount, localX, localY, tileHeight, orientation,
+			getVerticesX(), getVerticesY(), getVerticesZ(), x2d, y2d);
 
-		for (Vertex v : vertices)
+		int count = 0;
+		for (int i = 0; i < vertexCount; ++i)
 		{
-			// Compute canvas location of vertex
-			Point p = Perspective.localToCanvas(client,
-				localX - v.getX(),
-				localY - v.getZ(),
-				tileHeight + v.getY());
-			if (p != null)
+			if (x2d[i] != Integer.MIN_VALUE)
 			{
-				points.add(p);
+				points[count++] = MonotoneChain.pack(x2d[i], y2d[i]);
 			}
 		}
 
-		// Run Jarvis march algorithm
-		points = Jarvis.convexHull(points);
-		if (points == null)
+		final int hullSize = MonotoneChain.convexHull(points, count, hull);
+		if (hullSize < 0)
 		{
 			return null;
 		}
 
 		// Convert to a polygon
-		Polygon p = new Polygon();
-		for (Point point : points)
+		final int[] xs = new int[hullSize];
+		final int[] ys = new int[hullSize];
+		for (int i = 0; i < hullSize; ++i)
 		{
-			p.addPoint(point.getX(), point.getY());
+			xs[i] = MonotoneChain.unpackX(hull[i]);
+			ys[i] = MonotoneChain.unpackY(hull[i]);
 		}
 
-		return p;
+		return new Polygon(xs, ys, hullSize);
 	}
 
 	@Inject